@@ -0,0 +1,179 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2025 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.html2pdf.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+/**
+ * The HTML documents the benchmarks are run on: a curated subset of the test fixtures of pdfHTML,
+ * which cover the typical kinds of content, and synthetic documents stressing a single part of the pipeline.
+ * <p>
+ * The fixtures are read from the {@code src/test/resources} folder of pdfHTML. The folder can be changed
+ * with the {@value #RESOURCES_PROPERTY} system property.
+ */
+public enum BenchmarkInput {
+    /**
+     * A short document with a few paragraphs.
+     */
+    SIMPLE("HtmlConverterTest/simple.html"),
+
+    /**
+     * A long table with a tagged structure.
+     */
+    TABLE("element/TableTest/tagsFlushingErrorWhenConvertedFromHtml.html"),
+
+    /**
+     * Floats, images and tables.
+     */
+    FLOATS("css/FloatTest/floatImageTableTest.html"),
+
+    /**
+     * Headings used to build the outlines.
+     */
+    OUTLINES("attach/impl/OutlineHandlerTest/htmlForClassBasedOutline.html"),
+
+    /**
+     * Page margin boxes with page counters.
+     */
+    PAGE_COUNTERS("css/CounterTest/page_counter03.html"),
+
+    /**
+     * Form fields in page headers and footers.
+     */
+    FORMS("element/FormTest/textFieldHeadersFooters.html"),
+
+    /**
+     * A table of {@value #LONG_TABLE_ROWS} rows.
+     */
+    SYNTHETIC_LONG_TABLE(null),
+
+    /**
+     * {@value #NESTING_DEPTH} nested blocks.
+     */
+    SYNTHETIC_DEEP_NESTING(null),
+
+    /**
+     * {@value #CSS_RULES} class rules applied to as many elements.
+     */
+    SYNTHETIC_HEAVY_CSS(null);
+
+    /**
+     * The system property which defines the folder of the test fixtures.
+     */
+    public static final String RESOURCES_PROPERTY = "pdfhtml.benchmark.resources";
+
+    private static final String DEFAULT_RESOURCES = "../src/test/resources/com/itextpdf/html2pdf/";
+
+    private static final int LONG_TABLE_ROWS = 2000;
+
+    private static final int NESTING_DEPTH = 200;
+
+    private static final int CSS_RULES = 500;
+
+    private final String fixture;
+
+    BenchmarkInput(String fixture) {
+        this.fixture = fixture;
+    }
+
+    /**
+     * Reads or generates the HTML of the input.
+     *
+     * @return the HTML source
+     * @throws IOException if the fixture can't be read
+     */
+    public String getHtml() throws IOException {
+        switch (this) {
+            case SYNTHETIC_LONG_TABLE:
+                return generateLongTable();
+            case SYNTHETIC_DEEP_NESTING:
+                return generateDeepNesting();
+            case SYNTHETIC_HEAVY_CSS:
+                return generateHeavyCss();
+            default:
+                return new String(Files.readAllBytes(getFixtureFile().toPath()), StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Gets the base URI which the resources of the input are resolved against.
+     *
+     * @return the base URI
+     */
+    public String getBaseUri() {
+        File folder = fixture == null ? getResourcesFolder() : getFixtureFile().getParentFile();
+        return folder.getAbsoluteFile().toURI().toString();
+    }
+
+    private File getFixtureFile() {
+        return new File(getResourcesFolder(), fixture);
+    }
+
+    private static File getResourcesFolder() {
+        return new File(System.getProperty(RESOURCES_PROPERTY, DEFAULT_RESOURCES));
+    }
+
+    private static String generateLongTable() {
+        StringBuilder html = new StringBuilder("<html><head><style>"
+                + "td { border: 1px solid gray; padding: 2px; } th { background: #ddd; }"
+                + "</style></head><body><table><thead><tr><th>Id</th><th>Name</th><th>Amount</th><th>Note</th>"
+                + "</tr></thead><tbody>");
+        for (int i = 0; i < LONG_TABLE_ROWS; i++) {
+            html.append("<tr><td>").append(i).append("</td><td>Item ").append(i)
+                    .append("</td><td>").append(i * 17 % 1000).append(".00</td><td>Some longer text of row ")
+                    .append(i).append("</td></tr>");
+        }
+        return html.append("</tbody></table></body></html>").toString();
+    }
+
+    private static String generateDeepNesting() {
+        StringBuilder html = new StringBuilder("<html><head><style>"
+                + "div { margin-left: 1px; border-left: 1px solid gray; } span { font-weight: bold; }"
+                + "</style></head><body>");
+        for (int i = 0; i < NESTING_DEPTH; i++) {
+            html.append("<div><span>Level ").append(i).append("</span>");
+        }
+        for (int i = 0; i < NESTING_DEPTH; i++) {
+            html.append("</div>");
+        }
+        return html.append("</body></html>").toString();
+    }
+
+    private static String generateHeavyCss() {
+        StringBuilder html = new StringBuilder("<html><head><style>");
+        for (int i = 0; i < CSS_RULES; i++) {
+            html.append("div.c").append(i).append(" > p:first-child { color: #").append(String.format("%06x", i * 997))
+                    .append("; margin: ").append(i % 7).append("px; }\n")
+                    .append("body div p.c").append(i).append(" { font-size: ").append(8 + i % 6).append("pt; }\n");
+        }
+        html.append("</style></head><body>");
+        for (int i = 0; i < CSS_RULES; i++) {
+            html.append("<div class='c").append(i).append("'><p>Paragraph ").append(i)
+                    .append("</p><p class='c").append(i).append("'>Styled paragraph</p></div>");
+        }
+        return html.append("</body></html>").toString();
+    }
+}
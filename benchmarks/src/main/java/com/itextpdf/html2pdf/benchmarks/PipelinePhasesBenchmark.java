@@ -0,0 +1,141 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2025 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.html2pdf.benchmarks;
+
+import com.itextpdf.html2pdf.ConverterProperties;
+import com.itextpdf.html2pdf.attach.ProcessorContext;
+import com.itextpdf.html2pdf.attach.impl.DefaultHtmlProcessor;
+import com.itextpdf.html2pdf.css.resolve.DefaultCssResolver;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfWriter;
+import com.itextpdf.layout.Document;
+import com.itextpdf.layout.element.IElement;
+import com.itextpdf.styledxmlparser.css.resolve.AbstractCssContext;
+import com.itextpdf.styledxmlparser.node.IDocumentNode;
+import com.itextpdf.styledxmlparser.node.INode;
+import com.itextpdf.styledxmlparser.node.IStylesContainer;
+import com.itextpdf.styledxmlparser.node.impl.jsoup.JsoupHtmlParser;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks of the separate phases of the conversion. The HTML is parsed before each invocation,
+ * so parsing isn't measured and every invocation works on a fresh DOM.
+ * <p>
+ * The phases are nested: {@link #processElements()} includes the style resolution measured by
+ * {@link #resolveStyles(Blackhole)}, and {@link #processDocument()} additionally includes the layout
+ * performed by {@link com.itextpdf.html2pdf.attach.impl.layout.HtmlDocumentRenderer}. The cost of
+ * a phase is the difference between the results of the consecutive benchmarks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PipelinePhasesBenchmark {
+
+    @Param
+    public BenchmarkInput input;
+
+    private String html;
+
+    private ConverterProperties properties;
+
+    private IDocumentNode documentNode;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        html = input.getHtml();
+        properties = new ConverterProperties().setBaseUri(input.getBaseUri());
+    }
+
+    @Setup(Level.Invocation)
+    public void parse() {
+        documentNode = new JsoupHtmlParser().parse(html);
+    }
+
+    /**
+     * Collects the style sheets and resolves the styles of every element in document order,
+     * as {@link DefaultHtmlProcessor} does.
+     *
+     * @param blackhole the blackhole consuming the resolved styles
+     */
+    @Benchmark
+    public void resolveStyles(Blackhole blackhole) {
+        ProcessorContext context = new ProcessorContext(properties);
+        DefaultCssResolver cssResolver = new DefaultCssResolver(documentNode, context);
+        resolveStyles(documentNode, cssResolver, context.getCssContext(), blackhole);
+    }
+
+    /**
+     * Runs {@link DefaultHtmlProcessor} traversal which resolves the styles and creates the layout elements.
+     *
+     * @return the layout elements
+     */
+    @Benchmark
+    public List<IElement> processElements() {
+        return new DefaultHtmlProcessor(properties).processElements(documentNode);
+    }
+
+    /**
+     * Runs {@link DefaultHtmlProcessor} traversal and lays out the elements into a PDF document.
+     *
+     * @return the size of the PDF document
+     */
+    @Benchmark
+    public int processDocument() {
+        ByteArrayOutputStream pdfStream = new ByteArrayOutputStream();
+        PdfDocument pdfDocument = new PdfDocument(new PdfWriter(pdfStream));
+        Document document = new DefaultHtmlProcessor(properties).processDocument(documentNode, pdfDocument);
+        document.close();
+        return pdfStream.size();
+    }
+
+    private static void resolveStyles(INode node, DefaultCssResolver cssResolver, AbstractCssContext cssContext,
+            Blackhole blackhole) {
+        if (node instanceof IStylesContainer) {
+            ((IStylesContainer) node).setStyles(cssResolver.resolveStyles(node, cssContext));
+            blackhole.consume(((IStylesContainer) node).getStyles());
+        }
+        for (INode child : node.childNodes()) {
+            resolveStyles(child, cssResolver, cssContext, blackhole);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2025 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.html2pdf.benchmarks;
+
+import com.itextpdf.html2pdf.attach.util.WaitingColgroupsHelper;
+import com.itextpdf.html2pdf.attach.wrapelement.TableWrapper;
+import com.itextpdf.layout.element.Cell;
+import com.itextpdf.layout.element.Table;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of the table grid bookkeeping of {@link TableWrapper}: the cells of a wide table with rowspans
+ * are placed on the grid and flushed to a large {@link Table} in batches, as the table tag worker does.
+ * <p>
+ * The cells are created once, so the benchmark measures the bookkeeping only. Run it with {@code -prof gc}
+ * to compare the allocations per operation ({@code gc.alloc.rate.norm}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TableWrapperBenchmark {
+
+    private static final int FLUSH_ROWS = 100;
+
+    @Param({"50"})
+    public int columns;
+
+    @Param({"10000"})
+    public int rows;
+
+    @Param({"false", "true"})
+    public boolean rtl;
+
+    private Cell[][] cells;
+
+    @Setup
+    public void setUp() {
+        cells = new Cell[rows][];
+        for (int i = 0; i < rows; i++) {
+            // Every fifth column of every other row spans two rows, so the next row skips it
+            boolean spanningRow = i % 2 == 0;
+            int count = spanningRow ? columns : columns - (columns + 4) / 5;
+            cells[i] = new Cell[count];
+            for (int j = 0; j < count; j++) {
+                cells[i][j] = spanningRow && j % 5 == 0 ? new Cell(2, 1) : new Cell();
+            }
+        }
+    }
+
+    /**
+     * Places all the cells on the grid and flushes the rows to a large table.
+     *
+     * @return the large table
+     */
+    @Benchmark
+    public Table buildTable() {
+        TableWrapper wrapper = new TableWrapper(rtl);
+        WaitingColgroupsHelper colgroupsHelper = new WaitingColgroupsHelper(null);
+        Table table = null;
+        for (int i = 0; i < rows; i++) {
+            wrapper.newRow();
+            for (Cell cell : cells[i]) {
+                wrapper.addCell(cell);
+            }
+            if (wrapper.getRowsSize() == FLUSH_ROWS) {
+                if (table == null) {
+                    table = wrapper.toLargeTable(colgroupsHelper);
+                } else {
+                    wrapper.flushRows(table);
+                }
+            }
+        }
+        if (table == null) {
+            return wrapper.toTable(colgroupsHelper);
+        }
+        wrapper.flushRows(table);
+        return table;
+    }
+}
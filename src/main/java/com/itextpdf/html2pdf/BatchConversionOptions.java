@@ -0,0 +1,175 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2025 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.html2pdf;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Options of a batch conversion, see {@link HtmlConverter#convertAll(Iterable, BatchConversionOptions)}.
+ */
+public class BatchConversionOptions {
+
+    private ConverterProperties converterProperties;
+
+    private int threadsCount = Runtime.getRuntime().availableProcessors();
+
+    private ExecutorService executorService;
+
+    private int maxPendingJobs;
+
+    private long jobTimeoutMillis;
+
+    /**
+     * Creates a new {@link BatchConversionOptions} instance with default values: as many threads as there
+     * are available processors, twice as many pending jobs and no job timeout.
+     */
+    public BatchConversionOptions() {
+        // empty constructor
+    }
+
+    /**
+     * Gets the converter properties shared by the jobs of the batch.
+     *
+     * @return the {@link ConverterProperties} instance, or null if the default properties are used
+     */
+    public ConverterProperties getConverterProperties() {
+        return converterProperties;
+    }
+
+    /**
+     * Sets the converter properties shared by the jobs of the batch.
+     * <p>
+     * The properties are never modified by the batch. If they don't specify a style sheet cache or an image
+     * cache, the batch creates them once and shares them between all the jobs. If they don't specify a font
+     * provider, every job creates its own one over the shared {@link com.itextpdf.html2pdf.resolver.font.FontCatalog}.
+     * Properties
+     * holding stateful objects which can't be shared between simultaneous conversions, e.g. an
+     * {@link com.itextpdf.html2pdf.attach.impl.OutlineHandler} or a custom font provider, shall be set
+     * to each job separately.
+     *
+     * @param converterProperties the {@link ConverterProperties} instance
+     * @return this {@link BatchConversionOptions} instance
+     */
+    public BatchConversionOptions setConverterProperties(ConverterProperties converterProperties) {
+        this.converterProperties = converterProperties;
+        return this;
+    }
+
+    /**
+     * Gets the number of threads which run the conversions.
+     *
+     * @return the number of threads
+     */
+    public int getThreadsCount() {
+        return threadsCount;
+    }
+
+    /**
+     * Sets the number of threads which run the conversions. Ignored if an executor service is set.
+     *
+     * @param threadsCount the number of threads, must be positive
+     * @return this {@link BatchConversionOptions} instance
+     */
+    public BatchConversionOptions setThreadsCount(int threadsCount) {
+        if (threadsCount <= 0) {
+            throw new IllegalArgumentException("threadsCount");
+        }
+        this.threadsCount = threadsCount;
+        return this;
+    }
+
+    /**
+     * Gets the executor service which runs the conversions.
+     *
+     * @return the {@link ExecutorService} instance, or null if the batch creates its own thread pool
+     */
+    public ExecutorService getExecutorService() {
+        return executorService;
+    }
+
+    /**
+     * Sets the executor service which runs the conversions, e.g. an executor creating a virtual thread
+     * per task. The executor service isn't shut down by the batch.
+     *
+     * @param executorService the {@link ExecutorService} instance, or null to use a thread pool
+     *                        of {@link #getThreadsCount()} threads
+     * @return this {@link BatchConversionOptions} instance
+     */
+    public BatchConversionOptions setExecutorService(ExecutorService executorService) {
+        this.executorService = executorService;
+        return this;
+    }
+
+    /**
+     * Gets the maximum number of jobs which are submitted but not finished yet.
+     *
+     * @return the maximum number of pending jobs
+     */
+    public int getMaxPendingJobs() {
+        return maxPendingJobs > 0 ? maxPendingJobs : 2 * threadsCount;
+    }
+
+    /**
+     * Sets the maximum number of jobs which are submitted but not finished yet. The jobs are taken from
+     * the passed {@link Iterable} only when there is room for them, so a lazily generated sequence of jobs
+     * isn't materialized at once.
+     *
+     * @param maxPendingJobs the maximum number of pending jobs, must be positive
+     * @return this {@link BatchConversionOptions} instance
+     */
+    public BatchConversionOptions setMaxPendingJobs(int maxPendingJobs) {
+        if (maxPendingJobs <= 0) {
+            throw new IllegalArgumentException("maxPendingJobs");
+        }
+        this.maxPendingJobs = maxPendingJobs;
+        return this;
+    }
+
+    /**
+     * Gets the maximum duration of a single conversion.
+     *
+     * @return the timeout in milliseconds, or 0 if there is no timeout
+     */
+    public long getJobTimeoutMillis() {
+        return jobTimeoutMillis;
+    }
+
+    /**
+     * Sets the maximum duration of a single conversion. A conversion which exceeds it is interrupted
+     * and reported as timed out, the other jobs are not affected.
+     * <p>
+     * The batch doesn't wait for a timed out conversion to stop. The interruption is cooperative, so a
+     * conversion blocked in a call which ignores it, e.g. reading from such an input stream, keeps running
+     * in its thread and may still write to its output after the batch has finished.
+     *
+     * @param jobTimeoutMillis the timeout in milliseconds, or 0 if there is no timeout
+     * @return this {@link BatchConversionOptions} instance
+     */
+    public BatchConversionOptions setJobTimeoutMillis(long jobTimeoutMillis) {
+        if (jobTimeoutMillis < 0) {
+            throw new IllegalArgumentException("jobTimeoutMillis");
+        }
+        this.jobTimeoutMillis = jobTimeoutMillis;
+        return this;
+    }
+}
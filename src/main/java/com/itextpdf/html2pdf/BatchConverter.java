@@ -0,0 +1,230 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2025 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.html2pdf;
+
+import com.itextpdf.html2pdf.css.resolve.ICssStyleSheetCache;
+import com.itextpdf.html2pdf.css.resolve.LruCssStyleSheetCache;
+import com.itextpdf.html2pdf.resolver.resource.IImageDataCache;
+import com.itextpdf.html2pdf.resolver.resource.LruImageDataCache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the jobs of a batch conversion and shares the immutable resources between them.
+ */
+final class BatchConverter {
+
+    private final BatchConversionOptions options;
+
+    private final ICssStyleSheetCache cssStyleSheetCache;
+
+    private final IImageDataCache imageDataCache;
+
+    /**
+     * Creates a new {@link BatchConverter} instance.
+     *
+     * @param options the batch conversion options
+     */
+    BatchConverter(BatchConversionOptions options) {
+        this.options = options;
+        ConverterProperties properties = options.getConverterProperties();
+        this.cssStyleSheetCache = properties != null && properties.getCssStyleSheetCache() != null
+                ? properties.getCssStyleSheetCache() : new LruCssStyleSheetCache();
+        this.imageDataCache = properties != null && properties.getImageDataCache() != null
+                ? properties.getImageDataCache() : new LruImageDataCache();
+    }
+
+    /**
+     * Runs the conversions and waits for all of them to finish.
+     *
+     * @param jobs the conversion jobs
+     * @return the results in the order of the jobs
+     * @throws InterruptedException if the calling thread is interrupted while waiting, the running
+     *                              conversions are cancelled in this case
+     */
+    List<ConversionResult> convertAll(Iterable<ConversionJob> jobs) throws InterruptedException {
+        ExecutorService executorService = options.getExecutorService();
+        boolean ownExecutorService = executorService == null;
+        if (ownExecutorService) {
+            executorService = Executors.newFixedThreadPool(options.getThreadsCount(), new BatchThreadFactory());
+        }
+        ScheduledExecutorService timeoutScheduler = options.getJobTimeoutMillis() > 0
+                ? Executors.newSingleThreadScheduledExecutor(new BatchThreadFactory()) : null;
+        int maxPendingJobs = options.getMaxPendingJobs();
+        Semaphore pendingJobs = new Semaphore(maxPendingJobs);
+        List<JobExecution> executions = new ArrayList<>();
+        try {
+            for (ConversionJob job : jobs) {
+                pendingJobs.acquire();
+                JobExecution execution = new JobExecution(job, createJobProperties(job));
+                executions.add(execution);
+                try {
+                    executorService.execute(() -> execution.run(timeoutScheduler, options.getJobTimeoutMillis(), pendingJobs));
+                } catch (RejectedExecutionException e) {
+                    pendingJobs.release();
+                    execution.reject(e);
+                }
+            }
+            // The permits of timed out conversions are returned without waiting for them to stop
+            pendingJobs.acquire(maxPendingJobs);
+        } catch (InterruptedException e) {
+            for (JobExecution execution : executions) {
+                execution.task.cancel(true);
+            }
+            throw e;
+        } finally {
+            if (ownExecutorService) {
+                executorService.shutdown();
+            }
+            if (timeoutScheduler != null) {
+                timeoutScheduler.shutdownNow();
+            }
+        }
+        List<ConversionResult> results = new ArrayList<>(executions.size());
+        for (JobExecution execution : executions) {
+            results.add(execution.getResult());
+        }
+        return results;
+    }
+
+    /**
+     * Creates the converter properties of a single job. Neither the job properties nor the batch ones
+     * are modified, the shared resources are set to a copy.
+     *
+     * @param job the conversion job
+     * @return the {@link ConverterProperties} instance
+     */
+    private ConverterProperties createJobProperties(ConversionJob job) {
+        ConverterProperties source = job.getConverterProperties() != null
+                ? job.getConverterProperties() : options.getConverterProperties();
+        ConverterProperties properties = source == null ? new ConverterProperties() : new ConverterProperties(source);
+        if (properties.getCssStyleSheetCache() == null) {
+            properties.setCssStyleSheetCache(cssStyleSheetCache);
+        }
+        if (properties.getImageDataCache() == null) {
+            properties.setImageDataCache(imageDataCache);
+        }
+        return properties;
+    }
+
+    /**
+     * A job submitted to the executor service.
+     */
+    private static final class JobExecution {
+        private final ConversionJob job;
+
+        private final FutureTask<Void> task;
+
+        private volatile long durationMillis;
+
+        private Throwable rejection;
+
+        private final AtomicBoolean finished = new AtomicBoolean();
+
+        JobExecution(ConversionJob job, ConverterProperties properties) {
+            this.job = job;
+            this.task = new FutureTask<>(() -> {
+                job.convert(properties);
+                return null;
+            });
+        }
+
+        void run(ScheduledExecutorService timeoutScheduler, long timeoutMillis, Semaphore pendingJobs) {
+            ScheduledFuture<?> timeout = null;
+            long start = System.currentTimeMillis();
+            try {
+                if (timeoutScheduler != null) {
+                    timeout = timeoutScheduler.schedule(() -> {
+                        task.cancel(true);
+                        // The batch doesn't wait for a conversion which doesn't respond to the interruption
+                        finish(start, pendingJobs);
+                    }, timeoutMillis, TimeUnit.MILLISECONDS);
+                }
+                task.run();
+            } finally {
+                if (timeout != null) {
+                    timeout.cancel(false);
+                }
+                finish(start, pendingJobs);
+            }
+        }
+
+        private void finish(long start, Semaphore pendingJobs) {
+            if (finished.compareAndSet(false, true)) {
+                durationMillis = System.currentTimeMillis() - start;
+                pendingJobs.release();
+            }
+        }
+
+        void reject(Throwable rejection) {
+            this.rejection = rejection;
+            task.cancel(false);
+        }
+
+        ConversionResult getResult() {
+            if (rejection != null) {
+                return new ConversionResult(job, rejection, false, 0);
+            }
+            try {
+                task.get();
+                return new ConversionResult(job, null, false, durationMillis);
+            } catch (CancellationException e) {
+                return new ConversionResult(job, null, true, durationMillis);
+            } catch (ExecutionException e) {
+                return new ConversionResult(job, e.getCause(), false, durationMillis);
+            } catch (InterruptedException e) {
+                // The task is done at this point, so get() doesn't wait
+                Thread.currentThread().interrupt();
+                return new ConversionResult(job, e, false, durationMillis);
+            }
+        }
+    }
+
+    /**
+     * Creates daemon threads, so that an abandoned batch doesn't prevent the JVM from exiting.
+     */
+    private static final class BatchThreadFactory implements ThreadFactory {
+        private static final AtomicInteger THREAD_NUMBER = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "pdfHTML-batch-" + THREAD_NUMBER.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,194 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2025 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.html2pdf;
+
+import com.itextpdf.html2pdf.attach.IHtmlProcessor;
+import com.itextpdf.html2pdf.attach.impl.DefaultHtmlProcessor;
+import com.itextpdf.html2pdf.attach.impl.PrecompiledStyles;
+import com.itextpdf.html2pdf.resolver.font.FontCatalog;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfWriter;
+import com.itextpdf.layout.Document;
+import com.itextpdf.layout.element.IElement;
+import com.itextpdf.pdfa.PdfADocument;
+import com.itextpdf.styledxmlparser.IXmlParser;
+import com.itextpdf.styledxmlparser.node.IDocumentNode;
+import com.itextpdf.styledxmlparser.node.impl.jsoup.JsoupHtmlParser;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * An HTML template whose per-template work is done once and reused by every conversion: the {@code <style>}
+ * and {@code <link>} style sheets are parsed, merged and indexed, the style sheet is analyzed for counters and
+ * the {@code @font-face} fonts are loaded.
+ *
+ * <p>
+ * The documents converted with a template are styled with the style sheets of the template only, the style sheets
+ * of the converted documents themselves are not collected. This fits documents which are produced by binding
+ * different data to the same HTML template.
+ *
+ * <p>
+ * A {@link CompiledHtmlTemplate} instance can be shared between threads as long as the {@link ConverterProperties}
+ * it has been compiled with can be: e.g. a {@link com.itextpdf.layout.font.FontProvider} or an
+ * {@link com.itextpdf.html2pdf.attach.impl.OutlineHandler} set to the properties makes the template usable
+ * for one conversion at a time only.
+ */
+public final class CompiledHtmlTemplate {
+
+    /**
+     * The converter properties used for each conversion.
+     */
+    private final ConverterProperties converterProperties;
+
+    /**
+     * The styles compiled from the template.
+     */
+    private final PrecompiledStyles precompiledStyles;
+
+    private CompiledHtmlTemplate(ConverterProperties converterProperties, PrecompiledStyles precompiledStyles) {
+        this.converterProperties = converterProperties;
+        this.precompiledStyles = precompiledStyles;
+    }
+
+    /**
+     * Compiles the HTML template stored in a {@link String}.
+     *
+     * @param templateHtml the html of the template
+     * @param converterProperties a {@link ConverterProperties} instance which will be used for each conversion
+     * @return the {@link CompiledHtmlTemplate} instance
+     */
+    public static CompiledHtmlTemplate compile(String templateHtml, ConverterProperties converterProperties) {
+        IXmlParser parser = new JsoupHtmlParser();
+        return compile(parser.parse(templateHtml), converterProperties);
+    }
+
+    /**
+     * Compiles the HTML template obtained from an {@link InputStream}.
+     *
+     * @param templateStream the {@link InputStream} with the html of the template
+     * @param converterProperties a {@link ConverterProperties} instance which will be used for each conversion
+     * @return the {@link CompiledHtmlTemplate} instance
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    public static CompiledHtmlTemplate compile(InputStream templateStream, ConverterProperties converterProperties)
+            throws IOException {
+        IXmlParser parser = new JsoupHtmlParser();
+        return compile(parser.parse(templateStream, converterProperties != null
+                ? converterProperties.getCharset() : null), converterProperties);
+    }
+
+    /**
+     * Converts a {@link String} containing HTML based on this template to an {@link OutputStream} containing PDF.
+     *
+     * @param html the html in the form of a {@link String}
+     * @param pdfStream the PDF as an {@link OutputStream}
+     */
+    public void convertToPdf(String html, OutputStream pdfStream) {
+        convertToPdf(HtmlConverter.parse(html, converterProperties), new PdfWriter(pdfStream));
+    }
+
+    /**
+     * Converts HTML based on this template obtained from an {@link InputStream} to a PDF written to
+     * an {@link OutputStream}.
+     *
+     * @param htmlStream the {@link InputStream} with the source HTML
+     * @param pdfStream the {@link OutputStream} for the resulting PDF
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    public void convertToPdf(InputStream htmlStream, OutputStream pdfStream) throws IOException {
+        convertToPdf(HtmlConverter.parse(htmlStream, converterProperties), new PdfWriter(pdfStream));
+    }
+
+    /**
+     * Converts a {@link String} containing HTML based on this template to objects that
+     * will be added to a {@link PdfDocument}, returning a {@link Document} instance.
+     *
+     * @param html the html in the form of a {@link String}
+     * @param pdfDocument the {@link PdfDocument} instance
+     * @return a {@link Document} instance
+     */
+    public Document convertToDocument(String html, PdfDocument pdfDocument) {
+        return convertToDocument(HtmlConverter.parse(html, converterProperties), pdfDocument);
+    }
+
+    /**
+     * Converts HTML based on this template obtained from an {@link InputStream} to objects that
+     * will be added to a {@link PdfDocument}, returning a {@link Document} instance.
+     *
+     * @param htmlStream the {@link InputStream} with the source HTML
+     * @param pdfDocument the {@link PdfDocument} instance
+     * @return a {@link Document} instance
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    public Document convertToDocument(InputStream htmlStream, PdfDocument pdfDocument) throws IOException {
+        return convertToDocument(HtmlConverter.parse(htmlStream, converterProperties), pdfDocument);
+    }
+
+    /**
+     * Converts a {@link String} containing HTML based on this template to a {@link List} of
+     * iText objects ({@link IElement} instances).
+     *
+     * @param html the html in the form of a {@link String}
+     * @return a list of iText building blocks
+     */
+    public List<IElement> convertToElements(String html) {
+        IHtmlProcessor processor = new DefaultHtmlProcessor(getPropertiesForDocument(null), precompiledStyles);
+        return processor.processElements(HtmlConverter.parse(html, converterProperties));
+    }
+
+    private static CompiledHtmlTemplate compile(IDocumentNode template, ConverterProperties converterProperties) {
+        ConverterProperties properties = converterProperties == null
+                ? new ConverterProperties() : converterProperties;
+        return new CompiledHtmlTemplate(properties, PrecompiledStyles.compile(template, properties));
+    }
+
+    private void convertToPdf(IDocumentNode documentNode, PdfWriter pdfWriter) {
+        PdfDocument pdfDocument = HtmlConverter.createPdfDocument(pdfWriter, converterProperties);
+        HtmlConverter.closeDocument(convertToDocument(documentNode, pdfDocument), converterProperties);
+    }
+
+    private Document convertToDocument(IDocumentNode documentNode, PdfDocument pdfDocument) {
+        HtmlConverter.checkWritingMode(pdfDocument);
+        IHtmlProcessor processor = new DefaultHtmlProcessor(getPropertiesForDocument(pdfDocument), precompiledStyles);
+        return processor.processDocument(documentNode, pdfDocument);
+    }
+
+    /**
+     * Gets the converter properties for a single conversion. The shared properties are never modified,
+     * a PDF/A compatible font catalogue is set to a copy of them if needed.
+     *
+     * @param pdfDocument the {@link PdfDocument} instance or null if elements are converted
+     * @return the {@link ConverterProperties} instance
+     */
+    private ConverterProperties getPropertiesForDocument(PdfDocument pdfDocument) {
+        boolean isPdfA = pdfDocument instanceof PdfADocument
+                || pdfDocument == null && converterProperties.getPdfAConformance() != null;
+        if (!isPdfA || converterProperties.getFontProvider() != null || converterProperties.getFontCatalog() != null) {
+            return converterProperties;
+        }
+        return new ConverterProperties(converterProperties).setFontCatalog(FontCatalog.getDefaultForPdfA());
+    }
+}
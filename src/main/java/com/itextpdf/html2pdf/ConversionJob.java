@@ -0,0 +1,126 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2025 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.html2pdf;
+
+import java.io.File;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * A single HTML to PDF conversion of a batch, see {@link HtmlConverter#convertAll(Iterable, BatchConversionOptions)}.
+ * <p>
+ * The source HTML can be a {@link String}, an {@link InputStream} or a {@link File}. The output streams are
+ * closed when the conversion is finished, the input streams are not.
+ */
+public final class ConversionJob {
+
+    private final String html;
+
+    private final InputStream htmlStream;
+
+    private final File htmlFile;
+
+    private final OutputStream pdfStream;
+
+    private final File pdfFile;
+
+    private ConverterProperties converterProperties;
+
+    /**
+     * Creates a new {@link ConversionJob} instance converting HTML from a {@link String}.
+     *
+     * @param html      the HTML string
+     * @param pdfStream the {@link OutputStream} for the resulting PDF
+     */
+    public ConversionJob(String html, OutputStream pdfStream) {
+        this(html, null, null, pdfStream, null);
+    }
+
+    /**
+     * Creates a new {@link ConversionJob} instance converting HTML from an {@link InputStream}.
+     *
+     * @param htmlStream the {@link InputStream} with the source HTML
+     * @param pdfStream  the {@link OutputStream} for the resulting PDF
+     */
+    public ConversionJob(InputStream htmlStream, OutputStream pdfStream) {
+        this(null, htmlStream, null, pdfStream, null);
+    }
+
+    /**
+     * Creates a new {@link ConversionJob} instance converting HTML from a {@link File}. Unless the base URI
+     * is set in the converter properties, the resources are resolved against the directory of the HTML file.
+     *
+     * @param htmlFile the {@link File} containing the source HTML
+     * @param pdfFile  the {@link File} for the resulting PDF
+     */
+    public ConversionJob(File htmlFile, File pdfFile) {
+        this(null, null, htmlFile, null, pdfFile);
+    }
+
+    private ConversionJob(String html, InputStream htmlStream, File htmlFile, OutputStream pdfStream, File pdfFile) {
+        this.html = html;
+        this.htmlStream = htmlStream;
+        this.htmlFile = htmlFile;
+        this.pdfStream = pdfStream;
+        this.pdfFile = pdfFile;
+    }
+
+    /**
+     * Gets the converter properties of this job.
+     *
+     * @return the {@link ConverterProperties} instance, or null if the properties of the batch are used
+     */
+    public ConverterProperties getConverterProperties() {
+        return converterProperties;
+    }
+
+    /**
+     * Sets the converter properties of this job, which are used instead of the properties of the batch.
+     * <p>
+     * The resources shared by the batch, i.e. the font set and the caches, are still used unless the
+     * properties specify their own.
+     *
+     * @param converterProperties the {@link ConverterProperties} instance
+     * @return this {@link ConversionJob} instance
+     */
+    public ConversionJob setConverterProperties(ConverterProperties converterProperties) {
+        this.converterProperties = converterProperties;
+        return this;
+    }
+
+    /**
+     * Runs the conversion with the passed properties.
+     *
+     * @param properties the {@link ConverterProperties} instance
+     * @throws Exception if the conversion fails
+     */
+    void convert(ConverterProperties properties) throws Exception {
+        if (htmlFile != null) {
+            HtmlConverter.convertToPdf(htmlFile, pdfFile, properties);
+        } else if (htmlStream != null) {
+            HtmlConverter.convertToPdf(htmlStream, pdfStream, properties);
+        } else {
+            HtmlConverter.convertToPdf(html, pdfStream, properties);
+        }
+    }
+}
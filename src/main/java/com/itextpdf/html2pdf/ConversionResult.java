@@ -0,0 +1,98 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2025 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.html2pdf;
+
+/**
+ * The result of a single {@link ConversionJob} of a batch.
+ */
+public final class ConversionResult {
+
+    private final ConversionJob job;
+
+    private final Throwable error;
+
+    private final boolean timedOut;
+
+    private final long durationMillis;
+
+    /**
+     * Creates a new {@link ConversionResult} instance.
+     *
+     * @param job            the conversion job
+     * @param error          the error the conversion failed with, or null if the conversion succeeded
+     * @param timedOut       whether the conversion was cancelled because of the timeout
+     * @param durationMillis the duration of the conversion in milliseconds
+     */
+    ConversionResult(ConversionJob job, Throwable error, boolean timedOut, long durationMillis) {
+        this.job = job;
+        this.error = error;
+        this.timedOut = timedOut;
+        this.durationMillis = durationMillis;
+    }
+
+    /**
+     * Gets the conversion job.
+     *
+     * @return the {@link ConversionJob} instance
+     */
+    public ConversionJob getJob() {
+        return job;
+    }
+
+    /**
+     * Checks whether the conversion succeeded.
+     *
+     * @return true if the conversion succeeded
+     */
+    public boolean isSuccessful() {
+        return error == null && !timedOut;
+    }
+
+    /**
+     * Checks whether the conversion was cancelled because it exceeded the job timeout.
+     * The output of such a job is incomplete and shall be discarded.
+     *
+     * @return true if the conversion timed out
+     */
+    public boolean isTimedOut() {
+        return timedOut;
+    }
+
+    /**
+     * Gets the error the conversion failed with.
+     *
+     * @return the error, or null if the conversion succeeded or timed out
+     */
+    public Throwable getError() {
+        return error;
+    }
+
+    /**
+     * Gets the time spent on the conversion, not including the time the job was waiting in the queue.
+     *
+     * @return the duration of the conversion in milliseconds
+     */
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+}
@@ -27,6 +27,10 @@ import com.itextpdf.html2pdf.attach.ITagWorkerFactory;
 import com.itextpdf.html2pdf.attach.impl.OutlineHandler;
 import com.itextpdf.html2pdf.attach.util.AlternateDescriptionResolver;
 import com.itextpdf.html2pdf.css.apply.ICssApplierFactory;
+import com.itextpdf.html2pdf.css.resolve.ICssStyleSheetCache;
+import com.itextpdf.html2pdf.metrics.IConversionMetricsListener;
+import com.itextpdf.html2pdf.resolver.font.FontCatalog;
+import com.itextpdf.html2pdf.resolver.resource.IImageDataCache;
 import com.itextpdf.kernel.pdf.PdfAConformance;
 import com.itextpdf.kernel.pdf.PdfOutputIntent;
 import com.itextpdf.layout.font.FontProvider;
@@ -36,6 +40,7 @@ import com.itextpdf.styledxmlparser.resolver.resource.IResourceRetriever;
 import java.io.InputStream;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Properties that will be used by the {@link com.itextpdf.html2pdf.HtmlConverter}.
@@ -47,6 +52,11 @@ public class ConverterProperties {
      */
     private static final int DEFAULT_LIMIT_OF_LAYOUTS = 10;
 
+    /**
+     * Default time in milliseconds to wait for a prefetched resource.
+     */
+    private static final long DEFAULT_RESOURCE_PREFETCH_TIMEOUT = 30000;
+
     private final HashMap<Class<?>, Object> dependencies = new HashMap<>();
 
     /**
@@ -124,6 +134,51 @@ public class ConverterProperties {
      */
     private PdfAConformance aConformance;
 
+    /**
+     * The cache of parsed style sheets shared across conversions.
+     */
+    private ICssStyleSheetCache cssStyleSheetCache;
+
+    /**
+     * The cache of decoded images shared across conversions.
+     */
+    private IImageDataCache imageDataCache;
+
+    /**
+     * The catalogue of fonts which is used if no font provider is set.
+     */
+    private FontCatalog fontCatalog;
+
+    /**
+     * The number of body rows after which a top-level table is written to the document in batches.
+     */
+    private int largeTableBatchSize = 0;
+
+    /**
+     * The number of digits reserved for the total number of pages.
+     */
+    private int reservedPageCountDigits = 0;
+
+    /**
+     * The pool on which the style sheet is matched against the document in parallel.
+     */
+    private ForkJoinPool styleResolvingPool;
+
+    /**
+     * The number of external resources which are fetched concurrently before the document is processed.
+     */
+    private int resourcePrefetchParallelism = 0;
+
+    /**
+     * The time in milliseconds to wait for a prefetched resource when it's used.
+     */
+    private long resourcePrefetchTimeout = DEFAULT_RESOURCE_PREFETCH_TIMEOUT;
+
+    /**
+     * The listener which receives the metrics of each conversion.
+     */
+    private IConversionMetricsListener conversionMetricsListener;
+
     /**
      * Instantiates a new {@link ConverterProperties} instance.
      */
@@ -151,6 +206,17 @@ public class ConverterProperties {
         this.limitOfLayouts = other.limitOfLayouts;
         this.immediateFlush = other.immediateFlush;
         this.continuousContainerEnabled = other.continuousContainerEnabled;
+        this.cssStyleSheetCache = other.cssStyleSheetCache;
+        this.imageDataCache = other.imageDataCache;
+        this.fontCatalog = other.fontCatalog;
+        this.largeTableBatchSize = other.largeTableBatchSize;
+        this.reservedPageCountDigits = other.reservedPageCountDigits;
+        this.styleResolvingPool = other.styleResolvingPool;
+        this.resourcePrefetchParallelism = other.resourcePrefetchParallelism;
+        this.resourcePrefetchTimeout = other.resourcePrefetchTimeout;
+        this.conversionMetricsListener = other.conversionMetricsListener;
+        this.outputIntent = other.outputIntent;
+        this.aConformance = other.aConformance;
 
         for (Class<?> aClass : other.dependencies.keySet()) {
             this.dependencies.put(aClass, other.dependencies.get(aClass));
@@ -188,7 +254,7 @@ public class ConverterProperties {
      * <p>
      * Please note that {@link FontProvider} instances cannot be reused across several documents
      * and thus as soon as you set this property, this {@link ConverterProperties} instance becomes only useful
-     * for a single HTML conversion.
+     * for a single HTML conversion. Use {@link #setFontCatalog(FontCatalog)} to share fonts between conversions.
      *
      * @return the font provider
      */
@@ -201,7 +267,7 @@ public class ConverterProperties {
      * <p>
      * Please note that {@link FontProvider} instances cannot be reused across several documents
      * and thus as soon as you set this property, this {@link ConverterProperties} instance becomes only useful
-     * for a single HTML conversion.
+     * for a single HTML conversion. Use {@link #setFontCatalog(FontCatalog)} to share fonts between conversions.
      *
      * @param fontProvider the font provider
      * @return the {@link ConverterProperties} instance
@@ -489,6 +555,10 @@ public class ConverterProperties {
     /**
      * Set the immediate flush property of the layout document.
      * <p>
+     * In immediate flush mode top-level elements are laid out and their pages are flushed while the rest
+     * of the HTML is still being converted, and the document doesn't keep references to the added elements.
+     * Thus memory consumption doesn't grow with the length of the document.
+     * <p>
      * This is used for {@link com.itextpdf.html2pdf.HtmlConverter#convertToDocument} methods and will be
      * overwritten to false if a page-counter declaration is present in the CSS of the HTML being converted.
      * Has no effect when used in conjunction with {@link com.itextpdf.html2pdf.HtmlConverter#convertToPdf}
@@ -546,6 +616,240 @@ public class ConverterProperties {
         return this;
     }
 
+    /**
+     * Gets the cache of parsed style sheets.
+     *
+     * @return the {@link ICssStyleSheetCache} instance or null if style sheets are parsed for each conversion
+     */
+    public ICssStyleSheetCache getCssStyleSheetCache() {
+        return cssStyleSheetCache;
+    }
+
+    /**
+     * Sets the cache of parsed style sheets.
+     * <p>
+     * The cache can be shared across conversions, so that {@code <style>} blocks and linked style sheets
+     * with the same URI and content are parsed only once. Unlike most of the other properties, the cache
+     * can be used by simultaneous conversions if the implementation is thread safe,
+     * e.g. {@link com.itextpdf.html2pdf.css.resolve.LruCssStyleSheetCache}.
+     *
+     * @param cssStyleSheetCache the {@link ICssStyleSheetCache} instance or null to parse style sheets each time
+     * @return the {@link ConverterProperties} instance
+     */
+    public ConverterProperties setCssStyleSheetCache(ICssStyleSheetCache cssStyleSheetCache) {
+        this.cssStyleSheetCache = cssStyleSheetCache;
+        return this;
+    }
+
+    /**
+     * Gets the cache of decoded images.
+     *
+     * @return the {@link IImageDataCache} instance or null if images are decoded for each conversion
+     */
+    public IImageDataCache getImageDataCache() {
+        return imageDataCache;
+    }
+
+    /**
+     * Sets the cache of decoded images.
+     * <p>
+     * The cache can be shared across conversions, so that raster images referenced by the same URL or
+     * data URI are retrieved and decoded only once. Each conversion still writes its own image XObject
+     * into the resulting PDF document. The cache can be used by simultaneous conversions
+     * if the implementation is thread safe, e.g. {@link com.itextpdf.html2pdf.resolver.resource.LruImageDataCache}.
+     *
+     * @param imageDataCache the {@link IImageDataCache} instance or null to decode images each time
+     * @return the {@link ConverterProperties} instance
+     */
+    public ConverterProperties setImageDataCache(IImageDataCache imageDataCache) {
+        this.imageDataCache = imageDataCache;
+        return this;
+    }
+
+    /**
+     * Gets the catalogue of fonts which is used if no font provider is set.
+     *
+     * @return the {@link FontCatalog} instance or null if the default catalogue is used
+     */
+    public FontCatalog getFontCatalog() {
+        return fontCatalog;
+    }
+
+    /**
+     * Sets the catalogue of fonts which is used if no font provider is set.
+     * <p>
+     * As opposed to a {@link FontProvider}, a {@link FontCatalog} can be reused across several documents
+     * and simultaneous conversions: each conversion creates a lightweight font provider on top of it,
+     * so the fonts are collected only once. If neither a font provider nor a catalogue is set,
+     * {@link FontCatalog#getDefault()} is used, or {@link FontCatalog#getDefaultForPdfA()} for PDF/A documents.
+     *
+     * @param fontCatalog the {@link FontCatalog} instance
+     * @return the {@link ConverterProperties} instance
+     */
+    public ConverterProperties setFontCatalog(FontCatalog fontCatalog) {
+        this.fontCatalog = fontCatalog;
+        return this;
+    }
+
+    /**
+     * Gets the number of body rows after which a top-level table is written to the document in batches.
+     *
+     * @return the batch size, or 0 if large table mode is disabled
+     */
+    public int getLargeTableBatchSize() {
+        return largeTableBatchSize;
+    }
+
+    /**
+     * Sets the number of body rows after which a top-level table is written to the document in batches.
+     * <p>
+     * By default the whole {@code <table>} is converted before it's laid out, so all of its cells are kept
+     * in memory. If the batch size is positive, a {@code <table>} which is a direct child of {@code <body>}
+     * and has at least that many body rows is converted into a large {@link com.itextpdf.layout.element.Table}:
+     * it's added to the document as soon as the first batch of rows is processed, and every following batch
+     * is laid out and flushed while the rest of the rows are still being converted. The number of columns and
+     * their widths are fixed by the {@code <colgroup>} and the rows of the first batch.
+     * <p>
+     * Large table mode requires immediate flush, see {@link #setImmediateFlush(boolean)}, and has no effect
+     * with {@link com.itextpdf.html2pdf.HtmlConverter#convertToElements} methods.
+     *
+     * @param largeTableBatchSize the batch size, or 0 to disable large table mode
+     * @return the {@link ConverterProperties} instance
+     */
+    public ConverterProperties setLargeTableBatchSize(int largeTableBatchSize) {
+        this.largeTableBatchSize = largeTableBatchSize;
+        return this;
+    }
+
+    /**
+     * Gets the number of digits reserved for the total number of pages.
+     *
+     * @return the number of reserved digits, or 0 if the total number of pages isn't deferred
+     */
+    public int getReservedPageCountDigits() {
+        return reservedPageCountDigits;
+    }
+
+    /**
+     * Sets the number of digits reserved for the total number of pages.
+     * <p>
+     * By default a document which uses {@code counter(pages)} is laid out again once the number of pages
+     * is known, until the layout stabilizes. If the number of reserved digits is positive, the space of
+     * that many digits is reserved for each {@code counter(pages)} instead, and the actual number is written
+     * into it when the document is closed, so the document is laid out only once and pages may be flushed
+     * immediately. The number is aligned inside the reserved space according to the text alignment.
+     * <p>
+     * The total number of pages isn't deferred for tagged documents and for documents which use
+     * {@code target-counter()} with a page reference, those are still laid out again.
+     *
+     * @param reservedPageCountDigits the number of reserved digits, or 0 to lay out the document again
+     * @return the {@link ConverterProperties} instance
+     */
+    public ConverterProperties setReservedPageCountDigits(int reservedPageCountDigits) {
+        this.reservedPageCountDigits = reservedPageCountDigits;
+        return this;
+    }
+
+    /**
+     * Gets the pool on which the style sheet is matched against the document in parallel.
+     *
+     * @return the {@link ForkJoinPool} instance, or null if the styles are resolved sequentially
+     */
+    public ForkJoinPool getStyleResolvingPool() {
+        return styleResolvingPool;
+    }
+
+    /**
+     * Sets the pool on which the style sheet is matched against the document in parallel.
+     *
+     * <p>
+     * If the pool is set, the rule sets which apply to the elements of large subtrees are collected on it
+     * before the document is processed, so that a single large document can use more than one core.
+     * The computed styles themselves are still resolved in the document order. The pool isn't used
+     * for documents with {@code target-counter()} or {@code target-counters()}, which are already
+     * matched against the style sheet while the counters are preprocessed.
+     *
+     * @param styleResolvingPool the {@link ForkJoinPool} instance, or null to resolve the styles sequentially
+     * @return the {@link ConverterProperties} instance
+     */
+    public ConverterProperties setStyleResolvingPool(ForkJoinPool styleResolvingPool) {
+        this.styleResolvingPool = styleResolvingPool;
+        return this;
+    }
+
+    /**
+     * Gets the number of external resources which are fetched concurrently before the document is processed.
+     *
+     * @return the number of concurrently fetched resources, or 0 if the resources are fetched when they are used
+     */
+    public int getResourcePrefetchParallelism() {
+        return resourcePrefetchParallelism;
+    }
+
+    /**
+     * Sets the number of external resources which are fetched concurrently before the document is processed.
+     *
+     * <p>
+     * If the number is positive, the style sheets, images, {@code <object>} data and the resources referenced
+     * by {@code url()} values in the style sheets are fetched in the background as soon as they are found,
+     * instead of being fetched one by one when they are used. The {@link IResourceRetriever} set to
+     * the properties is called from several threads in this case, so it shall be thread-safe.
+     *
+     * @param resourcePrefetchParallelism the number of concurrently fetched resources, or 0 to fetch
+     *                                    the resources when they are used
+     * @return the {@link ConverterProperties} instance
+     */
+    public ConverterProperties setResourcePrefetchParallelism(int resourcePrefetchParallelism) {
+        this.resourcePrefetchParallelism = resourcePrefetchParallelism;
+        return this;
+    }
+
+    /**
+     * Gets the time in milliseconds to wait for a prefetched resource when it's used.
+     *
+     * @return the timeout in milliseconds
+     */
+    public long getResourcePrefetchTimeout() {
+        return resourcePrefetchTimeout;
+    }
+
+    /**
+     * Sets the time in milliseconds to wait for a prefetched resource when it's used. If the resource
+     * isn't fetched in time, the prefetching is cancelled and the resource is fetched once again.
+     * The default value is 30 seconds.
+     *
+     * @param resourcePrefetchTimeout the timeout in milliseconds
+     * @return the {@link ConverterProperties} instance
+     */
+    public ConverterProperties setResourcePrefetchTimeout(long resourcePrefetchTimeout) {
+        this.resourcePrefetchTimeout = resourcePrefetchTimeout;
+        return this;
+    }
+
+    /**
+     * Gets the listener which receives the metrics of each conversion.
+     *
+     * @return the {@link IConversionMetricsListener} instance or null if the metrics are not collected
+     */
+    public IConversionMetricsListener getConversionMetricsListener() {
+        return conversionMetricsListener;
+    }
+
+    /**
+     * Sets the listener which receives the metrics of each conversion: the duration and the allocated memory
+     * of the conversion phases, the numbers of processed elements, relayouts and retrieved resources,
+     * and the hits and misses of the caches.
+     * <p>
+     * The metrics are collected only if a listener is set.
+     *
+     * @param conversionMetricsListener the {@link IConversionMetricsListener} instance
+     * @return the {@link ConverterProperties} instance
+     */
+    public ConverterProperties setConversionMetricsListener(IConversionMetricsListener conversionMetricsListener) {
+        this.conversionMetricsListener = conversionMetricsListener;
+        return this;
+    }
+
     /**
      * Gets the dependencies.
      *
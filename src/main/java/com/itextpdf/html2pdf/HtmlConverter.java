@@ -26,6 +26,10 @@ import com.itextpdf.commons.actions.contexts.IMetaInfo;
 import com.itextpdf.commons.utils.FileUtil;
 import com.itextpdf.html2pdf.attach.Attacher;
 import com.itextpdf.html2pdf.exceptions.Html2PdfException;
+import com.itextpdf.html2pdf.metrics.ConversionMetricsCollector;
+import com.itextpdf.html2pdf.metrics.ConversionPhase;
+import com.itextpdf.html2pdf.metrics.IConversionMetricsListener;
+import com.itextpdf.html2pdf.resolver.font.FontCatalog;
 import com.itextpdf.kernel.pdf.DocumentProperties;
 import com.itextpdf.kernel.pdf.PdfDocument;
 import com.itextpdf.kernel.pdf.PdfWriter;
@@ -37,7 +41,6 @@ import com.itextpdf.pdfa.PdfADocument;
 import com.itextpdf.styledxmlparser.IXmlParser;
 import com.itextpdf.styledxmlparser.node.IDocumentNode;
 import com.itextpdf.styledxmlparser.node.impl.jsoup.JsoupHtmlParser;
-import com.itextpdf.styledxmlparser.resolver.font.BasicFontProvider;
 
 import java.io.File;
 import java.io.FileInputStream;
@@ -105,19 +108,7 @@ public class HtmlConverter {
      * @param converterProperties a {@link ConverterProperties} instance
      */
     public static void convertToPdf(String html, PdfWriter pdfWriter, ConverterProperties converterProperties) {
-        if (converterProperties == null || converterProperties.getPdfAConformance() == null) {
-            convertToPdf(html, new PdfDocument(pdfWriter, new DocumentProperties()
-                    .setEventCountingMetaInfo(resolveMetaInfo(converterProperties))), converterProperties);
-            return;
-        }
-        PdfDocument document = new PdfADocument(pdfWriter, converterProperties.getPdfAConformance(),
-                converterProperties.getDocumentOutputIntent(), new DocumentProperties()
-                .setEventCountingMetaInfo(resolveMetaInfo(converterProperties)));
-        converterProperties = setDefaultFontProviderForPdfA(document, converterProperties);
-        if ("A".equals(converterProperties.getPdfAConformance().getLevel())) {
-            document.setTagged();
-        }
-        convertToPdf(html, document, converterProperties);
+        convertToPdf(html, createPdfDocument(pdfWriter, converterProperties), converterProperties);
     }
 
     /**
@@ -129,9 +120,7 @@ public class HtmlConverter {
      * @param converterProperties a {@link ConverterProperties} instance
      */
     public static void convertToPdf(String html, PdfDocument pdfDocument, ConverterProperties converterProperties) {
-        final Document document = convertToDocument(html, pdfDocument, converterProperties);
-        document.setProperty(Property.META_INFO, new MetaInfoContainer(resolveMetaInfo(converterProperties)));
-        document.close();
+        closeDocument(convertToDocument(html, pdfDocument, converterProperties), converterProperties);
     }
 
     /**
@@ -229,19 +218,7 @@ public class HtmlConverter {
      * @throws IOException Signals that an I/O exception has occurred.
      */
     public static void convertToPdf(InputStream htmlStream, PdfWriter pdfWriter, ConverterProperties converterProperties) throws IOException {
-        if (converterProperties == null || converterProperties.getPdfAConformance() == null) {
-            convertToPdf(htmlStream, new PdfDocument(pdfWriter, new DocumentProperties().setEventCountingMetaInfo(
-                    resolveMetaInfo(converterProperties))), converterProperties);
-            return;
-        }
-        PdfDocument document = new PdfADocument(pdfWriter, converterProperties.getPdfAConformance(),
-                converterProperties.getDocumentOutputIntent(), new DocumentProperties()
-                .setEventCountingMetaInfo(resolveMetaInfo(converterProperties)));
-        converterProperties = setDefaultFontProviderForPdfA(document, converterProperties);
-        if ("A".equals(converterProperties.getPdfAConformance().getLevel())) {
-            document.setTagged();
-        }
-        convertToPdf(htmlStream, document, converterProperties);
+        convertToPdf(htmlStream, createPdfDocument(pdfWriter, converterProperties), converterProperties);
     }
 
     /**
@@ -255,10 +232,7 @@ public class HtmlConverter {
      */
     public static void convertToPdf(InputStream htmlStream, PdfDocument pdfDocument, ConverterProperties converterProperties) throws IOException {
         converterProperties = setDefaultFontProviderForPdfA(pdfDocument, converterProperties);
-        final Document document = convertToDocument(htmlStream, pdfDocument, converterProperties);
-        IMetaInfo metaInfo = resolveMetaInfo(converterProperties);
-        document.setProperty(Property.META_INFO, new MetaInfoContainer(metaInfo));
-        document.close();
+        closeDocument(convertToDocument(htmlStream, pdfDocument, converterProperties), converterProperties);
     }
 
     /**
@@ -326,12 +300,9 @@ public class HtmlConverter {
      * @return a {@link Document} instance
      */
     public static Document convertToDocument(String html, PdfDocument pdfDocument, ConverterProperties converterProperties) {
-        if (pdfDocument.getReader() != null) {
-            throw new Html2PdfException(Html2PdfException.PDF_DOCUMENT_SHOULD_BE_IN_WRITING_MODE);
-        }
+        checkWritingMode(pdfDocument);
         converterProperties = setDefaultFontProviderForPdfA(pdfDocument, converterProperties);
-        IXmlParser parser = new JsoupHtmlParser();
-        IDocumentNode doc = parser.parse(html);
+        IDocumentNode doc = parse(html, converterProperties);
         return Attacher.attach(doc, pdfDocument, converterProperties);
     }
 
@@ -347,15 +318,33 @@ public class HtmlConverter {
      * @throws IOException Signals that an I/O exception has occurred.
      */
     public static Document convertToDocument(InputStream htmlStream, PdfDocument pdfDocument, ConverterProperties converterProperties) throws IOException {
-        if (pdfDocument.getReader() != null) {
-            throw new Html2PdfException(Html2PdfException.PDF_DOCUMENT_SHOULD_BE_IN_WRITING_MODE);
-        }
+        checkWritingMode(pdfDocument);
         converterProperties = setDefaultFontProviderForPdfA(pdfDocument, converterProperties);
-        IXmlParser parser = new JsoupHtmlParser();
-        IDocumentNode doc = parser.parse(htmlStream, converterProperties != null ? converterProperties.getCharset() : null);
+        IDocumentNode doc = parse(htmlStream, converterProperties);
         return Attacher.attach(doc, pdfDocument, converterProperties);
     }
 
+    /**
+     * Converts a batch of HTML documents to PDF in parallel.
+     *
+     * <p>
+     * The conversions run on a bounded worker pool, or on the {@link java.util.concurrent.ExecutorService}
+     * set to the options. The jobs are consumed lazily, at most
+     * {@link BatchConversionOptions#getMaxPendingJobs()} of them are submitted at the same time.
+     * The font set, the parsed style sheets and the decoded images are shared between the jobs,
+     * unless the {@link ConverterProperties} of a job define their own ones.
+     * A failed or timed out conversion doesn't affect the other ones, its error is reported in its result.
+     *
+     * @param jobs the conversion jobs
+     * @param options the {@link BatchConversionOptions} instance
+     * @return the {@link ConversionResult} list in the order of the jobs
+     * @throws InterruptedException if the calling thread is interrupted while waiting for the conversions
+     */
+    public static List<ConversionResult> convertAll(Iterable<ConversionJob> jobs, BatchConversionOptions options)
+            throws InterruptedException {
+        return new BatchConverter(options).convertAll(jobs);
+    }
+
     /**
      * Converts a {@link String} containing HTML to a {@link List} of
      * iText objects ({@link IElement} instances).
@@ -390,8 +379,7 @@ public class HtmlConverter {
      */
     public static List<IElement> convertToElements(String html, ConverterProperties converterProperties) {
         converterProperties = setDefaultFontProviderForPdfA(null, converterProperties);
-        IXmlParser parser = new JsoupHtmlParser();
-        IDocumentNode doc = parser.parse(html);
+        IDocumentNode doc = parse(html, converterProperties);
         return Attacher.attach(doc, converterProperties);
     }
 
@@ -407,8 +395,7 @@ public class HtmlConverter {
      */
     public static List<IElement> convertToElements(InputStream htmlStream, ConverterProperties converterProperties) throws IOException {
         converterProperties = setDefaultFontProviderForPdfA(null, converterProperties);
-        IXmlParser parser = new JsoupHtmlParser();
-        IDocumentNode doc = parser.parse(htmlStream, converterProperties != null ? converterProperties.getCharset() : null);
+        IDocumentNode doc = parse(htmlStream, converterProperties);
         return Attacher.attach(doc, converterProperties);
     }
 
@@ -416,23 +403,109 @@ public class HtmlConverter {
         return new HtmlMetaInfo();
     }
 
+    /**
+     * Creates the {@link PdfDocument} the HTML is converted to, a PDF/A document if the conformance
+     * is set to the properties.
+     *
+     * @param pdfWriter the {@link PdfWriter} instance
+     * @param converterProperties a {@link ConverterProperties} instance, may be null
+     * @return the {@link PdfDocument} instance
+     */
+    static PdfDocument createPdfDocument(PdfWriter pdfWriter, ConverterProperties converterProperties) {
+        DocumentProperties documentProperties = new DocumentProperties()
+                .setEventCountingMetaInfo(resolveMetaInfo(converterProperties));
+        if (converterProperties == null || converterProperties.getPdfAConformance() == null) {
+            return new PdfDocument(pdfWriter, documentProperties);
+        }
+        PdfDocument document = new PdfADocument(pdfWriter, converterProperties.getPdfAConformance(),
+                converterProperties.getDocumentOutputIntent(), documentProperties);
+        if ("A".equals(converterProperties.getPdfAConformance().getLevel())) {
+            document.setTagged();
+        }
+        return document;
+    }
+
+    /**
+     * Checks that the HTML can be converted to the {@link PdfDocument}.
+     *
+     * @param pdfDocument the {@link PdfDocument} instance
+     */
+    static void checkWritingMode(PdfDocument pdfDocument) {
+        if (pdfDocument.getReader() != null) {
+            throw new Html2PdfException(Html2PdfException.PDF_DOCUMENT_SHOULD_BE_IN_WRITING_MODE);
+        }
+    }
+
+    /**
+     * Sets the meta info of the conversion to the {@link Document} and closes it.
+     *
+     * @param document the {@link Document} instance
+     * @param converterProperties a {@link ConverterProperties} instance, may be null
+     */
+    static void closeDocument(Document document, ConverterProperties converterProperties) {
+        document.setProperty(Property.META_INFO, new MetaInfoContainer(resolveMetaInfo(converterProperties)));
+        document.close();
+    }
+
     private static IMetaInfo resolveMetaInfo(ConverterProperties converterProperties) {
         return converterProperties == null
                 ? createPdf2HtmlMetaInfo()
                 : converterProperties.getEventMetaInfo();
     }
 
+    /**
+     * Parses the HTML, reporting the parsing phase to the metrics listener if it's set.
+     *
+     * @param html the html in the form of a {@link String}
+     * @param converterProperties a {@link ConverterProperties} instance, may be null
+     * @return the parsed {@link IDocumentNode}
+     */
+    static IDocumentNode parse(String html, ConverterProperties converterProperties) {
+        IConversionMetricsListener metricsListener = getMetricsListener(converterProperties);
+        long startNanos = System.nanoTime();
+        long startAllocatedBytes = metricsListener == null ? -1 : ConversionMetricsCollector.getAllocatedBytes();
+        IXmlParser parser = new JsoupHtmlParser();
+        IDocumentNode doc = parser.parse(html);
+        ConversionMetricsCollector.reportPhase(metricsListener, ConversionPhase.PARSING, startNanos,
+                startAllocatedBytes);
+        return doc;
+    }
+
+    /**
+     * Parses the HTML, reporting the parsing phase to the metrics listener if it's set.
+     *
+     * @param htmlStream the {@link InputStream} with the source HTML
+     * @param converterProperties a {@link ConverterProperties} instance, may be null
+     * @return the parsed {@link IDocumentNode}
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    static IDocumentNode parse(InputStream htmlStream, ConverterProperties converterProperties)
+            throws IOException {
+        IConversionMetricsListener metricsListener = getMetricsListener(converterProperties);
+        long startNanos = System.nanoTime();
+        long startAllocatedBytes = metricsListener == null ? -1 : ConversionMetricsCollector.getAllocatedBytes();
+        IXmlParser parser = new JsoupHtmlParser();
+        IDocumentNode doc = parser.parse(htmlStream, converterProperties != null ? converterProperties.getCharset() : null);
+        ConversionMetricsCollector.reportPhase(metricsListener, ConversionPhase.PARSING, startNanos,
+                startAllocatedBytes);
+        return doc;
+    }
+
+    private static IConversionMetricsListener getMetricsListener(ConverterProperties converterProperties) {
+        return converterProperties == null ? null : converterProperties.getConversionMetricsListener();
+    }
+
     private static ConverterProperties setDefaultFontProviderForPdfA(PdfDocument document, ConverterProperties properties) {
         if (document instanceof PdfADocument) {
             if (properties == null) {
                 properties = new ConverterProperties();
             }
-            if (properties.getFontProvider() == null) {
-                properties.setFontProvider(new BasicFontProvider(false, true, false));
+            if (properties.getFontProvider() == null && properties.getFontCatalog() == null) {
+                properties.setFontCatalog(FontCatalog.getDefaultForPdfA());
             }
         } else if (document == null && properties != null && properties.getPdfAConformance() != null) {
-            if (properties.getFontProvider() == null) {
-                properties.setFontProvider(new BasicFontProvider(false, true, false));
+            if (properties.getFontProvider() == null && properties.getFontCatalog() == null) {
+                properties.setFontCatalog(FontCatalog.getDefaultForPdfA());
             }
         }
         return properties;
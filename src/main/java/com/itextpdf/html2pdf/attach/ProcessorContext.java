@@ -28,14 +28,19 @@ import com.itextpdf.html2pdf.ConverterProperties;
 import com.itextpdf.html2pdf.attach.impl.DefaultTagWorkerFactory;
 import com.itextpdf.html2pdf.attach.impl.HtmlMetaInfoContainer;
 import com.itextpdf.html2pdf.attach.impl.LinkContext;
+import com.itextpdf.html2pdf.attach.impl.SvgProcessingCache;
 import com.itextpdf.html2pdf.attach.impl.OutlineHandler;
 import com.itextpdf.html2pdf.css.apply.ICssApplierFactory;
 import com.itextpdf.html2pdf.css.apply.impl.DefaultCssApplierFactory;
 import com.itextpdf.html2pdf.css.resolve.CssContext;
-import com.itextpdf.html2pdf.resolver.font.DefaultFontProvider;
+import com.itextpdf.html2pdf.css.resolve.ICssStyleSheetCache;
+import com.itextpdf.html2pdf.metrics.ConversionMetricsCollector;
+import com.itextpdf.html2pdf.metrics.IConversionMetricsListener;
+import com.itextpdf.html2pdf.resolver.font.FontCatalog;
 import com.itextpdf.html2pdf.resolver.form.FormFieldNameResolver;
 import com.itextpdf.html2pdf.resolver.form.RadioCheckResolver;
 import com.itextpdf.html2pdf.resolver.resource.HtmlResourceResolver;
+import com.itextpdf.html2pdf.resolver.resource.IImageDataCache;
 import com.itextpdf.io.font.FontProgram;
 import com.itextpdf.kernel.pdf.PdfConformance;
 import com.itextpdf.kernel.pdf.PdfDocument;
@@ -48,6 +53,7 @@ import com.itextpdf.styledxmlparser.css.media.MediaDeviceDescription;
 import com.itextpdf.styledxmlparser.resolver.resource.ResourceResolver;
 
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Keeps track of the context of the processor.
@@ -116,6 +122,51 @@ public class ProcessorContext {
      */
     private boolean immediateFlush;
 
+    /**
+     * The cache of parsed style sheets shared across conversions.
+     */
+    private final ICssStyleSheetCache cssStyleSheetCache;
+
+    /**
+     * The cache of decoded images shared across conversions.
+     */
+    private final IImageDataCache imageDataCache;
+
+    /**
+     * The number of body rows after which a top-level table is written to the document in batches.
+     */
+    private final int largeTableBatchSize;
+
+    /**
+     * The number of digits reserved for the total number of pages.
+     */
+    private final int reservedPageCountDigits;
+
+    /**
+     * The pool on which the style sheet is matched against the document in parallel.
+     */
+    private final ForkJoinPool styleResolvingPool;
+
+    /**
+     * The number of external resources which are fetched concurrently before the document is processed.
+     */
+    private final int resourcePrefetchParallelism;
+
+    /**
+     * The time in milliseconds to wait for a prefetched resource when it's used.
+     */
+    private final long resourcePrefetchTimeout;
+
+    /**
+     * The listener of the conversion metrics.
+     */
+    private final IConversionMetricsListener metricsListener;
+
+    /**
+     * The collector of the current conversion metrics, or null if no listener is set.
+     */
+    private ConversionMetricsCollector metricsCollector;
+
     // Variable fields
 
     /**
@@ -138,6 +189,11 @@ public class ProcessorContext {
      */
     private LinkContext linkContext;
 
+    /**
+     * The cache of SVG images of the current document.
+     */
+    private SvgProcessingCache svgProcessingCache;
+
     /**
      * The PDF document.
      */
@@ -183,7 +239,11 @@ public class ProcessorContext {
 
         fontProvider = converterProperties.getFontProvider();
         if (fontProvider == null) {
-            fontProvider = new DefaultFontProvider();
+            FontCatalog fontCatalog = converterProperties.getFontCatalog();
+            if (fontCatalog == null) {
+                fontCatalog = FontCatalog.getDefault();
+            }
+            fontProvider = fontCatalog.createFontProvider();
         }
 
         tagWorkerFactory = converterProperties.getTagWorkerFactory();
@@ -206,12 +266,16 @@ public class ProcessorContext {
             outlineHandler = new OutlineHandler();
         }
 
+        metricsListener = converterProperties.getConversionMetricsListener();
+        resourcePrefetchParallelism = converterProperties.getResourcePrefetchParallelism();
+        resourcePrefetchTimeout = converterProperties.getResourcePrefetchTimeout();
         resourceResolver = new HtmlResourceResolver(baseUri, this, converterProperties.getResourceRetriever());
 
         limitOfLayouts = converterProperties.getLimitOfLayouts();
         cssContext = new CssContext();
         cssStyleSheet = null;
         linkContext = new LinkContext();
+        svgProcessingCache = new SvgProcessingCache();
 
         createAcroForm = converterProperties.isCreateAcroForm();
         formFieldNameResolver = new FormFieldNameResolver();
@@ -220,6 +284,11 @@ public class ProcessorContext {
         pdfAConformanceFromProperties = new PdfConformance(converterProperties.getPdfAConformance());
         processingInlineSvg = false;
         continuousContainerEnabled = converterProperties.isContinuousContainerEnabled();
+        cssStyleSheetCache = converterProperties.getCssStyleSheetCache();
+        imageDataCache = converterProperties.getImageDataCache();
+        largeTableBatchSize = converterProperties.getLargeTableBatchSize();
+        reservedPageCountDigits = converterProperties.getReservedPageCountDigits();
+        styleResolvingPool = converterProperties.getStyleResolvingPool();
         for (Map.Entry<Class<?>, Object> entry : converterProperties.getDependencies().entrySet()) {
             diContainer.register(entry.getKey(), entry.getValue());
         }
@@ -342,6 +411,15 @@ public class ProcessorContext {
         return linkContext;
     }
 
+    /**
+     * Gets the cache of SVG images of the current document.
+     *
+     * @return the SVG processing cache
+     */
+    public SvgProcessingCache getSvgProcessingCache() {
+        return svgProcessingCache;
+    }
+
     /**
      * Checks if is an AcroForm needs to be created.
      *
@@ -443,12 +521,14 @@ public class ProcessorContext {
         this.cssContext = new CssContext();
         this.cssStyleSheet = null;
         this.linkContext = new LinkContext();
+        this.svgProcessingCache = new SvgProcessingCache();
         this.formFieldNameResolver.reset();
         //Reset font provider. PdfFonts shall be reseted.
         this.fontProvider.reset();
         this.tempFonts = null;
         this.outlineHandler.reset();
         this.processingInlineSvg = false;
+        this.metricsCollector = metricsListener == null ? null : new ConversionMetricsCollector(metricsListener);
     }
 
     /**
@@ -552,6 +632,87 @@ public class ProcessorContext {
         return cssStyleSheet;
     }
 
+    /**
+     * Gets the cache of parsed style sheets shared across conversions.
+     *
+     * @return the {@link ICssStyleSheetCache} instance or null if there is no cache
+     */
+    public ICssStyleSheetCache getCssStyleSheetCache() {
+        return cssStyleSheetCache;
+    }
+
+    /**
+     * Gets the cache of decoded images shared across conversions.
+     *
+     * @return the {@link IImageDataCache} instance or null if there is no cache
+     */
+    public IImageDataCache getImageDataCache() {
+        return imageDataCache;
+    }
+
+    /**
+     * Gets the listener of the conversion metrics.
+     *
+     * @return the {@link IConversionMetricsListener} instance, or null if the metrics are not collected
+     */
+    public IConversionMetricsListener getMetricsListener() {
+        return metricsListener;
+    }
+
+    /**
+     * Gets the collector of the current conversion metrics. A new collector is created on each reset of the context.
+     *
+     * @return the {@link ConversionMetricsCollector} instance, or null if the metrics are not collected
+     */
+    public ConversionMetricsCollector getMetricsCollector() {
+        return metricsCollector;
+    }
+
+    /**
+     * Gets the number of body rows after which a top-level table is written to the document in batches.
+     *
+     * @return the batch size, or 0 if large table mode is disabled
+     */
+    public int getLargeTableBatchSize() {
+        return largeTableBatchSize;
+    }
+
+    /**
+     * Gets the number of digits reserved for the total number of pages.
+     *
+     * @return the number of reserved digits, or 0 if the total number of pages isn't deferred
+     */
+    public int getReservedPageCountDigits() {
+        return reservedPageCountDigits;
+    }
+
+    /**
+     * Gets the pool on which the style sheet is matched against the document in parallel.
+     *
+     * @return the {@link ForkJoinPool} instance, or null if the styles are resolved sequentially
+     */
+    public ForkJoinPool getStyleResolvingPool() {
+        return styleResolvingPool;
+    }
+
+    /**
+     * Gets the number of external resources which are fetched concurrently before the document is processed.
+     *
+     * @return the number of concurrently fetched resources, or 0 if the resources are fetched when they are used
+     */
+    public int getResourcePrefetchParallelism() {
+        return resourcePrefetchParallelism;
+    }
+
+    /**
+     * Gets the time in milliseconds to wait for a prefetched resource when it's used.
+     *
+     * @return the timeout in milliseconds
+     */
+    public long getResourcePrefetchTimeout() {
+        return resourcePrefetchTimeout;
+    }
+
     /**
      * Gets the DIContainer.
      *
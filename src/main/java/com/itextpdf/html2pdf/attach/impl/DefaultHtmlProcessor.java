@@ -39,6 +39,7 @@ import com.itextpdf.html2pdf.attach.impl.layout.HtmlDocumentRenderer;
 import com.itextpdf.html2pdf.attach.impl.layout.RunningElementContainer;
 import com.itextpdf.html2pdf.attach.impl.tags.HtmlTagWorker;
 import com.itextpdf.html2pdf.attach.impl.tags.RunningElementTagWorker;
+import com.itextpdf.html2pdf.attach.impl.tags.TableTagWorker;
 import com.itextpdf.html2pdf.attach.util.LinkHelper;
 import com.itextpdf.html2pdf.css.CssConstants;
 import com.itextpdf.html2pdf.css.apply.ICssApplier;
@@ -47,8 +48,12 @@ import com.itextpdf.html2pdf.css.apply.util.PageBreakApplierUtil;
 import com.itextpdf.html2pdf.css.apply.util.TextDecorationApplierUtil;
 import com.itextpdf.html2pdf.css.resolve.DefaultCssResolver;
 import com.itextpdf.html2pdf.exceptions.Html2PdfException;
+import com.itextpdf.html2pdf.html.DocumentIndex;
 import com.itextpdf.html2pdf.html.TagConstants;
 import com.itextpdf.html2pdf.logs.Html2PdfLogMessageConstant;
+import com.itextpdf.html2pdf.metrics.ConversionMetricsCollector;
+import com.itextpdf.html2pdf.metrics.ConversionPhase;
+import com.itextpdf.html2pdf.resolver.resource.HtmlResourceResolver;
 import com.itextpdf.io.font.FontProgram;
 import com.itextpdf.io.font.FontProgramFactory;
 import com.itextpdf.io.font.PdfEncodings;
@@ -66,6 +71,7 @@ import com.itextpdf.layout.renderer.DocumentRenderer;
 import com.itextpdf.layout.renderer.MetaInfoContainer;
 import com.itextpdf.styledxmlparser.css.CssDeclaration;
 import com.itextpdf.styledxmlparser.css.CssFontFaceRule;
+import com.itextpdf.styledxmlparser.css.CssStyleSheet;
 import com.itextpdf.styledxmlparser.css.ICssResolver;
 import com.itextpdf.styledxmlparser.css.font.CssFontFace;
 import com.itextpdf.styledxmlparser.css.pseudo.CssPseudoElementNode;
@@ -80,7 +86,6 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -143,13 +148,30 @@ public class DefaultHtmlProcessor implements IHtmlProcessor {
      */
     private ICssResolver cssResolver;
 
+    /**
+     * The styles compiled from a template, or null if the styles are collected from each processed document.
+     */
+    private final PrecompiledStyles precompiledStyles;
+
     /**
      * Instantiates a new default html processor.
      *
      * @param converterProperties the converter properties
      */
     public DefaultHtmlProcessor(ConverterProperties converterProperties) {
+        this(converterProperties, null);
+    }
+
+    /**
+     * Instantiates a new default html processor which uses the styles compiled from a template
+     * instead of collecting them from each processed document.
+     *
+     * @param converterProperties the converter properties
+     * @param precompiledStyles   the styles compiled from a template, or null to collect them from the document
+     */
+    public DefaultHtmlProcessor(ConverterProperties converterProperties, PrecompiledStyles precompiledStyles) {
         this.context = ProcessorContextCreator.createProcessorContext(converterProperties);
+        this.precompiledStyles = precompiledStyles;
     }
 
     /**
@@ -186,18 +208,29 @@ public class DefaultHtmlProcessor implements IHtmlProcessor {
 
         context.reset();
         roots = new ArrayList<>();
-        cssResolver = new DefaultCssResolver(root, context);
+        prefetchResources(root);
+        startPhase(ConversionPhase.CSS_COLLECTING);
+        DocumentIndex documentIndex = new DocumentIndex(root);
+        cssResolver = createCssResolver(documentIndex);
         context.setCssStyleSheet(((DefaultCssResolver) cssResolver).getCssStyleSheet());
-        context.getLinkContext().scanForIds(root);
+        scanForIds(root, documentIndex);
+        finishPhase(ConversionPhase.CSS_COLLECTING);
+        prefetchResources(context.getCssStyleSheet());
+        startPhase(ConversionPhase.FONT_FACE_LOADING);
         addFontFaceFonts();
-        IElementNode html = findHtmlNode(root);
-        IElementNode body = findBodyNode(root);
+        finishPhase(ConversionPhase.FONT_FACE_LOADING);
+        IElementNode html = documentIndex.getHtmlNode();
+        IElementNode body = documentIndex.getBodyNode();
+        collectRuleSetsInParallel(html);
 
         // Force resolve styles to fetch default font size etc
         html.setStyles(cssResolver.resolveStyles(html, context.getCssContext()));
 
         // visit body
+        startPhase(ConversionPhase.TRAVERSAL);
         visit(body);
+        finishPhase(ConversionPhase.TRAVERSAL);
+        clearMatchedRuleSets();
 
         Div bodyDiv = (Div) roots.get(0);
         List<com.itextpdf.layout.element.IElement> elements = new ArrayList<>();
@@ -211,9 +244,13 @@ public class DefaultHtmlProcessor implements IHtmlProcessor {
         }
         cssResolver = null;
         roots = null;
+        finishPrefetching();
         for (IElement element : elements) {
             updateSequenceId(element, sequenceId);
         }
+        if (context.getMetricsCollector() != null) {
+            context.getMetricsCollector().finishConversion();
+        }
         return elements;
     }
 
@@ -230,41 +267,133 @@ public class DefaultHtmlProcessor implements IHtmlProcessor {
             throw new Html2PdfException(Html2PdfException.FONT_PROVIDER_CONTAINS_ZERO_FONTS);
         }
         roots = new ArrayList<>();
-        cssResolver = new DefaultCssResolver(root, context);
+        prefetchResources(root);
+        startPhase(ConversionPhase.CSS_COLLECTING);
+        DocumentIndex documentIndex = new DocumentIndex(root);
+        cssResolver = createCssResolver(documentIndex);
         context.setCssStyleSheet(((DefaultCssResolver) cssResolver).getCssStyleSheet());
-        context.getLinkContext().scanForIds(root);
+        scanForIds(root, documentIndex);
+        finishPhase(ConversionPhase.CSS_COLLECTING);
+        prefetchResources(context.getCssStyleSheet());
+        startPhase(ConversionPhase.FONT_FACE_LOADING);
         addFontFaceFonts();
-        root = findHtmlNode(root);
+        finishPhase(ConversionPhase.FONT_FACE_LOADING);
+        root = documentIndex.getHtmlNode();
 
-        if (context.getCssContext().isNonPagesTargetCounterPresent()) {
+        // target-counter() can only refer to an element by its id, so without ids there is nothing to preprocess
+        if (context.getCssContext().isNonPagesTargetCounterPresent() && !documentIndex.getIds().isEmpty()) {
+            startPhase(ConversionPhase.TARGET_COUNTERS_PROCESSING);
             visitToProcessCounters(root);
             context.getCssContext().getCounterManager().clearManager();
+            finishPhase(ConversionPhase.TARGET_COUNTERS_PROCESSING);
+        } else {
+            // The elements are already matched against the style sheet while target-counters are preprocessed
+            collectRuleSetsInParallel((IElementNode) root);
         }
+        startPhase(ConversionPhase.TRAVERSAL);
         visit(root);
+        finishPhase(ConversionPhase.TRAVERSAL);
+        clearMatchedRuleSets();
         HtmlDocument doc = (HtmlDocument) roots.get(0);
+        doc.setMetricsCollector(context.getMetricsCollector());
         // TODO DEVSIX-4261 more precise check if a counter was actually added to the document
-        if (context.getCssContext().isPagesCounterPresent()) {
+        if (context.getCssContext().isPagesCounterPresent() && !isPageCountDeferred(doc)) {
             if (doc.getRenderer() instanceof HtmlDocumentRenderer) {
+                startPhase(ConversionPhase.RELAYOUT);
                 ((HtmlDocumentRenderer) doc.getRenderer()).processWaitingElement();
                 int counter = 0;
                 do {
                     ++counter;
                     doc.relayout();
+                    if (context.getMetricsCollector() != null) {
+                        context.getMetricsCollector().onRelayout();
+                    }
                     if (counter >= context.getLimitOfLayouts()) {
                         logger.warn(MessageFormatUtil.format(
                                 Html2PdfLogMessageConstant.EXCEEDED_THE_MAXIMUM_NUMBER_OF_RELAYOUTS));
                         break;
                     }
                 } while (((DocumentRenderer) doc.getRenderer()).isRelayoutRequired());
+                finishPhase(ConversionPhase.RELAYOUT);
             } else {
                 logger.warn(Html2PdfLogMessageConstant.CUSTOM_RENDERER_IS_SET_FOR_HTML_DOCUMENT);
             }
         }
         cssResolver = null;
         roots = null;
+        finishPrefetching();
         return doc;
     }
 
+    /**
+     * Collects the internal link targets of the whole DOM tree, taking them from the index if it covers the whole tree.
+     *
+     * @param root          the root node
+     * @param documentIndex the index of the root node
+     */
+    private void scanForIds(INode root, DocumentIndex documentIndex) {
+        if (root.parentNode() == null) {
+            context.getLinkContext().scanForIds(documentIndex);
+        } else {
+            context.getLinkContext().scanForIds(root);
+        }
+    }
+
+    /**
+     * Stops the threads fetching the resources in the background, if prefetching is enabled.
+     */
+    private void finishPrefetching() {
+        if (context.getResourceResolver() instanceof HtmlResourceResolver) {
+            ((HtmlResourceResolver) context.getResourceResolver()).finishPrefetching();
+        }
+    }
+
+    /**
+     * Starts fetching the resources referenced by the document in the background, if prefetching is enabled.
+     *
+     * @param root the root node
+     */
+    private void prefetchResources(INode root) {
+        if (context.getResourceResolver() instanceof HtmlResourceResolver) {
+            ((HtmlResourceResolver) context.getResourceResolver()).prefetchResources(root);
+        }
+    }
+
+    /**
+     * Starts fetching the resources referenced by the style sheet in the background, if prefetching is enabled.
+     *
+     * @param styleSheet the style sheet
+     */
+    private void prefetchResources(CssStyleSheet styleSheet) {
+        if (styleSheet != null && context.getResourceResolver() instanceof HtmlResourceResolver) {
+            ((HtmlResourceResolver) context.getResourceResolver()).prefetchResources(styleSheet,
+                    context.getDeviceDescription());
+        }
+    }
+
+    /**
+     * Matches the elements of the document against the style sheet in parallel, if a pool is set for that.
+     *
+     * @param root the root element
+     */
+    private void collectRuleSetsInParallel(IElementNode root) {
+        if (root == null || context.getStyleResolvingPool() == null || !(cssResolver instanceof DefaultCssResolver)) {
+            return;
+        }
+        startPhase(ConversionPhase.SELECTOR_MATCHING);
+        ((DefaultCssResolver) cssResolver).collectRuleSetsInParallel(root, context.getStyleResolvingPool());
+        finishPhase(ConversionPhase.SELECTOR_MATCHING);
+    }
+
+    /**
+     * Drops the rule sets matched in advance for the elements which haven't been resolved while traversing.
+     */
+    private void clearMatchedRuleSets() {
+        if (cssResolver instanceof DefaultCssResolver) {
+            ((DefaultCssResolver) cssResolver).clearMatchedRuleSets();
+        }
+    }
+
     /**
      * Recursively processes a node to preprocess target-counters.
      *
@@ -296,7 +425,7 @@ public class DefaultHtmlProcessor implements IHtmlProcessor {
     private void visit(INode node) {
         if (node instanceof IElementNode) {
             IElementNode element = (IElementNode) node;
-            element.setStyles(cssResolver.resolveStyles(element, context.getCssContext()));
+            resolveStyles(element);
             if (!isDisplayable(element)) {
                 return;
             }
@@ -340,11 +469,17 @@ public class DefaultHtmlProcessor implements IHtmlProcessor {
 
             if (tagWorker != null) {
                 tagWorker.processEnd(element, context);
-                LinkHelper.createDestination(tagWorker, element, context);
+                // A large table is styled and gets its destination before it's added to the document
+                boolean largeTable = tagWorker instanceof TableTagWorker
+                        && ((TableTagWorker) tagWorker).isLargeTableAddedToDocument();
+                if (!largeTable) {
+                    LinkHelper.createDestination(tagWorker, element, context);
+                }
                 context.getOutlineHandler().setDestinationToElement(tagWorker, element);
                 context.getState().pop();
 
-                if (!TagConstants.BODY.equals(element.name()) && !TagConstants.HTML.equals(element.name())) {
+                if (!largeTable && !TagConstants.BODY.equals(element.name())
+                        && !TagConstants.HTML.equals(element.name())) {
                     runApplier(element, tagWorker);
                 }
                 if (!context.getState().empty()) {
@@ -390,6 +525,19 @@ public class DefaultHtmlProcessor implements IHtmlProcessor {
         }
     }
 
+    /**
+     * Creates the CSS resolver of the document, reusing the precompiled styles if there are any.
+     *
+     * @param documentIndex the index of the document
+     * @return the CSS resolver
+     */
+    private DefaultCssResolver createCssResolver(DocumentIndex documentIndex) {
+        if (precompiledStyles != null) {
+            return new DefaultCssResolver(precompiledStyles.getCssResolver(), context);
+        }
+        return new DefaultCssResolver(documentIndex, context);
+    }
+
     private void runApplier(IElementNode element, ITagWorker tagWorker) {
         ICssApplier cssApplier = context.getCssApplierFactory().getCssApplier(element);
         if (cssApplier == null) {
@@ -397,8 +545,51 @@ public class DefaultHtmlProcessor implements IHtmlProcessor {
                 logger.error(MessageFormatUtil.format(
                         Html2PdfLogMessageConstant.NO_CSS_APPLIER_FOUND_FOR_TAG, element.name()));
             }
+        } else if (context.getMetricsCollector() == null) {
+            cssApplier.apply(context, element, tagWorker);
         } else {
+            long start = System.nanoTime();
             cssApplier.apply(context, element, tagWorker);
+            context.getMetricsCollector().addPhaseDuration(ConversionPhase.CSS_APPLYING, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Resolves the styles of an element processed by the traversal.
+     *
+     * @param element the element
+     */
+    private void resolveStyles(IElementNode element) {
+        ConversionMetricsCollector metricsCollector = context.getMetricsCollector();
+        if (metricsCollector == null) {
+            element.setStyles(cssResolver.resolveStyles(element, context.getCssContext()));
+        } else {
+            long start = System.nanoTime();
+            element.setStyles(cssResolver.resolveStyles(element, context.getCssContext()));
+            metricsCollector.addPhaseDuration(ConversionPhase.STYLE_RESOLVING, System.nanoTime() - start);
+            metricsCollector.onElementProcessed();
+        }
+    }
+
+    /**
+     * Starts measuring a conversion phase if the metrics are collected.
+     *
+     * @param phase the phase
+     */
+    private void startPhase(ConversionPhase phase) {
+        if (context.getMetricsCollector() != null) {
+            context.getMetricsCollector().startPhase(phase);
+        }
+    }
+
+    /**
+     * Finishes measuring a conversion phase if the metrics are collected.
+     *
+     * @param phase the phase
+     */
+    private void finishPhase(ConversionPhase phase) {
+        if (context.getMetricsCollector() != null) {
+            context.getMetricsCollector().finishPhase(phase);
         }
     }
 
@@ -472,6 +663,12 @@ public class DefaultHtmlProcessor implements IHtmlProcessor {
                 return false;
             }
         } else {
+            FontProgram precompiledFont = precompiledStyles == null ? null
+                    : precompiledStyles.getFontProgram(src.getSrc());
+            if (precompiledFont != null) {
+                context.addTemporaryFont(precompiledFont, PdfEncodings.IDENTITY_H, fontFamily, unicodeRange);
+                return true;
+            }
             try {
                 // Cache at resource resolver level only, at font level we will create font in any case.
                 // The instance of fontProgram will be collected by GC if the is no need in it.
@@ -518,51 +715,6 @@ public class DefaultHtmlProcessor implements IHtmlProcessor {
         return new CssPseudoElementNode(node, pseudoElementName);
     }
 
-    /**
-     * Find an element in a node.
-     *
-     * @param node    the node
-     * @param tagName the tag name
-     * @return the element node
-     */
-    private IElementNode findElement(INode node, String tagName) {
-        LinkedList<INode> q = new LinkedList<>();
-        q.add(node);
-        while (!q.isEmpty()) {
-            INode currentNode = q.getFirst();
-            q.removeFirst();
-            if (currentNode instanceof IElementNode && ((IElementNode) currentNode).name().equals(tagName)) {
-                return (IElementNode) currentNode;
-            }
-            for (INode child : currentNode.childNodes()) {
-                if (child instanceof IElementNode) {
-                    q.add(child);
-                }
-            }
-        }
-        return null;
-    }
-
-    /**
-     * Find the HTML node.
-     *
-     * @param node the node
-     * @return the i element node
-     */
-    private IElementNode findHtmlNode(INode node) {
-        return findElement(node, TagConstants.HTML);
-    }
-
-    /**
-     * Find the BODY node.
-     *
-     * @param node the node
-     * @return the i element node
-     */
-    private IElementNode findBodyNode(INode node) {
-        return findElement(node, TagConstants.BODY);
-    }
-
     /**
      * Checks if an element should be displayed.
      *
@@ -603,6 +755,12 @@ public class DefaultHtmlProcessor implements IHtmlProcessor {
         return element instanceof CssPseudoElementNode && CssConstants.PLACEHOLDER.equals(((CssPseudoElementNode) element).getPseudoElementName());
     }
 
+    private static boolean isPageCountDeferred(HtmlDocument doc) {
+        // The total number of pages is written into the reserved space on close, so no relayout is needed
+        return doc.getRenderer() instanceof HtmlDocumentRenderer
+                && ((HtmlDocumentRenderer) doc.getRenderer()).isPageCountDeferred();
+    }
+
     private static void updateSequenceId(IElement element, SequenceId sequenceId) {
         if (element instanceof AbstractIdentifiableElement) {
             final AbstractIdentifiableElement identifiableElement = (AbstractIdentifiableElement) element;
@@ -22,17 +22,14 @@
  */
 package com.itextpdf.html2pdf.attach.impl;
 
-import com.itextpdf.html2pdf.html.AttributeConstants;
-import com.itextpdf.html2pdf.html.TagConstants;
+import com.itextpdf.html2pdf.html.DocumentIndex;
 import com.itextpdf.kernel.pdf.annot.PdfLinkAnnotation;
-import com.itextpdf.styledxmlparser.node.IElementNode;
 import com.itextpdf.styledxmlparser.node.INode;
 
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
-import java.util.Stack;
 
 /**
  * This class keeps track of information regarding link (destinations) that occur in the document.
@@ -67,31 +64,24 @@ public class LinkContext {
      * @return this LinkContext
      */
     public LinkContext scanForIds(INode root) {
-        // clear previous
-        linkDestinations.clear();
-
         // expensive scan operation
         while (root.parentNode() != null) {
             root = root.parentNode();
         }
 
-        Stack<INode> stk = new Stack<>();
-        stk.push(root);
-        while (!stk.isEmpty()) {
-            INode n = stk.pop();
-            if (n instanceof IElementNode) {
-                IElementNode elem = (IElementNode) n;
-                if (TagConstants.A.equals(elem.name())) {
-                    String href = elem.getAttribute(AttributeConstants.HREF);
-                    if (href != null && href.startsWith("#")){
-                        linkDestinations.add(href.substring(1));
-                    }
-                }
-            }
-            if (!n.childNodes().isEmpty()) {
-                stk.addAll(n.childNodes());
-            }
-        }
+        return scanForIds(new DocumentIndex(root));
+    }
+
+    /**
+     * Takes the (internal) link targets from an index of the whole DOM tree instead of scanning the tree again
+     *
+     * @param documentIndex the index of the DOM tree
+     * @return this LinkContext
+     */
+    public LinkContext scanForIds(DocumentIndex documentIndex) {
+        // clear previous
+        linkDestinations.clear();
+        linkDestinations.addAll(documentIndex.getLinkDestinations());
 
         return this;
     }
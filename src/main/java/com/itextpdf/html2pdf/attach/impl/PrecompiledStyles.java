@@ -0,0 +1,145 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2025 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.html2pdf.attach.impl;
+
+import com.itextpdf.commons.utils.MessageFormatUtil;
+import com.itextpdf.html2pdf.ConverterProperties;
+import com.itextpdf.html2pdf.ProcessorContextCreator;
+import com.itextpdf.html2pdf.attach.ProcessorContext;
+import com.itextpdf.html2pdf.css.resolve.DefaultCssResolver;
+import com.itextpdf.html2pdf.logs.Html2PdfLogMessageConstant;
+import com.itextpdf.io.font.FontProgram;
+import com.itextpdf.io.font.FontProgramFactory;
+import com.itextpdf.styledxmlparser.css.CssFontFaceRule;
+import com.itextpdf.styledxmlparser.css.font.CssFontFace;
+import com.itextpdf.styledxmlparser.node.INode;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The styles of an HTML template which are collected once and reused by the conversions of documents
+ * based on that template: the parsed and indexed style sheets, the results of the style sheet analysis
+ * and the font programs of the {@code @font-face} rules.
+ *
+ * <p>
+ * Instances are immutable and can be shared between threads.
+ */
+public final class PrecompiledStyles {
+
+    /**
+     * The logger instance.
+     */
+    private static final Logger LOGGER = LoggerFactory.getLogger(PrecompiledStyles.class);
+
+    /**
+     * The resolver which holds the collected and indexed style sheet.
+     */
+    private final DefaultCssResolver cssResolver;
+
+    /**
+     * The font programs of the {@code @font-face} rules keyed by the font source.
+     */
+    private final Map<String, FontProgram> fontPrograms;
+
+    private PrecompiledStyles(DefaultCssResolver cssResolver, Map<String, FontProgram> fontPrograms) {
+        this.cssResolver = cssResolver;
+        this.fontPrograms = Collections.unmodifiableMap(fontPrograms);
+    }
+
+    /**
+     * Collects the styles of the HTML template.
+     *
+     * @param root                the root node of the HTML template
+     * @param converterProperties the {@link ConverterProperties} which will be used for the conversions
+     * @return the {@link PrecompiledStyles} instance
+     */
+    public static PrecompiledStyles compile(INode root, ConverterProperties converterProperties) {
+        ProcessorContext context = ProcessorContextCreator.createProcessorContext(converterProperties);
+        DefaultCssResolver cssResolver = new DefaultCssResolver(root, context);
+        Map<String, FontProgram> fontPrograms = new HashMap<>();
+        for (CssFontFaceRule fontFace : cssResolver.getFonts()) {
+            CssFontFace ff = CssFontFace.create(fontFace.getProperties());
+            if (ff == null) {
+                continue;
+            }
+            for (CssFontFace.CssFontFaceSrc src : ff.getSources()) {
+                // Local fonts depend on the font provider of the conversion, they are looked up each time
+                if (!CssFontFace.isSupportedFontFormat(src.getFormat()) || src.isLocal()) {
+                    continue;
+                }
+                FontProgram fontProgram = createFontProgram(context, src.getSrc());
+                if (fontProgram != null) {
+                    fontPrograms.put(src.getSrc(), fontProgram);
+                    break;
+                }
+            }
+        }
+        return new PrecompiledStyles(cssResolver, fontPrograms);
+    }
+
+    /**
+     * Gets the resolver which holds the collected and indexed style sheet of the template.
+     * It shall be used only to create per-document resolvers via
+     * {@link DefaultCssResolver#DefaultCssResolver(DefaultCssResolver, com.itextpdf.html2pdf.css.resolve.CssContext)}.
+     *
+     * @return the {@link DefaultCssResolver} instance
+     */
+    public DefaultCssResolver getCssResolver() {
+        return cssResolver;
+    }
+
+    /**
+     * Gets the font program loaded for the {@code @font-face} source.
+     *
+     * @param src the font source
+     * @return the {@link FontProgram} instance or null if the font has not been loaded
+     */
+    public FontProgram getFontProgram(String src) {
+        return fontPrograms.get(src);
+    }
+
+    /**
+     * Loads the font program of a {@code @font-face} source.
+     *
+     * @param context the processor context
+     * @param src     the font source
+     * @return the {@link FontProgram} instance or null if the font can't be retrieved or parsed, in which case
+     * the next source is tried, and the font is looked up again by each conversion
+     */
+    private static FontProgram createFontProgram(ProcessorContext context, String src) {
+        byte[] bytes = context.getResourceResolver().retrieveBytesFromResource(src);
+        if (bytes == null) {
+            return null;
+        }
+        try {
+            return FontProgramFactory.createFont(bytes, false);
+        } catch (Exception e) {
+            LOGGER.warn(MessageFormatUtil.format(Html2PdfLogMessageConstant.UNABLE_TO_RETRIEVE_FONT, src), e);
+            return null;
+        }
+    }
+}
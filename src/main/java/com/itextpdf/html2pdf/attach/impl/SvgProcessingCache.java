@@ -0,0 +1,257 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2025 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.html2pdf.attach.impl;
+
+import com.itextpdf.html2pdf.attach.ProcessorContext;
+import com.itextpdf.html2pdf.util.ContentHashUtil;
+import com.itextpdf.styledxmlparser.css.CssNestedAtRule;
+import com.itextpdf.styledxmlparser.css.CssRuleSet;
+import com.itextpdf.styledxmlparser.css.CssStatement;
+import com.itextpdf.styledxmlparser.css.CssStyleSheet;
+import com.itextpdf.styledxmlparser.css.selector.AbstractCssSelector;
+import com.itextpdf.styledxmlparser.css.selector.ICssSelector;
+import com.itextpdf.styledxmlparser.css.selector.item.CssPseudoClassSelectorItem;
+import com.itextpdf.styledxmlparser.css.selector.item.CssSeparatorSelectorItem;
+import com.itextpdf.styledxmlparser.css.selector.item.ICssSelectorItem;
+import com.itextpdf.styledxmlparser.node.IAttribute;
+import com.itextpdf.styledxmlparser.node.IDataNode;
+import com.itextpdf.styledxmlparser.node.IElementNode;
+import com.itextpdf.styledxmlparser.node.INode;
+import com.itextpdf.styledxmlparser.node.ITextNode;
+import com.itextpdf.svg.processors.ISvgProcessorResult;
+import com.itextpdf.svg.xobject.SvgImageXObject;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * This class keeps SVG processing results and generated SVG XObjects of the current document, so that an SVG
+ * image repeated many times in the document is processed only once and, if it's absolutely sized, is written
+ * to the PDF only once.
+ * <p>
+ * SVG images are identified by the hash of their normalized source together with the font size and the
+ * root font size of the CSS context. For inline {@code <svg>} elements the ancestors and the inherited
+ * styles of the element are taken into account as well, because the document style sheet is applied to
+ * the SVG content.
+ * <p>
+ * This class is not reusable and a new instance shall be created for every new conversion process.
+ */
+public class SvgProcessingCache {
+
+    /**
+     * The pseudo-classes which match an element depending on its siblings or content.
+     * {@code :not()} is included, because its argument may be any of them.
+     */
+    private static final Set<String> POSITION_DEPENDENT_PSEUDO_CLASSES = new HashSet<>(Arrays.asList(
+            "nth-child", "nth-last-child", "nth-of-type", "nth-last-of-type", "first-child", "last-child",
+            "first-of-type", "last-of-type", "only-child", "only-of-type", "not", "empty"));
+
+    private final Map<String, ISvgProcessorResult> processingResults = new HashMap<>();
+
+    private final Map<String, SvgImageXObject> xObjects = new HashMap<>();
+
+    private CssStyleSheet checkedStyleSheet;
+
+    private boolean inlineSvgCachingAllowed;
+
+    /**
+     * Creates a new {@link SvgProcessingCache} instance.
+     */
+    public SvgProcessingCache() {
+        // empty constructor
+    }
+
+    /**
+     * Creates the key of the SVG image defined by the SVG document source.
+     *
+     * @param svgSource the SVG source, e.g. the data URI
+     * @param context   the processor context
+     * @return the cache key
+     */
+    public String createKey(String svgSource, ProcessorContext context) {
+        StringBuilder sb = new StringBuilder(svgSource.trim());
+        appendCssContext(sb, context);
+        return ContentHashUtil.hash(sb.toString());
+    }
+
+    /**
+     * Creates the key of the inline {@code <svg>} element.
+     *
+     * @param svgElement the {@code <svg>} element
+     * @param context    the processor context
+     * @return the cache key, or null if the processing result of the element shall not be cached
+     */
+    public String createKey(IElementNode svgElement, ProcessorContext context) {
+        if (svgElement == null || !isInlineSvgCachingAllowed(context.getCssStyleSheet())) {
+            return null;
+        }
+        StringBuilder sb = new StringBuilder();
+        appendNode(sb, svgElement);
+        // Document styles may match SVG content by ancestors' names and attributes
+        for (INode ancestor = svgElement.parentNode(); ancestor instanceof IElementNode;
+                ancestor = ancestor.parentNode()) {
+            appendElementStart(sb, (IElementNode) ancestor);
+        }
+        if (svgElement.getStyles() != null) {
+            sb.append(new TreeMap<>(svgElement.getStyles()));
+        }
+        appendCssContext(sb, context);
+        return ContentHashUtil.hash(sb.toString());
+    }
+
+    /**
+     * Gets the cached SVG processing result.
+     *
+     * @param key the cache key
+     * @return the {@link ISvgProcessorResult} instance, or null if there is no such result
+     */
+    public ISvgProcessorResult getProcessingResult(String key) {
+        return processingResults.get(key);
+    }
+
+    /**
+     * Puts the SVG processing result to the cache.
+     *
+     * @param key              the cache key
+     * @param processingResult the {@link ISvgProcessorResult} instance
+     */
+    public void putProcessingResult(String key, ISvgProcessorResult processingResult) {
+        processingResults.put(key, processingResult);
+    }
+
+    /**
+     * Gets the cached SVG XObject.
+     *
+     * @param key the cache key
+     * @return the {@link SvgImageXObject} instance, or null if there is no such XObject
+     */
+    public SvgImageXObject getXObject(String key) {
+        return xObjects.get(key);
+    }
+
+    /**
+     * Puts the SVG XObject to the cache if it can be reused.
+     * <p>
+     * Only absolutely sized XObjects of the current PDF document are cached, because relatively
+     * sized ones are generated during layout for the available area.
+     *
+     * @param key     the cache key
+     * @param xObject the {@link SvgImageXObject} instance
+     * @param context the processor context
+     */
+    public void putXObject(String key, SvgImageXObject xObject, ProcessorContext context) {
+        if (context.getPdfDocument() != null && !xObject.isRelativeSized()) {
+            xObjects.put(key, xObject);
+        }
+    }
+
+    private boolean isInlineSvgCachingAllowed(CssStyleSheet styleSheet) {
+        if (styleSheet != checkedStyleSheet) {
+            checkedStyleSheet = styleSheet;
+            inlineSvgCachingAllowed = styleSheet == null
+                    || !containsPositionDependentSelectors(styleSheet.getStatements());
+        }
+        return inlineSvgCachingAllowed;
+    }
+
+    private static boolean containsPositionDependentSelectors(List<CssStatement> statements) {
+        for (CssStatement statement : statements) {
+            if (statement instanceof CssNestedAtRule) {
+                if (containsPositionDependentSelectors(((CssNestedAtRule) statement).getStatements())) {
+                    return true;
+                }
+            } else if (statement instanceof CssRuleSet
+                    && isPositionDependent(((CssRuleSet) statement).getSelector())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if a selector matches an element depending on its siblings or content: it has a sibling
+     * combinator or a structural pseudo-class.
+     *
+     * @param selector the selector
+     * @return true if the selector is position dependent or can't be inspected
+     */
+    private static boolean isPositionDependent(ICssSelector selector) {
+        if (!(selector instanceof AbstractCssSelector)) {
+            return true;
+        }
+        for (ICssSelectorItem item : ((AbstractCssSelector) selector).getSelectorItems()) {
+            if (item instanceof CssSeparatorSelectorItem) {
+                char separator = ((CssSeparatorSelectorItem) item).getSeparator();
+                if (separator == '+' || separator == '~') {
+                    return true;
+                }
+            } else if (item instanceof CssPseudoClassSelectorItem && POSITION_DEPENDENT_PSEUDO_CLASSES
+                    .contains(((CssPseudoClassSelectorItem) item).getPseudoClass())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void appendCssContext(StringBuilder sb, ProcessorContext context) {
+        sb.append('|').append(context.getCssContext().getCurrentFontSize())
+                .append('|').append(context.getCssContext().getRootFontSize());
+    }
+
+    private static void appendNode(StringBuilder sb, INode node) {
+        if (node instanceof IElementNode) {
+            IElementNode element = (IElementNode) node;
+            appendElementStart(sb, element);
+            for (INode child : element.childNodes()) {
+                appendNode(sb, child);
+            }
+            sb.append("</>");
+        } else if (node instanceof ITextNode) {
+            appendLengthPrefixed(sb, ((ITextNode) node).wholeText());
+        } else if (node instanceof IDataNode) {
+            appendLengthPrefixed(sb, ((IDataNode) node).getWholeData());
+        }
+    }
+
+    private static void appendElementStart(StringBuilder sb, IElementNode element) {
+        sb.append('<').append(element.name());
+        for (IAttribute attribute : element.getAttributes()) {
+            sb.append(' ').append(attribute.getKey()).append('=');
+            appendLengthPrefixed(sb, attribute.getValue());
+        }
+        sb.append('>');
+    }
+
+    private static void appendLengthPrefixed(StringBuilder sb, String value) {
+        if (value == null) {
+            sb.append('-');
+        } else {
+            sb.append(value.length()).append(':').append(value);
+        }
+    }
+}
@@ -29,6 +29,7 @@ import com.itextpdf.kernel.geom.Rectangle;
 import com.itextpdf.kernel.pdf.PdfPage;
 import com.itextpdf.kernel.pdf.canvas.PdfCanvas;
 import com.itextpdf.kernel.pdf.tagging.StandardRoles;
+import com.itextpdf.kernel.pdf.xobject.PdfFormXObject;
 import com.itextpdf.layout.Canvas;
 import com.itextpdf.layout.borders.Border;
 import com.itextpdf.layout.element.Div;
@@ -48,6 +49,16 @@ class HtmlBodyStylesApplierHandler extends AbstractPdfDocumentEventHandler {
     private final Map<Integer, PageStylesProperties> pageStylesPropertiesMap;
     private PdfCanvas pdfCanvas;
 
+    /**
+     * The backgrounds and borders which are the same on every page of a page context, drawn once per processor.
+     */
+    private final Map<PageContextProcessor, StaticPageBackground> staticBackgrounds = new HashMap<>();
+
+    /**
+     * The form XObject which is being drawn instead of the page, or null if the page is drawn on directly.
+     */
+    private PdfFormXObject recordedBackground;
+
     /**
      * Constructor for HtmlBodyStylesApplierHandler.
      *
@@ -76,13 +87,60 @@ class HtmlBodyStylesApplierHandler extends AbstractPdfDocumentEventHandler {
             return;
         }
         PageContextProcessor contextProcessor = htmlDocumentRenderer.getPageProcessor(pageNumber);
-        pdfCanvas = contextProcessor.drawPageBackground(page);
-        applyHtmlBodyStyles(page, contextProcessor.computeLayoutMargins(), pageProperties.styles, pageNumber);
+        // Tagged backgrounds are marked as artifacts on each page separately, so they can't be shared between pages
+        if (page.getDocument().isTagged()) {
+            if (contextProcessor.hasPageBackground()) {
+                contextProcessor.drawPageBackground(page, getPdfCanvas(page));
+            }
+            applyHtmlBodyStyles(page, contextProcessor.computeLayoutMargins(), pageProperties.styles, pageNumber,
+                    true, true);
+        } else {
+            StaticPageBackground staticBackground = staticBackgrounds.get(contextProcessor);
+            if (staticBackground == null || !staticBackground.isApplicableTo(page, pageProperties.styles)) {
+                staticBackground = drawStaticBackground(page, contextProcessor, pageProperties.styles, pageNumber);
+                staticBackgrounds.put(contextProcessor, staticBackground);
+            }
+            if (staticBackground.xObject != null) {
+                getPdfCanvas(page).addXObjectWithTransformationMatrix(staticBackground.xObject, 1, 0, 0, 1, 0, 0);
+            }
+            applyHtmlBodyStyles(page, contextProcessor.computeLayoutMargins(), pageProperties.styles, pageNumber,
+                    false, true);
+        }
+        pdfCanvas = null;
+    }
+
+    /**
+     * Draws the page background and the html and body styles which don't depend on the page content
+     * into a form XObject of the page size.
+     */
+    private StaticPageBackground drawStaticBackground(PdfPage page, PageContextProcessor contextProcessor,
+            BodyHtmlStylesContainer[] styles, int pageNumber) {
+        Rectangle mediaBox = page.getMediaBox();
+        recordedBackground = new PdfFormXObject(mediaBox);
+        if (contextProcessor.hasPageBackground()) {
+            contextProcessor.drawPageBackground(page, getPdfCanvas(page));
+        }
+        applyHtmlBodyStyles(page, contextProcessor.computeLayoutMargins(), styles, pageNumber, true, false);
+        // Nothing has been drawn if the canvas hasn't been created, in which case there is nothing to stamp
+        PdfFormXObject xObject = pdfCanvas == null ? null : recordedBackground;
+        recordedBackground = null;
         pdfCanvas = null;
+        return new StaticPageBackground(mediaBox, styles, xObject);
     }
 
-    private void applyHtmlBodyStyles(PdfPage page, float[] margins, BodyHtmlStylesContainer[] styles, int pageNumber) {
-        int firstBackground = applyFirstBackground(page, margins, styles, pageNumber);
+    private PdfCanvas getPdfCanvas(PdfPage page) {
+        if (pdfCanvas == null) {
+            pdfCanvas = recordedBackground == null
+                    ? new PdfCanvas(page.newContentStreamBefore(), page.getResources(), page.getDocument())
+                    : new PdfCanvas(recordedBackground, page.getDocument());
+        }
+        return pdfCanvas;
+    }
+
+    private void applyHtmlBodyStyles(PdfPage page, float[] margins, BodyHtmlStylesContainer[] styles, int pageNumber,
+            boolean drawStatic, boolean drawContentDependent) {
+        int firstBackground = drawStatic ? applyFirstBackground(page, margins, styles, pageNumber)
+                : getFirstBackground(styles);
         boolean htmlHasBackground = false;
         for (int i = 0; i < 2; i++) {
             if (styles[i] != null) {
@@ -90,7 +148,8 @@ class HtmlBodyStylesApplierHandler extends AbstractPdfDocumentEventHandler {
                     htmlHasBackground = styles[0] != null && (styles[0].hasOwnProperty(Property.BACKGROUND)
                             || styles[0].hasOwnProperty(Property.BACKGROUND_IMAGE));
                 }
-                if (styles[i].hasContentToDraw()) {
+                // Body area is shrunk to the content of the page if html has its own background
+                if (styles[i].hasContentToDraw() && (htmlHasBackground ? drawContentDependent : drawStatic)) {
                     drawSimulatedDiv(page, styles[i].properties, margins, firstBackground != i,
                             pageNumber, htmlHasBackground);
                 }
@@ -107,14 +166,7 @@ class HtmlBodyStylesApplierHandler extends AbstractPdfDocumentEventHandler {
      * then body's background must be under the html's borders.
      */
     private int applyFirstBackground(PdfPage page, float[] margins, BodyHtmlStylesContainer[] styles, int pageNumber) {
-        int firstBackground = -1;
-        if (styles[0] != null && (styles[0].<Background>getOwnProperty(Property.BACKGROUND) != null ||
-                styles[0].<Object>getOwnProperty(Property.BACKGROUND_IMAGE) != null)) {
-            firstBackground = 0;
-        } else if (styles[1] != null && (styles[1].<Background>getOwnProperty(Property.BACKGROUND) != null ||
-                styles[1].<Object>getOwnProperty(Property.BACKGROUND_IMAGE) != null)) {
-            firstBackground = 1;
-        }
+        int firstBackground = getFirstBackground(styles);
         if (firstBackground != -1) {
             HashMap<Integer, Object> background = new HashMap<>();
             background.put(Property.BACKGROUND, styles[firstBackground].<Background>getProperty(Property.BACKGROUND));
@@ -125,6 +177,17 @@ class HtmlBodyStylesApplierHandler extends AbstractPdfDocumentEventHandler {
         return firstBackground;
     }
 
+    private static int getFirstBackground(BodyHtmlStylesContainer[] styles) {
+        if (styles[0] != null && (styles[0].<Background>getOwnProperty(Property.BACKGROUND) != null ||
+                styles[0].<Object>getOwnProperty(Property.BACKGROUND_IMAGE) != null)) {
+            return 0;
+        } else if (styles[1] != null && (styles[1].<Background>getOwnProperty(Property.BACKGROUND) != null ||
+                styles[1].<Object>getOwnProperty(Property.BACKGROUND_IMAGE) != null)) {
+            return 1;
+        }
+        return -1;
+    }
+
     private void drawSimulatedDiv(PdfPage page, Map<Integer, Object> styles, float[] margins,
             boolean drawBackground, int pageNumber, boolean recalculateBodyAreaForContentSize) {
         Div pageBordersSimulation = new Div().setFillAvailableArea(true);
@@ -146,10 +209,7 @@ class HtmlBodyStylesApplierHandler extends AbstractPdfDocumentEventHandler {
             recalculateBackgroundAreaForBody(backgroundArea, pageBordersSimulation, lowestAndHighest);
         }
 
-        if (pdfCanvas == null) {
-            pdfCanvas = new PdfCanvas(page.newContentStreamBefore(), page.getResources(), page.getDocument());
-        }
-        Canvas canvas = new Canvas(pdfCanvas, backgroundArea);
+        Canvas canvas = new Canvas(getPdfCanvas(page), backgroundArea);
         canvas.enableAutoTagging(page);
         canvas.add(pageBordersSimulation);
         canvas.close();
@@ -193,6 +253,27 @@ class HtmlBodyStylesApplierHandler extends AbstractPdfDocumentEventHandler {
         }
     }
 
+    /**
+     * The backgrounds of a page context drawn for the given page size and html and body styles.
+     */
+    private static class StaticPageBackground {
+        final Rectangle mediaBox;
+        final BodyHtmlStylesContainer[] styles;
+        final PdfFormXObject xObject;
+
+        StaticPageBackground(Rectangle mediaBox, BodyHtmlStylesContainer[] styles, PdfFormXObject xObject) {
+            this.mediaBox = mediaBox;
+            this.styles = styles;
+            this.xObject = xObject;
+        }
+
+        boolean isApplicableTo(PdfPage page, BodyHtmlStylesContainer[] pageStyles) {
+            // Bleed and trim boxes are derived from the media box by the same page context
+            return styles[0] == pageStyles[0] && styles[1] == pageStyles[1]
+                    && mediaBox.equalsWithEpsilon(page.getMediaBox());
+        }
+    }
+
     static class PageStylesProperties {
         BodyHtmlStylesContainer[] styles;
         LowestAndHighest lowestAndHighest;
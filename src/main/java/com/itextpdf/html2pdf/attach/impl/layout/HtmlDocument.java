@@ -22,16 +22,30 @@
  */
 package com.itextpdf.html2pdf.attach.impl.layout;
 
+import com.itextpdf.html2pdf.metrics.ConversionMetricsCollector;
+import com.itextpdf.html2pdf.metrics.ConversionPhase;
 import com.itextpdf.kernel.geom.PageSize;
 import com.itextpdf.kernel.pdf.PdfDocument;
 import com.itextpdf.layout.Document;
+import com.itextpdf.layout.element.AreaBreak;
+import com.itextpdf.layout.element.IBlockElement;
+import com.itextpdf.layout.element.Image;
 
 /**
  * This class is a wrapper on {@link Document}, which is the default root element while creating a self-sufficient PDF.
  * It contains several html-specific customizations.
+ * <p>
+ * In immediate flush mode the added elements are not kept by the document: they are laid out and drawn
+ * as soon as possible and can't be relaid out anyway. Thus the element tree of a top-level block becomes
+ * unreachable once its pages are flushed and long documents are converted with bounded memory.
  */
 public class HtmlDocument extends Document {
 
+    /**
+     * The collector of the conversion metrics, or null if the metrics are not collected.
+     */
+    private ConversionMetricsCollector metricsCollector;
+
     /**
      * Creates a html document from a {@link PdfDocument} with a manually set {@link
      * PageSize}.
@@ -45,6 +59,36 @@ public class HtmlDocument extends Document {
         super(pdfDoc, pageSize, immediateFlush);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Document add(IBlockElement element) {
+        super.add(element);
+        releaseChildElements();
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Document add(Image image) {
+        super.add(image);
+        releaseChildElements();
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Document add(AreaBreak areaBreak) {
+        super.add(areaBreak);
+        releaseChildElements();
+        return this;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -56,4 +100,40 @@ public class HtmlDocument extends Document {
             ((HtmlDocumentRenderer) rootRenderer).processWaitingElement();
         }
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() {
+        if (metricsCollector == null) {
+            super.close();
+            return;
+        }
+        metricsCollector.startPhase(ConversionPhase.CLOSING);
+        super.close();
+        metricsCollector.finishPhase(ConversionPhase.CLOSING);
+        metricsCollector.finishConversion();
+    }
+
+    /**
+     * Sets the collector of the conversion metrics. Closing of the document is reported as
+     * the last phase of the conversion.
+     *
+     * @param metricsCollector the {@link ConversionMetricsCollector} instance, or null if the metrics
+     *                         are not collected
+     */
+    public void setMetricsCollector(ConversionMetricsCollector metricsCollector) {
+        this.metricsCollector = metricsCollector;
+    }
+
+    /**
+     * Releases the references to the added elements if the document is in immediate flush mode.
+     * Renderers of the elements which aren't laid out yet still refer to their model elements.
+     */
+    private void releaseChildElements() {
+        if (immediateFlush) {
+            childElements.clear();
+        }
+    }
 }
@@ -25,6 +25,8 @@ package com.itextpdf.html2pdf.attach.impl.layout;
 import com.itextpdf.html2pdf.attach.ProcessorContext;
 import com.itextpdf.html2pdf.attach.impl.layout.HtmlBodyStylesApplierHandler.LowestAndHighest;
 import com.itextpdf.html2pdf.attach.impl.layout.HtmlBodyStylesApplierHandler.PageStylesProperties;
+import com.itextpdf.html2pdf.logs.Html2PdfLogMessageConstant;
+import com.itextpdf.commons.utils.MessageFormatUtil;
 import com.itextpdf.kernel.pdf.event.AbstractPdfDocumentEventHandler;
 import com.itextpdf.kernel.pdf.event.AbstractPdfDocumentEvent;
 import com.itextpdf.kernel.pdf.event.PdfDocumentEvent;
@@ -49,8 +51,10 @@ import com.itextpdf.styledxmlparser.css.page.PageContextConstants;
 import com.itextpdf.styledxmlparser.node.INode;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import org.slf4j.LoggerFactory;
 
 /**
  * The DocumentRenderer class for HTML.
@@ -64,6 +68,9 @@ public class HtmlDocumentRenderer extends DocumentRenderer {
      */
     private static final boolean TRIM_LAST_BLANK_PAGE = true;
 
+    /** The maximum number of digits which can be reserved for the total number of pages. */
+    private static final int MAX_RESERVED_PAGE_COUNT_DIGITS = 9;
+
     /** The page context processor for the first page. */
     private PageContextProcessor firstPageProc;
 
@@ -104,6 +111,12 @@ public class HtmlDocumentRenderer extends DocumentRenderer {
     /** The estimated number of pages. */
     private int estimatedNumberOfPages;
 
+    /** The number of digits reserved for the total number of pages, or 0 if the page count isn't deferred. */
+    private int reservedPageCountDigits;
+
+    /** The page count renderers which are waiting for the total number of pages, one per way of drawing it. */
+    private Map<List<Object>, PageCountRenderer> deferredPageCountRenderers = new LinkedHashMap<>();
+
     /**
      * Instantiates a new {@link HtmlDocumentRenderer} instance.
      *
@@ -185,6 +198,29 @@ public class HtmlDocumentRenderer extends DocumentRenderer {
                 htmlBodyHandler.processPage(page, i);
             }
         }
+        drawDeferredPageCounts();
+    }
+
+    /**
+     * Sets the number of digits reserved for the total number of pages.
+     * <p>
+     * If the number of digits is positive, {@code counter(pages)} occupies the space of that many digits
+     * during layout, and the actual total number of pages is drawn into that space when the renderer is closed,
+     * so no relayout is needed once the number of pages is known.
+     *
+     * @param reservedPageCountDigits the number of reserved digits, or 0 to use the estimated number of pages
+     */
+    public void setReservedPageCountDigits(int reservedPageCountDigits) {
+        this.reservedPageCountDigits = Math.min(Math.max(reservedPageCountDigits, 0), MAX_RESERVED_PAGE_COUNT_DIGITS);
+    }
+
+    /**
+     * Checks if the total number of pages is drawn into the reserved space when the renderer is closed.
+     *
+     * @return true, if the total number of pages is deferred
+     */
+    public boolean isPageCountDeferred() {
+        return reservedPageCountDigits > 0;
     }
 
     /**
@@ -213,6 +249,7 @@ public class HtmlDocumentRenderer extends DocumentRenderer {
                 currentArea.getPageNumber() - simulateTrimLastPage();
         relayoutRenderer.marginBoxesHandler = marginBoxesHandler.setHtmlDocumentRenderer(relayoutRenderer);
         relayoutRenderer.targetCounterHandler = new TargetCounterHandler(targetCounterHandler);
+        relayoutRenderer.reservedPageCountDigits = reservedPageCountDigits;
         return relayoutRenderer;
     }
 
@@ -411,6 +448,52 @@ public class HtmlDocumentRenderer extends DocumentRenderer {
         return estimatedNumberOfPages;
     }
 
+    /**
+     * Gets the number which occupies the space reserved for the total number of pages.
+     *
+     * @return the largest number with the reserved number of digits
+     */
+    int getPageCountPlaceholder() {
+        int placeholder = 0;
+        for (int i = 0; i < reservedPageCountDigits; ++i) {
+            placeholder = placeholder * 10 + 9;
+        }
+        return placeholder;
+    }
+
+    /**
+     * Adds the page count renderer which is drawn once the total number of pages is known,
+     * unless a renderer drawing the number the same way has already been added.
+     *
+     * @param key               the key of the way the number is drawn
+     * @param pageCountRenderer the page count renderer
+     * @return the renderer which draws the number for the given key
+     */
+    PageCountRenderer addDeferredPageCountRenderer(List<Object> key, PageCountRenderer pageCountRenderer) {
+        PageCountRenderer addedRenderer = deferredPageCountRenderers.get(key);
+        if (addedRenderer == null) {
+            deferredPageCountRenderers.put(key, pageCountRenderer);
+            addedRenderer = pageCountRenderer;
+        }
+        return addedRenderer;
+    }
+
+    private void drawDeferredPageCounts() {
+        if (deferredPageCountRenderers.isEmpty()) {
+            return;
+        }
+        PdfDocument pdfDocument = document.getPdfDocument();
+        int numberOfPages = pdfDocument.getNumberOfPages();
+        if (String.valueOf(numberOfPages).length() > reservedPageCountDigits) {
+            LoggerFactory.getLogger(HtmlDocumentRenderer.class).warn(MessageFormatUtil.format(
+                    Html2PdfLogMessageConstant.PAGE_COUNT_EXCEEDS_RESERVED_DIGITS, numberOfPages));
+        }
+        for (PageCountRenderer pageCountRenderer : deferredPageCountRenderers.values()) {
+            pageCountRenderer.drawDeferredPageCount(numberOfPages, pdfDocument);
+        }
+        deferredPageCountRenderers.clear();
+    }
+
     private void updateDefaultMargins(BodyHtmlStylesContainer[] styles, float[] defaultMargins) {
         for (int i = 0; i < 2; i++) {
             if (styles[i] != null) {
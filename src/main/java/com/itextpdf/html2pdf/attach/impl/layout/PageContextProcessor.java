@@ -28,6 +28,8 @@ import com.itextpdf.html2pdf.css.CssConstants;
 import com.itextpdf.html2pdf.css.apply.impl.PageMarginBoxCssApplier;
 import com.itextpdf.html2pdf.css.apply.util.BackgroundApplierUtil;
 import com.itextpdf.html2pdf.css.apply.util.BorderStyleApplierUtil;
+import com.itextpdf.html2pdf.css.page.PageMarginRunningElementNode;
+import com.itextpdf.html2pdf.css.resolve.func.counter.PageCountElementNode;
 import com.itextpdf.commons.utils.MessageFormatUtil;
 import com.itextpdf.kernel.geom.PageSize;
 import com.itextpdf.kernel.geom.Rectangle;
@@ -37,6 +39,7 @@ import com.itextpdf.kernel.pdf.canvas.CanvasArtifact;
 import com.itextpdf.kernel.pdf.canvas.PdfCanvas;
 import com.itextpdf.kernel.pdf.tagging.StandardRoles;
 import com.itextpdf.kernel.pdf.tagutils.TagTreePointer;
+import com.itextpdf.kernel.pdf.xobject.PdfFormXObject;
 import com.itextpdf.layout.Canvas;
 import com.itextpdf.layout.borders.Border;
 import com.itextpdf.layout.element.Div;
@@ -50,12 +53,14 @@ import com.itextpdf.layout.renderer.DrawContext;
 import com.itextpdf.layout.renderer.IRenderer;
 import com.itextpdf.styledxmlparser.css.page.PageMarginBoxContextNode;
 import com.itextpdf.styledxmlparser.css.util.CssDimensionParsingUtils;
+import com.itextpdf.styledxmlparser.node.INode;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -109,6 +114,21 @@ class PageContextProcessor {
     private ProcessorContext context;
     private PageMarginBoxBuilder pageMarginBoxHelper;
 
+    /**
+     * Indicates if the margin boxes content is the same on every page processed by this processor.
+     */
+    private boolean marginBoxesStatic;
+
+    /**
+     * The margin boxes drawn once and stamped on every page, or null if they aren't drawn yet.
+     */
+    private PdfFormXObject staticMarginBoxes;
+
+    /**
+     * The page borders drawn once and stamped on every page, or null if they aren't drawn yet.
+     */
+    private PdfFormXObject staticPageBorders;
+
     /**
      * The logger.
      */
@@ -179,6 +199,10 @@ class PageContextProcessor {
         parsePaddings(styles, em, rem);
         createPageSimulationElements(styles, context);
         pageMarginBoxHelper = new PageMarginBoxBuilder(properties.getResolvedPageMarginBoxes(), margins, pageSize);
+        marginBoxesStatic = !properties.getResolvedPageMarginBoxes().isEmpty()
+                && isStaticContent(properties.getResolvedPageMarginBoxes());
+        staticMarginBoxes = null;
+        staticPageBorders = null;
 
         return this;
     }
@@ -232,22 +256,26 @@ class PageContextProcessor {
         drawPageBorders(page);
     }
 
+    /**
+     * Checks if the page context defines a background.
+     *
+     * @return true if there is a page background to draw
+     */
+    boolean hasPageBackground() {
+        return pageBackgroundSimulation != null;
+    }
+
     /**
      * Draws page background.
      *
-     * @param page the page
-     * @return pdfCanvas instance if there was a background to draw, otherwise returns null
-     */
-    PdfCanvas drawPageBackground(PdfPage page) {
-        PdfCanvas pdfCanvas = null;
-        if (pageBackgroundSimulation != null) {
-            pdfCanvas = new PdfCanvas(page.newContentStreamBefore(), page.getResources(),page.getDocument());
-            Canvas canvas = new Canvas(pdfCanvas, page.getBleedBox());
-            canvas.enableAutoTagging(page);
-            canvas.add(pageBackgroundSimulation);
-            canvas.close();
-        }
-        return pdfCanvas;
+     * @param page      the page which bleed box is filled by the background
+     * @param pdfCanvas the canvas to draw on, either the page or a form XObject of the page size
+     */
+    void drawPageBackground(PdfPage page, PdfCanvas pdfCanvas) {
+        Canvas canvas = new Canvas(pdfCanvas, page.getBleedBox());
+        canvas.enableAutoTagging(page);
+        canvas.add(pageBackgroundSimulation);
+        canvas.close();
     }
 
     /**
@@ -404,7 +432,28 @@ class PageContextProcessor {
         if (pageBordersSimulation == null) {
             return;
         }
-        Canvas canvas = new Canvas(new PdfCanvas(page), page.getTrimBox());
+        Rectangle trimBox = page.getTrimBox();
+        // Tagged borders are marked as artifacts on each page separately, so they can't be shared between pages
+        if (page.getDocument().isTagged()) {
+            drawPageBorders(page, new PdfCanvas(page), trimBox);
+            return;
+        }
+        if (staticPageBorders == null || !staticPageBorders.getBBox().toRectangle().equalsWithEpsilon(trimBox)) {
+            staticPageBorders = new PdfFormXObject(trimBox);
+            drawPageBorders(page, new PdfCanvas(staticPageBorders, page.getDocument()), trimBox);
+        }
+        new PdfCanvas(page).addXObjectWithTransformationMatrix(staticPageBorders, 1, 0, 0, 1, 0, 0);
+    }
+
+    /**
+     * Lays out the page borders simulation in the given area and draws it.
+     *
+     * @param page      the page
+     * @param pdfCanvas the canvas to draw on
+     * @param area      the area of the page borders
+     */
+    private void drawPageBorders(PdfPage page, PdfCanvas pdfCanvas, Rectangle area) {
+        Canvas canvas = new Canvas(pdfCanvas, area);
         canvas.enableAutoTagging(page);
         canvas.add(pageBordersSimulation);
         canvas.close();
@@ -418,15 +467,41 @@ class PageContextProcessor {
      * @param documentRenderer the document renderer
      */
     private void drawMarginBoxes(int pageNumber, PdfDocument pdfDocument, DocumentRenderer documentRenderer) {
+        PdfPage page = pdfDocument.getPage(pageNumber);
+        // Tagged margin boxes are marked on each page separately, so they can't be shared between pages
+        if (marginBoxesStatic && !pdfDocument.isTagged()) {
+            if (staticMarginBoxes == null) {
+                staticMarginBoxes = new PdfFormXObject(pageSize);
+                drawMarginBoxes(pageNumber, pdfDocument, page, new PdfCanvas(staticMarginBoxes, pdfDocument),
+                        documentRenderer);
+            }
+            new PdfCanvas(page).addXObjectWithTransformationMatrix(staticMarginBoxes, 1, 0, 0, 1, 0, 0);
+        } else {
+            drawMarginBoxes(pageNumber, pdfDocument, page, null, documentRenderer);
+        }
+    }
+
+    /**
+     * Builds the margin boxes for the page and draws them.
+     *
+     * @param pageNumber       the page
+     * @param pdfDocument      the {@link PdfDocument} to which content is written
+     * @param page             the {@link PdfPage} of the margin boxes
+     * @param canvas           the canvas to draw on, or null to draw each margin box on the page
+     * @param documentRenderer the document renderer
+     */
+    private void drawMarginBoxes(int pageNumber, PdfDocument pdfDocument, PdfPage page, PdfCanvas canvas,
+            DocumentRenderer documentRenderer) {
         pageMarginBoxHelper.buildForSinglePage(pageNumber, pdfDocument, documentRenderer, context);
         if (pageMarginBoxHelper.getRenderers() != null) {
             for (int i = 0; i < 16; i++)
                 if (pageMarginBoxHelper.getRenderers()[i] != null)
-                    draw(pageMarginBoxHelper.getRenderers()[i], pageMarginBoxHelper.getNodes()[i], pdfDocument, pdfDocument.getPage(pageNumber), documentRenderer, pageNumber);
+                    draw(pageMarginBoxHelper.getRenderers()[i], pageMarginBoxHelper.getNodes()[i], pdfDocument, page,
+                            canvas == null ? new PdfCanvas(page) : canvas, documentRenderer, pageNumber);
         }
     }
 
-    private void draw(IRenderer renderer, PageMarginBoxContextNode node, PdfDocument pdfDocument, PdfPage page, DocumentRenderer documentRenderer, int pageNumber) {
+    private void draw(IRenderer renderer, PageMarginBoxContextNode node, PdfDocument pdfDocument, PdfPage page, PdfCanvas canvas, DocumentRenderer documentRenderer, int pageNumber) {
         LayoutResult result = renderer.layout(new LayoutContext(new LayoutArea(pageNumber, node.getPageMarginBoxRectangle())));
         IRenderer rendererToDraw = result.getStatus() == LayoutResult.FULL ? renderer : result.getSplitRenderer();
         if (rendererToDraw != null) {
@@ -440,7 +515,7 @@ class PageContextProcessor {
                 tagPointer.setPageForTagging(page);
             }
 
-            rendererToDraw.setParent(documentRenderer).draw(new DrawContext(page.getDocument(), new PdfCanvas(page), pdfDocument.isTagged()));
+            rendererToDraw.setParent(documentRenderer).draw(new DrawContext(page.getDocument(), canvas, pdfDocument.isTagged()));
 
             if (pdfDocument.isTagged()) {
                 tagPointer.setPageForTagging(backupPage);
@@ -456,6 +531,23 @@ class PageContextProcessor {
         }
     }
 
+    /**
+     * Checks if the margin boxes content is the same on every page, i.e. if it contains neither page counters
+     * nor running elements.
+     *
+     * @param nodes the margin box nodes
+     * @return true, if the margin boxes content doesn't depend on the page
+     */
+    private static boolean isStaticContent(List<? extends INode> nodes) {
+        for (INode node : nodes) {
+            if (node instanceof PageCountElementNode || node instanceof PageMarginRunningElementNode
+                    || !isStaticContent(node.childNodes())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Parses the margins.
      *
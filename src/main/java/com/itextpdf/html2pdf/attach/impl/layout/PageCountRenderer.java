@@ -28,16 +28,25 @@ import com.itextpdf.io.logs.IoLogMessageConstant;
 import com.itextpdf.io.font.otf.GlyphLine;
 import com.itextpdf.commons.utils.MessageFormatUtil;
 import com.itextpdf.kernel.font.PdfFont;
+import com.itextpdf.kernel.geom.Rectangle;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.canvas.PdfCanvas;
+import com.itextpdf.kernel.pdf.xobject.PdfFormXObject;
 import com.itextpdf.layout.Document;
+import com.itextpdf.layout.layout.LayoutArea;
 import com.itextpdf.layout.layout.LayoutContext;
 import com.itextpdf.layout.layout.LayoutResult;
 import com.itextpdf.layout.properties.Property;
+import com.itextpdf.layout.properties.TextAlignment;
+import com.itextpdf.layout.properties.TransparentColor;
 import com.itextpdf.layout.renderer.AbstractRenderer;
 import com.itextpdf.layout.renderer.DocumentRenderer;
+import com.itextpdf.layout.renderer.DrawContext;
 import com.itextpdf.layout.renderer.IRenderer;
 import com.itextpdf.layout.renderer.TextRenderer;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -47,8 +56,26 @@ import org.slf4j.LoggerFactory;
  */
 class PageCountRenderer extends TextRenderer {
 
+    /** The properties which affect the way the total number of pages is drawn into the reserved space. */
+    private static final int[] DEFERRED_DRAWING_PROPERTIES = {Property.FONT, Property.FONT_SIZE, Property.FONT_COLOR,
+            Property.FONT_KERNING, Property.CHARACTER_SPACING, Property.WORD_SPACING, Property.HORIZONTAL_SCALING,
+            Property.TEXT_RISE, Property.TEXT_RENDERING_MODE, Property.STROKE_COLOR, Property.STROKE_WIDTH,
+            Property.UNDERLINE, Property.BACKGROUND, Property.OPACITY, Property.TEXT_ALIGNMENT};
+
     private final CounterDigitsGlyphStyle digitsGlyphStyle;
 
+    /** Indicates if the renderer occupies the space reserved for the total number of pages. */
+    private boolean pageCountDeferred;
+
+    /** The total number of pages drawn into the reserved space, or 0 if it isn't known yet. */
+    private int resolvedNumberOfPages;
+
+    /** The space reserved for the total number of pages. */
+    private Rectangle reservedArea;
+
+    /** The form into which the total number of pages is drawn once it's known. */
+    private PdfFormXObject deferredPageCountXObject;
+
     /**
      * Instantiates a new page count renderer.
      *
@@ -62,6 +89,8 @@ class PageCountRenderer extends TextRenderer {
     protected PageCountRenderer(TextRenderer other) {
         super(other);
         this.digitsGlyphStyle = ((PageCountRenderer)other).digitsGlyphStyle;
+        this.pageCountDeferred = ((PageCountRenderer)other).pageCountDeferred;
+        this.resolvedNumberOfPages = ((PageCountRenderer)other).resolvedNumberOfPages;
     }
 
     /* (non-Javadoc)
@@ -81,11 +110,19 @@ class PageCountRenderer extends TextRenderer {
                     layoutContext.getArea().getPageNumber()));
             textHasBeenReplaced = true;
         } else if (pageCountType == PageCountType.TOTAL_PAGE_COUNT) {
-            IRenderer rootRenderer = this;
-            while (rootRenderer instanceof AbstractRenderer && ((AbstractRenderer) rootRenderer).getParent() != null) {
-                rootRenderer = ((AbstractRenderer) rootRenderer).getParent();
-            }
-            if (rootRenderer instanceof HtmlDocumentRenderer && ((HtmlDocumentRenderer) rootRenderer).getEstimatedNumberOfPages() > 0) {
+            IRenderer rootRenderer = getRootRenderer();
+            pageCountDeferred = false;
+            if (resolvedNumberOfPages > 0) {
+                setText(HtmlUtils.convertNumberAccordingToGlyphStyle(digitsGlyphStyle, resolvedNumberOfPages));
+                textHasBeenReplaced = true;
+            } else if (rootRenderer instanceof HtmlDocumentRenderer
+                    && ((HtmlDocumentRenderer) rootRenderer).isPageCountDeferred()) {
+                // The placeholder only reserves the space, the actual number is drawn when the document is closed
+                setText(HtmlUtils.convertNumberAccordingToGlyphStyle(digitsGlyphStyle,
+                        ((HtmlDocumentRenderer) rootRenderer).getPageCountPlaceholder()));
+                pageCountDeferred = true;
+                textHasBeenReplaced = true;
+            } else if (rootRenderer instanceof HtmlDocumentRenderer && ((HtmlDocumentRenderer) rootRenderer).getEstimatedNumberOfPages() > 0) {
                 setText(HtmlUtils.convertNumberAccordingToGlyphStyle(digitsGlyphStyle,
                         ((HtmlDocumentRenderer) rootRenderer).getEstimatedNumberOfPages()));
                 textHasBeenReplaced = true;
@@ -102,6 +139,29 @@ class PageCountRenderer extends TextRenderer {
         return result;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void draw(DrawContext drawContext) {
+        IRenderer rootRenderer = getRootRenderer();
+        if (!pageCountDeferred || resolvedNumberOfPages > 0 || !(rootRenderer instanceof HtmlDocumentRenderer)) {
+            super.draw(drawContext);
+            return;
+        }
+        reservedArea = getOccupiedAreaBBox();
+        PageCountRenderer sharedRenderer = ((HtmlDocumentRenderer) rootRenderer)
+                .addDeferredPageCountRenderer(getDeferredDrawingKey(), this);
+        if (sharedRenderer == this) {
+            // The form is larger than the reserved space, so that a number with more digits than reserved
+            // isn't clipped. It's drawn in the coordinates of the reserved space, so it can be reused on every page
+            deferredPageCountXObject = new PdfFormXObject(new Rectangle(-reservedArea.getWidth(),
+                    -reservedArea.getHeight(), reservedArea.getWidth() * 3, reservedArea.getHeight() * 3));
+        }
+        drawContext.getCanvas().addXObjectWithTransformationMatrix(sharedRenderer.deferredPageCountXObject,
+                1, 0, 0, 1, reservedArea.getX(), reservedArea.getY());
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -129,6 +189,56 @@ class PageCountRenderer extends TextRenderer {
         return copy;
     }
 
+    /**
+     * Draws the total number of pages into the space which was reserved for it during layout.
+     *
+     * @param numberOfPages the total number of pages
+     * @param pdfDocument   the PDF document
+     */
+    void drawDeferredPageCount(int numberOfPages, PdfDocument pdfDocument) {
+        resolvedNumberOfPages = numberOfPages;
+        Rectangle layoutBox = new Rectangle(reservedArea.getX(), reservedArea.getY() - reservedArea.getHeight(),
+                reservedArea.getWidth() * 2, reservedArea.getHeight() * 2);
+        LayoutResult result = layout(new LayoutContext(new LayoutArea(getOccupiedArea().getPageNumber(), layoutBox)));
+        if (result.getStatus() == LayoutResult.NOTHING) {
+            return;
+        }
+        IRenderer renderer = result.getSplitRenderer() == null ? this : result.getSplitRenderer();
+        float freeWidth = reservedArea.getWidth() - renderer.getOccupiedArea().getBBox().getWidth();
+        TextAlignment textAlignment = this.<TextAlignment>getProperty(Property.TEXT_ALIGNMENT);
+        if (textAlignment == TextAlignment.RIGHT) {
+            renderer.move(freeWidth, 0);
+        } else if (textAlignment == TextAlignment.CENTER) {
+            renderer.move(freeWidth / 2, 0);
+        }
+        PdfCanvas canvas = new PdfCanvas(deferredPageCountXObject, pdfDocument);
+        canvas.concatMatrix(1, 0, 0, 1, -reservedArea.getX(), -reservedArea.getY());
+        renderer.draw(new DrawContext(pdfDocument, canvas));
+    }
+
+    /**
+     * Gets the key of the way the total number of pages is drawn by this renderer. The renderers with
+     * equal keys share a single form in the document.
+     *
+     * @return the list of the values affecting the drawing
+     */
+    private List<Object> getDeferredDrawingKey() {
+        List<Object> key = new ArrayList<>(DEFERRED_DRAWING_PROPERTIES.length + 3);
+        key.add(digitsGlyphStyle);
+        key.add(reservedArea.getWidth());
+        key.add(reservedArea.getHeight());
+        for (int property : DEFERRED_DRAWING_PROPERTIES) {
+            Object value = this.<Object>getProperty(property);
+            if (value instanceof TransparentColor) {
+                value = Arrays.asList(((TransparentColor) value).getColor(), ((TransparentColor) value).getOpacity());
+            } else if (value instanceof Object[]) {
+                value = Arrays.asList((Object[]) value);
+            }
+            key.add(value);
+        }
+        return key;
+    }
+
     /* (non-Javadoc)
      * @see com.itextpdf.layout.renderer.TextRenderer#resolveFonts(java.util.List)
      */
@@ -141,4 +251,12 @@ class PageCountRenderer extends TextRenderer {
         return true;
     }
 
+    private IRenderer getRootRenderer() {
+        IRenderer rootRenderer = this;
+        while (rootRenderer instanceof AbstractRenderer && ((AbstractRenderer) rootRenderer).getParent() != null) {
+            rootRenderer = ((AbstractRenderer) rootRenderer).getParent();
+        }
+        return rootRenderer;
+    }
+
 }
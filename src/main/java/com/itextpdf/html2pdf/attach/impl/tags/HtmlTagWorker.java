@@ -74,15 +74,24 @@ public class HtmlTagWorker implements ITagWorker {
      */
     public HtmlTagWorker(IElementNode element, ProcessorContext context) {
         // TODO DEVSIX-4261 more precise check if a counter was actually added to the document
+        PdfDocument pdfDocument = context.getPdfDocument();
+        // The total number of pages can be written into the reserved space only if no content depends on
+        // the page of another element and the page count isn't a part of the structure tree
+        boolean pageCountDeferred = context.getReservedPageCountDigits() > 0
+                && context.getCssContext().isPagesCounterPresent()
+                && !context.getCssContext().isPageTargetCounterPresent() && !pdfDocument.isTagged();
         boolean immediateFlush =
-                context.isImmediateFlush() && !context.getCssContext().isPagesCounterPresent()
+                context.isImmediateFlush() && (!context.getCssContext().isPagesCounterPresent() || pageCountDeferred)
                         && !context.isCreateAcroForm();
         if (context.isImmediateFlush() && context.isCreateAcroForm()) {
             LOGGER.info(Html2PdfLogMessageConstant.IMMEDIATE_FLUSH_DISABLED);
         }
-        PdfDocument pdfDocument = context.getPdfDocument();
         document = new HtmlDocument(pdfDocument, pdfDocument.getDefaultPageSize(), immediateFlush);
-        document.setRenderer(new HtmlDocumentRenderer(document, immediateFlush));
+        HtmlDocumentRenderer documentRenderer = new HtmlDocumentRenderer(document, immediateFlush);
+        if (pageCountDeferred) {
+            documentRenderer.setReservedPageCountDigits(context.getReservedPageCountDigits());
+        }
+        document.setRenderer(documentRenderer);
 
         DefaultHtmlProcessor.setConvertedRootElementProperties(element.getStyles(), context, document);
 
@@ -118,7 +127,11 @@ public class HtmlTagWorker implements ITagWorker {
     @Override
     public boolean processTagChild(ITagWorker childTagWorker, ProcessorContext context) {
         boolean processed = false;
-        if (childTagWorker instanceof SpanTagWorker) {
+        if (childTagWorker instanceof TableTagWorker
+                && ((TableTagWorker) childTagWorker).isLargeTableAddedToDocument()) {
+            // The large table has already been added while its rows were being processed
+            processed = true;
+        } else if (childTagWorker instanceof SpanTagWorker) {
             boolean allChildrenProcessed = true;
             for (IPropertyContainer propertyContainer : ((SpanTagWorker) childTagWorker).getAllElements()) {
                 if (propertyContainer instanceof ILeafElement) {
@@ -28,6 +28,7 @@ import com.itextpdf.html2pdf.attach.util.AccessiblePropHelper;
 import com.itextpdf.html2pdf.attach.util.WaitingInlineElementsHelper;
 import com.itextpdf.html2pdf.css.CssConstants;
 import com.itextpdf.html2pdf.css.apply.util.ListStyleApplierUtil;
+import com.itextpdf.html2pdf.css.resolve.ComputedStyleMap;
 import com.itextpdf.html2pdf.html.AttributeConstants;
 import com.itextpdf.html2pdf.html.TagConstants;
 import com.itextpdf.layout.IPropertyContainer;
@@ -75,7 +76,7 @@ public class LiTagWorker implements ITagWorker {
         }
         if (!(context.getState().top() instanceof UlOlTagWorker)) {
             listItem.setProperty(Property.LIST_SYMBOL_POSITION, ListSymbolPosition.INSIDE);
-            float em = CssDimensionParsingUtils.parseAbsoluteLength(element.getStyles().get(CssConstants.FONT_SIZE));
+            float em = ComputedStyleMap.getAbsoluteLength(element.getStyles(), CssConstants.FONT_SIZE);
             if (TagConstants.LI.equals(element.name())) {
                 ListStyleApplierUtil.setDiscStyle(listItem, em);
             } else {
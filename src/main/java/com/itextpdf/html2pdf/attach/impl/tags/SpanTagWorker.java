@@ -29,6 +29,7 @@ import com.itextpdf.html2pdf.attach.util.AccessiblePropHelper;
 import com.itextpdf.html2pdf.attach.util.WaitingInlineElementsHelper;
 import com.itextpdf.html2pdf.attach.wrapelement.SpanWrapper;
 import com.itextpdf.html2pdf.css.CssConstants;
+import com.itextpdf.html2pdf.html.AttributeConstants;
 import com.itextpdf.layout.IPropertyContainer;
 import com.itextpdf.layout.element.IBlockElement;
 import com.itextpdf.layout.element.IElement;
@@ -54,7 +55,7 @@ public class SpanTagWorker implements ITagWorker, IDisplayAware {
     // TODO DEVSIX-2445. Ideally, this should be refactored. For now, I don't see a beautiful way
     //  of passing this information to other workers.
     // Also, we probably should wait a bit until the display support is more or less stable
-    Map<IPropertyContainer, String> childrenDisplayMap = new HashMap<>();
+    Map<IPropertyContainer, String> childrenDisplayMap;
 
     /** A list of elements belonging to the span. */
     private List<IPropertyContainer> elements;
@@ -78,7 +79,18 @@ public class SpanTagWorker implements ITagWorker, IDisplayAware {
      * @param context the processor context
      */
     public SpanTagWorker(IElementNode element, ProcessorContext context) {
-        spanWrapper = new SpanWrapper();
+        ITagWorker parentTagWorker = context == null || context.getState().empty() ? null : context.getState().top();
+        if (parentTagWorker instanceof SpanTagWorker) {
+            // The nested span appends its elements right after the ones of the enclosing span, so the text
+            // waiting in the enclosing span is flushed first, as it would be before the nested span is added
+            SpanTagWorker enclosingSpan = (SpanTagWorker) parentTagWorker;
+            enclosingSpan.flushInlineHelper();
+            spanWrapper = new SpanWrapper(enclosingSpan.spanWrapper);
+            childrenDisplayMap = enclosingSpan.childrenDisplayMap;
+        } else {
+            spanWrapper = new SpanWrapper();
+            childrenDisplayMap = new HashMap<>();
+        }
         Map<String, String> styles = element.getStyles();
         inlineHelper = new WaitingInlineElementsHelper(styles == null ? null : styles.get(CssConstants.WHITE_SPACE), styles == null ? null : styles.get(CssConstants.TEXT_TRANSFORM));
         display = styles == null ? null : styles.get(CssConstants.DISPLAY);
@@ -96,9 +108,12 @@ public class SpanTagWorker implements ITagWorker, IDisplayAware {
         flushInlineHelper();
         elements = spanWrapper.getElements();
 
-        for (IPropertyContainer elem : elements) {
-            if (elem instanceof IAccessibleElement) {
-                AccessiblePropHelper.trySetLangAttribute((IAccessibleElement) elem, element);
+        String lang = element.getAttribute(AttributeConstants.LANG);
+        if (lang != null) {
+            for (IPropertyContainer elem : elements) {
+                if (elem instanceof IAccessibleElement) {
+                    AccessiblePropHelper.trySetLangAttribute((IAccessibleElement) elem, lang);
+                }
             }
         }
     }
@@ -126,7 +141,10 @@ public class SpanTagWorker implements ITagWorker, IDisplayAware {
         } else if (childTagWorker instanceof SpanTagWorker) {
             flushInlineHelper();
             spanWrapper.add(((SpanTagWorker) childTagWorker).spanWrapper);
-            childrenDisplayMap.putAll(((SpanTagWorker) childTagWorker).childrenDisplayMap);
+            Map<IPropertyContainer, String> childDisplayMap = ((SpanTagWorker) childTagWorker).childrenDisplayMap;
+            if (childDisplayMap != childrenDisplayMap) {
+                childrenDisplayMap.putAll(childDisplayMap);
+            }
             return true;
         } else if (childTagWorker.getElementResult() instanceof IBlockElement) {
             if (childTagWorker instanceof IDisplayAware) {
@@ -24,10 +24,12 @@ package com.itextpdf.html2pdf.attach.impl.tags;
 
 import com.itextpdf.html2pdf.attach.ITagWorker;
 import com.itextpdf.html2pdf.attach.ProcessorContext;
+import com.itextpdf.html2pdf.attach.impl.SvgProcessingCache;
 import com.itextpdf.html2pdf.attach.util.AccessiblePropHelper;
 import com.itextpdf.html2pdf.attach.util.AlternateDescriptionResolver;
 import com.itextpdf.html2pdf.attach.util.ContextMappingHelper;
 import com.itextpdf.html2pdf.logs.Html2PdfLogMessageConstant;
+import com.itextpdf.html2pdf.metrics.ConversionCache;
 import com.itextpdf.html2pdf.util.SvgProcessingUtil;
 import com.itextpdf.layout.IPropertyContainer;
 import com.itextpdf.layout.element.Image;
@@ -51,6 +53,7 @@ public class SvgTagWorker implements ITagWorker {
 
     private Image svgImage;
     private ISvgProcessorResult processingResult;
+    private String cacheKey;
 
     /**
      * Creates a new {@link SvgTagWorker} instance.
@@ -60,11 +63,24 @@ public class SvgTagWorker implements ITagWorker {
      */
     public SvgTagWorker(IElementNode element, ProcessorContext context) {
         svgImage = null;
-        SvgConverterProperties props = ContextMappingHelper.mapToSvgConverterProperties(context);
-        try {
-            processingResult = new DefaultSvgProcessor().process((INode) element, props);
-        } catch (SvgProcessingException spe) {
-            LOGGER.error(Html2PdfLogMessageConstant.UNABLE_TO_PROCESS_SVG_ELEMENT, spe);
+        SvgProcessingCache svgProcessingCache = context.getSvgProcessingCache();
+        cacheKey = svgProcessingCache.createKey(element, context);
+        if (cacheKey != null) {
+            processingResult = svgProcessingCache.getProcessingResult(cacheKey);
+            if (context.getMetricsCollector() != null) {
+                context.getMetricsCollector().onCacheLookup(ConversionCache.SVG, processingResult != null);
+            }
+        }
+        if (processingResult == null) {
+            SvgConverterProperties props = ContextMappingHelper.mapToSvgConverterProperties(context);
+            try {
+                processingResult = new DefaultSvgProcessor().process((INode) element, props);
+            } catch (SvgProcessingException spe) {
+                LOGGER.error(Html2PdfLogMessageConstant.UNABLE_TO_PROCESS_SVG_ELEMENT, spe);
+            }
+            if (cacheKey != null && processingResult != null) {
+                svgProcessingCache.putProcessingResult(cacheKey, processingResult);
+            }
         }
         context.startProcessingInlineSvg();
     }
@@ -72,8 +88,15 @@ public class SvgTagWorker implements ITagWorker {
     @Override
     public void processEnd(IElementNode element, ProcessorContext context) {
         if (processingResult != null) {
-            SvgImageXObject svgImageXObject = new SvgProcessingUtil(context.getResourceResolver())
-                    .createXObjectFromProcessingResult(processingResult, context, true);
+            SvgProcessingCache svgProcessingCache = context.getSvgProcessingCache();
+            SvgImageXObject svgImageXObject = cacheKey == null ? null : svgProcessingCache.getXObject(cacheKey);
+            if (svgImageXObject == null) {
+                svgImageXObject = new SvgProcessingUtil(context.getResourceResolver())
+                        .createXObjectFromProcessingResult(processingResult, context, true);
+                if (cacheKey != null) {
+                    svgProcessingCache.putXObject(cacheKey, svgImageXObject, context);
+                }
+            }
             svgImage = new SvgImage(svgImageXObject);
 
             AccessiblePropHelper.trySetLangAttribute(svgImage, element);
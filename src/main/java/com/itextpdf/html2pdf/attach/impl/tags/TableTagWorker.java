@@ -24,17 +24,22 @@ package com.itextpdf.html2pdf.attach.impl.tags;
 
 import com.itextpdf.html2pdf.attach.ITagWorker;
 import com.itextpdf.html2pdf.attach.ProcessorContext;
+import com.itextpdf.html2pdf.attach.util.LinkHelper;
 import com.itextpdf.html2pdf.attach.util.WaitingColgroupsHelper;
 import com.itextpdf.html2pdf.attach.wrapelement.TableRowWrapper;
 import com.itextpdf.html2pdf.attach.wrapelement.TableWrapper;
 import com.itextpdf.html2pdf.css.CssConstants;
+import com.itextpdf.html2pdf.css.apply.ICssApplier;
 import com.itextpdf.html2pdf.html.AttributeConstants;
+import com.itextpdf.layout.Document;
 import com.itextpdf.layout.IPropertyContainer;
 import com.itextpdf.layout.element.Cell;
 import com.itextpdf.layout.element.Div;
 import com.itextpdf.layout.element.Table;
 import com.itextpdf.styledxmlparser.node.IElementNode;
 
+import java.util.Map;
+
 /**
  * TagWorker class for the {@code table} element.
  */
@@ -75,6 +80,22 @@ public class TableTagWorker implements ITagWorker, IDisplayAware {
      */
     private String display;
 
+    /**
+     * The number of body rows after which the table is written to the document, or 0 if the table
+     * shall be converted as a whole.
+     */
+    private int largeTableBatchSize;
+
+    /**
+     * Indicates whether the table has already been added to the document as a large table.
+     */
+    private boolean largeTableAddedToDocument;
+
+    /**
+     * The table element, kept only if the table can be written to the document in batches.
+     */
+    private IElementNode largeTableElement;
+
     /**
      * Creates a new {@link TableTagWorker} instance.
      *
@@ -97,6 +118,10 @@ public class TableTagWorker implements ITagWorker, IDisplayAware {
         if (lang != null) {
             tableWrapper.setLang(lang);
         }
+        if (isLargeTableModeApplicable(element, context)) {
+            largeTableBatchSize = context.getLargeTableBatchSize();
+            largeTableElement = element;
+        }
     }
 
     /* (non-Javadoc)
@@ -104,7 +129,12 @@ public class TableTagWorker implements ITagWorker, IDisplayAware {
      */
     @Override
     public void processEnd(IElementNode element, ProcessorContext context) {
-        table = tableWrapper.toTable(colgroupsHelper);
+        if (largeTableAddedToDocument) {
+            tableWrapper.flushRows(table);
+            table.complete();
+        } else {
+            table = tableWrapper.toTable(colgroupsHelper);
+        }
     }
 
     /* (non-Javadoc)
@@ -126,10 +156,17 @@ public class TableTagWorker implements ITagWorker, IDisplayAware {
             for (Cell cell : wrapper.getCells()) {
                 tableWrapper.addCell(cell);
             }
+            if (largeTableBatchSize > 0 && tableWrapper.getRowsSize() >= largeTableBatchSize) {
+                flushRowsToDocument(context);
+            }
             return true;
         } else if (childTagWorker instanceof TableTagWorker) {
             if (((TableTagWorker) childTagWorker).header) {
                 Table header = ((TableTagWorker) childTagWorker).tableWrapper.toTable(colgroupsHelper);
+                if (largeTableAddedToDocument) {
+                    addSectionRowsToBody(header, context);
+                    return true;
+                }
                 String headerLang = header.getAccessibilityProperties().getLanguage();
                 tableWrapper.setHeaderLang(headerLang);
                 for (int i = 0; i < header.getNumberOfRows(); i++) {
@@ -144,6 +181,10 @@ public class TableTagWorker implements ITagWorker, IDisplayAware {
                 return true;
             } else if (((TableTagWorker) childTagWorker).footer) {
                 Table footer = ((TableTagWorker) childTagWorker).tableWrapper.toTable(colgroupsHelper);
+                if (largeTableAddedToDocument) {
+                    addSectionRowsToBody(footer, context);
+                    return true;
+                }
                 String footerLang = footer.getAccessibilityProperties().getLanguage();
                 tableWrapper.setFooterLang(footerLang);
                 for (int i = 0; i < footer.getNumberOfRows(); i++) {
@@ -207,4 +248,97 @@ public class TableTagWorker implements ITagWorker, IDisplayAware {
             colgroupsHelper.applyColStyles();
         }
     }
+
+    /**
+     * Checks whether the table has already been added to the document as a large table,
+     * so that the parent tag worker shall not add it once again.
+     *
+     * @return true if the table has been added to the document
+     */
+    public boolean isLargeTableAddedToDocument() {
+        return largeTableAddedToDocument;
+    }
+
+    /**
+     * Writes the processed body rows to the document. On the first call the large table is created,
+     * the table styles are applied and the table is added to the document through the parent tag worker.
+     *
+     * @param context the context
+     */
+    private void flushRowsToDocument(ProcessorContext context) {
+        if (largeTableAddedToDocument) {
+            tableWrapper.flushRows(table);
+            table.flush();
+            return;
+        }
+        table = tableWrapper.toLargeTable(colgroupsHelper);
+        // Styles can't be applied after the table is partially laid out, so they are applied in advance
+        ICssApplier cssApplier = context.getCssApplierFactory().getCssApplier(largeTableElement);
+        if (cssApplier != null) {
+            cssApplier.apply(context, largeTableElement, this);
+        }
+        LinkHelper.createDestination(this, largeTableElement, context);
+        largeTableAddedToDocument = parentTagWorker.processTagChild(this, context);
+        if (largeTableAddedToDocument) {
+            tableWrapper.clearRows();
+        } else {
+            // The table wasn't accepted, it will be created from all the rows and handled as usual
+            table = null;
+            largeTableBatchSize = 0;
+        }
+    }
+
+    /**
+     * Adds the rows of a header or footer, which comes after the large table was added to the document,
+     * to the end of the table body. The header and footer of a large table can't be changed anymore
+     * once the table is being laid out.
+     *
+     * @param section the table created from the header or footer rows
+     * @param context the context
+     */
+    private void addSectionRowsToBody(Table section, ProcessorContext context) {
+        for (int i = 0; i < section.getNumberOfRows(); i++) {
+            tableWrapper.newRow();
+            for (int j = 0; j < section.getNumberOfColumns(); j++) {
+                Cell cell = section.getCell(i, j);
+                if (cell != null) {
+                    tableWrapper.addCell(cell);
+                }
+            }
+        }
+        if (tableWrapper.getRowsSize() >= largeTableBatchSize) {
+            flushRowsToDocument(context);
+        }
+    }
+
+    /**
+     * Checks whether the table can be written to the document in batches: it's a direct child of the
+     * document body, the document is in immediate flush mode and there are no properties which are applied
+     * only after the whole table is converted.
+     *
+     * @param element the table element
+     * @param context the context
+     * @return true if large table mode can be used
+     */
+    private boolean isLargeTableModeApplicable(IElementNode element, ProcessorContext context) {
+        if (context.getLargeTableBatchSize() <= 0 || parentTagWorker == null
+                || !(parentTagWorker.getElementResult() instanceof Document)) {
+            return false;
+        }
+        // The same conditions as for the immediate flush of the HtmlDocument
+        if (!context.isImmediateFlush() || context.getCssContext().isPagesCounterPresent()
+                || context.isCreateAcroForm() || context.isContinuousContainerEnabled()) {
+            return false;
+        }
+        Map<String, String> styles = element.getStyles();
+        if (styles == null) {
+            return true;
+        }
+        String pageBreakBefore = styles.get(CssConstants.PAGE_BREAK_BEFORE);
+        String position = styles.get(CssConstants.POSITION);
+        return (display == null || CssConstants.TABLE.equals(display))
+                && (pageBreakBefore == null || CssConstants.AUTO.equals(pageBreakBefore)
+                        || CssConstants.AVOID.equals(pageBreakBefore))
+                && (position == null || !position.startsWith(CssConstants.RUNNING));
+    }
 }
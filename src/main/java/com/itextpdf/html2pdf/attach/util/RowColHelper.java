@@ -23,16 +23,25 @@
 package com.itextpdf.html2pdf.attach.util;
 
 
-import java.util.ArrayList;
+import java.util.Arrays;
 
 /**
  * Helper class to keep track of the current column / row position in a table.
  */
 public class RowColHelper {
-    
-    /** The last empty row. */
-    private ArrayList<Integer> lastEmptyRow = new ArrayList<>();
-    
+
+    /** The initial capacity of the {@link #lastEmptyRow} buffer. */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * The last empty row per column: the index of the first row in which the column isn't occupied
+     * by a cell of the previous rows. Only the first {@link #columnsCount} values are used.
+     */
+    private int[] lastEmptyRow = new int[INITIAL_CAPACITY];
+
+    /** The number of columns tracked in {@link #lastEmptyRow}. */
+    private int columnsCount = 0;
+
     /** The current row index. */
     private int currRow = -1;
     
@@ -55,17 +64,20 @@ public class RowColHelper {
      */
     public void updateCurrentPosition(int colspan, int rowspan) {
         ensureRowIsStarted();
-        while (lastEmptyRow.size() < currCol) {
-            lastEmptyRow.add(currRow);
-        }
         int value = currRow + rowspan;
         int end = currCol + colspan;
-        int middle = Math.min(lastEmptyRow.size(), end);
+        ensureCapacity(end);
+        if (columnsCount < currCol) {
+            Arrays.fill(lastEmptyRow, columnsCount, currCol, currRow);
+            columnsCount = currCol;
+        }
+        int middle = Math.min(columnsCount, end);
         for (int i = currCol; i < middle; ++i) {
-            lastEmptyRow.set(i, Math.max(value, lastEmptyRow.get(i)));
+            lastEmptyRow[i] = Math.max(value, lastEmptyRow[i]);
         }
-        while (lastEmptyRow.size() < end) {
-            lastEmptyRow.add(value);
+        if (columnsCount < end) {
+            Arrays.fill(lastEmptyRow, columnsCount, end, value);
+            columnsCount = end;
         }
         currCol = end;
     }
@@ -91,10 +103,10 @@ public class RowColHelper {
      */
     private boolean canPutCell(int col) {
         ensureRowIsStarted();
-        if (col >= lastEmptyRow.size()) {
+        if (col >= columnsCount) {
             return true;
         } else {
-            return lastEmptyRow.get(col) <= currRow;
+            return lastEmptyRow[col] <= currRow;
         }
     }
 
@@ -106,4 +118,15 @@ public class RowColHelper {
             newRow();
         }
     }
+
+    /**
+     * Grows the {@link #lastEmptyRow} buffer so that it can hold the given number of columns.
+     *
+     * @param capacity the required number of columns
+     */
+    private void ensureCapacity(int capacity) {
+        if (capacity > lastEmptyRow.length) {
+            lastEmptyRow = Arrays.copyOf(lastEmptyRow, Math.max(capacity, lastEmptyRow.length * 2));
+        }
+    }
 }
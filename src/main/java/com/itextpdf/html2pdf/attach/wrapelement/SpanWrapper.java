@@ -27,17 +27,51 @@ import com.itextpdf.layout.element.IBlockElement;
 import com.itextpdf.layout.element.IElement;
 import com.itextpdf.layout.element.ILeafElement;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.RandomAccess;
 
 /**
  * Wrapper for the {@code span} element.
+ *
+ * <p>
+ * The elements of a span are kept as a range of a list which may be shared with the nested spans, so that
+ * adding a nested span to its parent doesn't copy its elements. The shared list is append-only, a span whose
+ * range isn't at the end of the list anymore moves its elements to a list of its own before it appends more.
  */
 public class SpanWrapper implements IWrapElement {
 
-    /** The children of the span element. */
-    private List<Object> children = new ArrayList<>();
+    /** The list containing the elements of the span, possibly shared with the enclosing and nested spans. */
+    private List<IPropertyContainer> elements;
+
+    /** The index of the first element of the span in the list. */
+    private int start;
+
+    /** The index after the last element of the span in the list. */
+    private int end;
+
+    /**
+     * Creates a new {@link SpanWrapper} instance.
+     */
+    public SpanWrapper() {
+        elements = new ArrayList<>();
+    }
+
+    /**
+     * Creates a new {@link SpanWrapper} instance for a span nested in another one. The elements of both spans
+     * are stored in the same list, so that the nested span is added to the enclosing one without copying.
+     * Nothing shall be added to the enclosing span until the nested one is added to it, otherwise
+     * the elements are copied as for an independent span.
+     *
+     * @param enclosingSpan the wrapper of the enclosing span
+     */
+    public SpanWrapper(SpanWrapper enclosingSpan) {
+        elements = enclosingSpan.elements;
+        start = elements.size();
+        end = start;
+    }
 
     /**
      * Adds a child span.
@@ -45,7 +79,12 @@ public class SpanWrapper implements IWrapElement {
      * @param span the span element to add
      */
     public void add(SpanWrapper span) {
-        children.add(span);
+        if (span.elements == elements && span.start == end) {
+            // The nested span has appended its elements right after the own ones
+            end = span.end;
+        } else {
+            addElements(span.getElements());
+        }
     }
 
     /**
@@ -54,7 +93,7 @@ public class SpanWrapper implements IWrapElement {
      * @param img the img element to add
      */
     public void add(ILeafElement img) {
-        children.add(img);
+        addElement(img);
     }
 
     /**
@@ -63,7 +102,7 @@ public class SpanWrapper implements IWrapElement {
      * @param block the block element to add
      */
     public void add(IBlockElement block) {
-        children.add(block);
+        addElement(block);
     }
 
     /**
@@ -72,24 +111,80 @@ public class SpanWrapper implements IWrapElement {
      * @param collection the collection to add
      */
     public void addAll(Collection<IElement> collection) {
-        children.addAll(collection);
+        addElements(collection);
     }
 
     /**
-     * Gets a list of all the child elements.
+     * Gets a list of all the child elements, including the elements of the nested spans.
+     * The list is a view of the span's elements, which doesn't support adding or removing elements,
+     * but replaced elements are replaced in the span as well.
      *
      * @return the child elements
      */
     public List<IPropertyContainer> getElements() {
-        List<IPropertyContainer> leafs = new ArrayList<>();
-        for (Object child : children) {
-            if (child instanceof IPropertyContainer) {
-                leafs.add((IPropertyContainer) child);
-            } else if (child instanceof SpanWrapper) {
-                leafs.addAll(((SpanWrapper) child).getElements());
-            }
+        return new ElementsView(elements, start, end);
+    }
+
+    private void addElement(IPropertyContainer element) {
+        prepareForAdding();
+        elements.add(element);
+        end++;
+    }
+
+    private void addElements(Collection<? extends IPropertyContainer> collection) {
+        prepareForAdding();
+        elements.addAll(collection);
+        end += collection.size();
+    }
+
+    private void prepareForAdding() {
+        if (end != elements.size()) {
+            // The list contains foreign elements after the own ones, e.g. the elements of a nested span
+            // which wasn't added to this one, so the own elements are moved to a separate list
+            elements = new ArrayList<IPropertyContainer>(getElements());
+            start = 0;
+            end = elements.size();
         }
-        return leafs;
     }
 
+    /**
+     * The view of a range of the list of span elements.
+     */
+    private static final class ElementsView extends AbstractList<IPropertyContainer> implements RandomAccess {
+
+        private final List<IPropertyContainer> elements;
+
+        private final int start;
+
+        private final int size;
+
+        ElementsView(List<IPropertyContainer> elements, int start, int end) {
+            this.elements = elements;
+            this.start = start;
+            this.size = end - start;
+        }
+
+        @Override
+        public IPropertyContainer get(int index) {
+            checkIndex(index);
+            return elements.get(start + index);
+        }
+
+        @Override
+        public IPropertyContainer set(int index, IPropertyContainer element) {
+            checkIndex(index);
+            return elements.set(start + index, element);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        private void checkIndex(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+        }
+    }
 }
@@ -30,9 +30,7 @@ import com.itextpdf.layout.element.Div;
 import com.itextpdf.layout.element.Table;
 import com.itextpdf.layout.properties.UnitValue;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
+import java.util.Arrays;
 
 /**
  * Wrapper for the {@code table} element.
@@ -40,13 +38,13 @@ import java.util.List;
 public class TableWrapper implements IWrapElement {
 
     /** The body rows of the table. */
-    private List<List<CellWrapper> > rows;
+    private CellStore rows;
     
     /** The header rows. */
-    private List<List<CellWrapper> > headerRows;
+    private CellStore headerRows;
     
     /** The footer rows. */
-    private List<List<CellWrapper> > footerRows;
+    private CellStore footerRows;
 
     /** The current position in the body of the table (row / column). */
     private RowColHelper rowShift = new RowColHelper();
@@ -91,12 +89,12 @@ public class TableWrapper implements IWrapElement {
     }
 
     /**
-     * Gets the number of rows.
+     * Gets the number of body rows which haven't been flushed to a large table yet.
      *
      * @return the number of rows
      */
     public int getRowsSize() {
-        return rows.size();
+        return rows == null ? 0 : rows.getRowsCount();
     }
 
     /**
@@ -104,10 +102,10 @@ public class TableWrapper implements IWrapElement {
      */
     public void newRow() {
         if (rows == null) {
-            rows = new ArrayList<>();
+            rows = new CellStore();
         }
         rowShift.newRow();
-        rows.add(new ArrayList<CellWrapper>());
+        rows.newRow();
     }
 
     /**
@@ -115,10 +113,10 @@ public class TableWrapper implements IWrapElement {
      */
     public void newHeaderRow() {
         if (headerRows == null) {
-            headerRows = new ArrayList<>();
+            headerRows = new CellStore();
         }
         headerRowShift.newRow();
-        headerRows.add(new ArrayList<CellWrapper>());
+        headerRows.newRow();
     }
 
     /**
@@ -126,10 +124,10 @@ public class TableWrapper implements IWrapElement {
      */
     public void newFooterRow() {
         if (footerRows == null) {
-            footerRows = new ArrayList<>();
+            footerRows = new CellStore();
         }
         footerRowShift.newRow();
-        footerRows.add(new ArrayList<CellWrapper>());
+        footerRows.newRow();
     }
 
     /**
@@ -139,9 +137,9 @@ public class TableWrapper implements IWrapElement {
      */
     public void addHeaderCell(Cell cell) {
         if (headerRows == null) {
-            headerRows = new ArrayList<>();
+            headerRows = new CellStore();
         }
-        if (headerRows.size() == 0) {
+        if (headerRows.getRowsCount() == 0) {
             newHeaderRow();
         }
         addCellToTable(cell, headerRows, headerRowShift);
@@ -154,9 +152,9 @@ public class TableWrapper implements IWrapElement {
      */
     public void addFooterCell(Cell cell) {
         if (footerRows == null) {
-            footerRows = new ArrayList<>();
+            footerRows = new CellStore();
         }
-        if (footerRows.size() == 0) {
+        if (footerRows.getRowsCount() == 0) {
             newFooterRow();
         }
         addCellToTable(cell, footerRows, footerRowShift);
@@ -169,9 +167,9 @@ public class TableWrapper implements IWrapElement {
      */
     public void addCell(Cell cell) {
         if (rows == null) {
-            rows = new ArrayList<>();
+            rows = new CellStore();
         }
-        if (rows.size() == 0) {
+        if (rows.getRowsCount() == 0) {
             newRow();
         }
         addCellToTable(cell, rows, rowShift);
@@ -211,11 +209,10 @@ public class TableWrapper implements IWrapElement {
      * @param table the table
      * @param tableRowShift the applicable table row shift (current col / row position).
      */
-    private void addCellToTable(Cell cell, List<List<CellWrapper>> table, RowColHelper tableRowShift) {
+    private void addCellToTable(Cell cell, CellStore table, RowColHelper tableRowShift) {
         int col = tableRowShift.moveToNextEmptyCol();
         tableRowShift.updateCurrentPosition(cell.getColspan(), cell.getRowspan());
-        List<CellWrapper> currentRow = table.get(table.size() - 1);
-        currentRow.add(new CellWrapper(col, cell));
+        table.addCell(cell);
         numberOfColumns = Math.max(numberOfColumns, col + cell.getColspan());
     }
 
@@ -235,22 +232,65 @@ public class TableWrapper implements IWrapElement {
      * @return the table
      */
     public Table toTable(WaitingColgroupsHelper colgroupsHelper) {
+        return createTable(colgroupsHelper, false);
+    }
+
+    /**
+     * Renders the rows processed so far to a large {@link Table} object.
+     * <p>
+     * The number of columns of the table is fixed by the processed rows and the colgroups. The body rows
+     * are kept until they are released with {@link #clearRows()} once the table has been accepted, so that
+     * the whole table can still be created with {@link #toTable(WaitingColgroupsHelper)} otherwise.
+     * The rest of the rows shall be added to the large table with {@link #flushRows(Table)}.
+     *
+     * @param colgroupsHelper the colgroups helper class
+     * @return the large table
+     */
+    public Table toLargeTable(WaitingColgroupsHelper colgroupsHelper) {
+        return createTable(colgroupsHelper, true);
+    }
+
+    /**
+     * Adds the body rows processed since the previous call to the large {@link Table} object
+     * and releases them.
+     *
+     * @param table the large table created by {@link #toLargeTable(WaitingColgroupsHelper)}
+     */
+    public void flushRows(Table table) {
+        addRowsToTable(table);
+        clearRows();
+    }
+
+    /**
+     * Releases the body rows processed so far, after they have been added to a large {@link Table} object.
+     */
+    public void clearRows() {
+        if (rows != null) {
+            rows.clear();
+        }
+    }
+
+    /**
+     * Renders the rows processed so far to a {@link Table} object.
+     *
+     * @param colgroupsHelper the colgroups helper class
+     * @param largeTable      whether the table shall be a large table
+     * @return the table
+     */
+    private Table createTable(WaitingColgroupsHelper colgroupsHelper, boolean largeTable) {
         Table table;
         if (numberOfColumns > 0) {
-            table = new Table(getColWidths(colgroupsHelper));
+            table = new Table(getColWidths(colgroupsHelper), largeTable);
         } else {
             // if table is empty, create empty table with single column
-            table = new Table(1);
+            table = new Table(1, largeTable);
         }
         AccessiblePropHelper.trySetLangAttribute(table, lang);
 
         if (headerRows != null) {
-            for (int i = 0; i < headerRows.size(); i++) {
-                if (isRtl) {
-                    Collections.reverse(headerRows.get(i));
-                }
-                for (int j = 0; j < headerRows.get(i).size(); j++) {
-                    Cell cell = headerRows.get(i).get(j).cell;
+            for (int i = 0; i < headerRows.getRowsCount(); i++) {
+                for (int j = 0; j < headerRows.getCellsCount(i); j++) {
+                    Cell cell = headerRows.getCell(i, j, isRtl);
                     ColWrapper colWrapper = colgroupsHelper.getColWrapper(j);
                     if (colWrapper != null) {
                         if (headerLang == null && cell.getAccessibilityProperties().getLanguage() == null) {
@@ -261,19 +301,16 @@ public class TableWrapper implements IWrapElement {
                     }
                     table.addHeaderCell(cell);
                 }
-                if (i != headerRows.size() - 1) {
+                if (i != headerRows.getRowsCount() - 1) {
                     table.getHeader().startNewRow();
                 }
             }
             AccessiblePropHelper.trySetLangAttribute(table.getHeader(), headerLang);
         }
         if (footerRows != null) {
-            for (int i = 0; i < footerRows.size(); i++) {
-                if (isRtl) {
-                    Collections.reverse(footerRows.get(i));
-                }
-                for (int j = 0; j < footerRows.get(i).size(); j++) {
-                    Cell cell = footerRows.get(i).get(j).cell;
+            for (int i = 0; i < footerRows.getRowsCount(); i++) {
+                for (int j = 0; j < footerRows.getCellsCount(i); j++) {
+                    Cell cell = footerRows.getCell(i, j, isRtl);
                     ColWrapper colWrapper = colgroupsHelper.getColWrapper(j);
                     if (colWrapper != null) {
                         if (footerLang == null && cell.getAccessibilityProperties().getLanguage() == null) {
@@ -284,30 +321,35 @@ public class TableWrapper implements IWrapElement {
                     }
                     table.addFooterCell(cell);
                 }
-                if (i != footerRows.size() - 1) {
+                if (i != footerRows.getRowsCount() - 1) {
                     table.getFooter().startNewRow();
                 }
             }
             AccessiblePropHelper.trySetLangAttribute(table.getFooter(), footerLang);
         }
+        if (caption != null) {
+            table.setCaption(caption);
+        }
+        addRowsToTable(table);
+
+        return table;
+    }
+
+    /**
+     * Adds the body rows to the table.
+     *
+     * @param table the table
+     */
+    private void addRowsToTable(Table table) {
         if (rows != null) {
-            for (int i = 0; i < rows.size(); i++) {
+            for (int i = 0; i < rows.getRowsCount(); i++) {
                 table.startNewRow();
 
-                if (isRtl) {
-                    Collections.reverse(rows.get(i));
-                }
-
-                for (int j = 0; j < rows.get(i).size(); j++) {
-                    table.addCell(rows.get(i).get(j).cell);
+                for (int j = 0; j < rows.getCellsCount(i); j++) {
+                    table.addCell(rows.getCell(i, j, isRtl));
                 }
             }
         }
-        if (caption != null) {
-            table.setCaption(caption);
-        }
-
-        return table;
     }
 
     /**
@@ -333,25 +375,89 @@ public class TableWrapper implements IWrapElement {
     }
 
     /**
-     * Wrapper for the {@code td}/{@code th} element.
+     * The cells of a group of rows, stored one after another in a single array.
      */
-    private static class CellWrapper {
+    private static class CellStore {
+
+        /** The initial capacity of the buffers. */
+        private static final int INITIAL_CAPACITY = 16;
+
+        /** The cells of all the rows in document order. */
+        private Cell[] cells = new Cell[INITIAL_CAPACITY];
+
+        /** The number of cells. */
+        private int cellsCount = 0;
+
+        /** The index of the first cell of each row in {@link #cells}. */
+        private int[] rowStarts = new int[INITIAL_CAPACITY];
 
-        /** The column index. */
-        int col;
-        
-        /** The cell. */
-        Cell cell;
+        /** The number of rows. */
+        private int rowsCount = 0;
 
         /**
-         * Creates a new {@link CellWrapper} instance.
+         * Starts a new row.
+         */
+        void newRow() {
+            if (rowsCount == rowStarts.length) {
+                rowStarts = Arrays.copyOf(rowStarts, rowsCount * 2);
+            }
+            rowStarts[rowsCount++] = cellsCount;
+        }
+
+        /**
+         * Adds a cell to the last row.
          *
-         * @param col the column index
          * @param cell the cell
          */
-        CellWrapper(int col, Cell cell) {
-            this.col = col;
-            this.cell = cell;
+        void addCell(Cell cell) {
+            if (cellsCount == cells.length) {
+                cells = Arrays.copyOf(cells, cellsCount * 2);
+            }
+            cells[cellsCount++] = cell;
+        }
+
+        /**
+         * Gets the number of rows.
+         *
+         * @return the number of rows
+         */
+        int getRowsCount() {
+            return rowsCount;
+        }
+
+        /**
+         * Gets the number of cells in a row.
+         *
+         * @param row the row index
+         * @return the number of cells
+         */
+        int getCellsCount(int row) {
+            return getRowEnd(row) - rowStarts[row];
+        }
+
+        /**
+         * Gets a cell of a row.
+         *
+         * @param row      the row index
+         * @param index    the index of the cell in the row
+         * @param reversed true to count the cells from the end of the row, as for right to left direction
+         * @return the cell
+         */
+        Cell getCell(int row, int index, boolean reversed) {
+            return reversed ? cells[getRowEnd(row) - 1 - index] : cells[rowStarts[row] + index];
+        }
+
+        /**
+         * Removes all the rows and releases the cells.
+         */
+        void clear() {
+            Arrays.fill(cells, 0, cellsCount, null);
+            cellsCount = 0;
+            rowsCount = 0;
+        }
+
+        private int getRowEnd(int row) {
+            return row + 1 < rowsCount ? rowStarts[row + 1] : cellsCount;
         }
     }
 }
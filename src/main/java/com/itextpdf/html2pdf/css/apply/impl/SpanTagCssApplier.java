@@ -45,6 +45,7 @@ import com.itextpdf.layout.properties.FloatPropertyValue;
 import com.itextpdf.layout.properties.Property;
 import com.itextpdf.styledxmlparser.node.IStylesContainer;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
@@ -59,10 +60,18 @@ public class SpanTagCssApplier implements ICssApplier {
     public void apply(ProcessorContext context, IStylesContainer stylesContainer, ITagWorker tagWorker) {
         SpanTagWorker spanTagWorker = (SpanTagWorker) tagWorker;
         Map<String, String> cssStyles = stylesContainer.getStyles();
+        PropertyRecorder textStyles = null;
         for (IPropertyContainer child : spanTagWorker.getOwnLeafElements()) {
             // Workaround for form fields so that SpanTagCssApplier does not apply its font-size to the child.
             // Form fields have their own CSS applier
-            if (!(child instanceof IFormField)) {
+            if (isPlainText(child)) {
+                // The styles are the same for all the text chunks of the span, so they are resolved only once
+                if (textStyles == null) {
+                    textStyles = new PropertyRecorder();
+                    applyChildElementStyles(textStyles, cssStyles, context, stylesContainer);
+                }
+                textStyles.copyTo(child);
+            } else if (!(child instanceof IFormField)) {
                 applyChildElementStyles(child, cssStyles, context, stylesContainer);
             }
         }
@@ -89,11 +98,20 @@ public class SpanTagCssApplier implements ICssApplier {
         }
 
         if (spanTagWorker.getAllElements() != null) {
+            PropertyRecorder backgroundStyles = null;
             for (IPropertyContainer child : spanTagWorker.getAllElements()) {
                 FloatPropertyValue kidFloatVal = child.<FloatPropertyValue>getProperty(Property.FLOAT);
                 if (child instanceof Text && !child.hasOwnProperty(Property.BACKGROUND)
                         && (kidFloatVal == null || FloatPropertyValue.NONE.equals(kidFloatVal))) {
-                    BackgroundApplierUtil.applyBackground(cssStyles, context, child);
+                    if (isPlainText(child)) {
+                        if (backgroundStyles == null) {
+                            backgroundStyles = new PropertyRecorder();
+                            BackgroundApplierUtil.applyBackground(cssStyles, context, backgroundStyles);
+                        }
+                        backgroundStyles.copyTo(child);
+                    } else {
+                        BackgroundApplierUtil.applyBackground(cssStyles, context, child);
+                    }
                 }
             }
         }
@@ -119,4 +137,48 @@ public class SpanTagCssApplier implements ICssApplier {
         PaddingApplierUtil.applyPaddings(css, context, element);
     }
 
+    /**
+     * Checks whether the styles of an element can be copied from another {@link Text} element
+     * the same styles were applied to.
+     *
+     * @param element the element
+     * @return true if the element is a {@link Text} instance, but not an instance of its subclass
+     */
+    private static boolean isPlainText(IPropertyContainer element) {
+        return element != null && element.getClass() == Text.class;
+    }
+
+    /**
+     * {@link Text} element which records the properties set to it, so that they can be set to other elements.
+     * The property values are shared between the elements, they aren't modified after being set.
+     */
+    private static final class PropertyRecorder extends Text {
+
+        private final Map<Integer, Object> recordedProperties = new LinkedHashMap<>();
+
+        PropertyRecorder() {
+            super("");
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void setProperty(int property, Object value) {
+            super.setProperty(property, value);
+            recordedProperties.put(property, value);
+        }
+
+        /**
+         * Sets the recorded properties to an element.
+         *
+         * @param element the element
+         */
+        void copyTo(IPropertyContainer element) {
+            for (Map.Entry<Integer, Object> property : recordedProperties.entrySet()) {
+                element.setProperty((int) property.getKey(), property.getValue());
+            }
+        }
+    }
+
 }
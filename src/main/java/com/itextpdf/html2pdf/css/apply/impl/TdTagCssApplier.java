@@ -28,10 +28,10 @@ import com.itextpdf.html2pdf.css.CssConstants;
 import com.itextpdf.html2pdf.css.apply.ICssApplier;
 import com.itextpdf.html2pdf.css.apply.util.BorderStyleApplierUtil;
 import com.itextpdf.html2pdf.css.apply.util.VerticalAlignmentApplierUtil;
+import com.itextpdf.html2pdf.css.resolve.ComputedStyleMap;
 import com.itextpdf.layout.IPropertyContainer;
 import com.itextpdf.layout.borders.Border;
 import com.itextpdf.layout.properties.Property;
-import com.itextpdf.styledxmlparser.css.util.CssDimensionParsingUtils;
 import com.itextpdf.styledxmlparser.node.IStylesContainer;
 import java.util.Map;
 
@@ -52,7 +52,7 @@ public class TdTagCssApplier extends BlockCssApplier {
             Map<String, String> cssProps = stylesContainer.getStyles();
             VerticalAlignmentApplierUtil.applyVerticalAlignmentForCells(cssProps, context, cell);
 
-            float em = CssDimensionParsingUtils.parseAbsoluteLength(cssProps.get(CssConstants.FONT_SIZE));
+            float em = ComputedStyleMap.getAbsoluteLength(cssProps, CssConstants.FONT_SIZE);
             float rem = context.getCssContext().getRootFontSize();
 
             Border[] bordersArray = BorderStyleApplierUtil.getBordersArray(cssProps, em, rem);
@@ -27,6 +27,7 @@ import com.itextpdf.html2pdf.attach.ProcessorContext;
 import com.itextpdf.html2pdf.css.CssConstants;
 import com.itextpdf.html2pdf.css.apply.ICssApplier;
 import com.itextpdf.html2pdf.css.apply.util.ListStyleApplierUtil;
+import com.itextpdf.html2pdf.css.resolve.ComputedStyleMap;
 import com.itextpdf.layout.IPropertyContainer;
 import com.itextpdf.layout.element.List;
 import com.itextpdf.layout.element.MulticolContainer;
@@ -71,7 +72,7 @@ public class UlOlTagCssApplier extends BlockCssApplier {
         // process the padding considering the direction
         boolean isRtl = BaseDirection.RIGHT_TO_LEFT.equals(list.<BaseDirection>getProperty(Property.BASE_DIRECTION));
         if ((isRtl && !list.hasProperty(Property.PADDING_RIGHT)) || (!isRtl && !list.hasProperty(Property.PADDING_LEFT))) {
-            float em = CssDimensionParsingUtils.parseAbsoluteLength(css.get(CssConstants.FONT_SIZE));
+            float em = ComputedStyleMap.getAbsoluteLength(css, CssConstants.FONT_SIZE);
             float rem = context.getCssContext().getRootFontSize();
             UnitValue startPadding = CssDimensionParsingUtils
                     .parseLengthValueToPt(css.get(CssConstants.PADDING_INLINE_START), em, rem);
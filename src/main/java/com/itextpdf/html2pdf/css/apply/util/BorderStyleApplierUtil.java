@@ -24,6 +24,7 @@ package com.itextpdf.html2pdf.css.apply.util;
 
 import com.itextpdf.html2pdf.attach.ProcessorContext;
 import com.itextpdf.html2pdf.css.CssConstants;
+import com.itextpdf.html2pdf.css.resolve.ComputedStyleMap;
 import com.itextpdf.kernel.colors.Color;
 import com.itextpdf.kernel.colors.ColorConstants;
 import com.itextpdf.kernel.colors.DeviceCmyk;
@@ -66,7 +67,7 @@ public class BorderStyleApplierUtil {
      * @param element  the element
      */
     public static void applyBorders(Map<String, String> cssProps, ProcessorContext context, IPropertyContainer element) {
-        float em = CssDimensionParsingUtils.parseAbsoluteLength(cssProps.get(CssConstants.FONT_SIZE));
+        float em = ComputedStyleMap.getAbsoluteLength(cssProps, CssConstants.FONT_SIZE);
         float rem = context.getCssContext().getRootFontSize();
 
         Border[] bordersArray = getBordersArray(cssProps, em, rem);
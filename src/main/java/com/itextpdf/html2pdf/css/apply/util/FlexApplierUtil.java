@@ -24,6 +24,7 @@ package com.itextpdf.html2pdf.css.apply.util;
 
 import com.itextpdf.html2pdf.attach.ProcessorContext;
 import com.itextpdf.html2pdf.css.CssConstants;
+import com.itextpdf.html2pdf.css.resolve.ComputedStyleMap;
 import com.itextpdf.html2pdf.logs.Html2PdfLogMessageConstant;
 import com.itextpdf.commons.utils.MessageFormatUtil;
 import com.itextpdf.layout.IPropertyContainer;
@@ -81,7 +82,7 @@ final public class FlexApplierUtil {
         final String flexBasis = cssProps.get(CommonCssConstants.FLEX_BASIS);
         if (flexBasis != null && !CommonCssConstants.AUTO.equals(flexBasis)) {
             if (!CommonCssConstants.CONTENT.equals(flexBasis)) {
-                final float em = CssDimensionParsingUtils.parseAbsoluteLength(cssProps.get(CssConstants.FONT_SIZE));
+                final float em = ComputedStyleMap.getAbsoluteLength(cssProps, CssConstants.FONT_SIZE);
                 final float rem = context.getCssContext().getRootFontSize();
                 final UnitValue flexBasisAbsoluteLength = CssDimensionParsingUtils
                         .parseLengthValueToPt(flexBasis, em, rem);
@@ -22,6 +22,7 @@
  */
 package com.itextpdf.html2pdf.css.apply.util;
 
+import com.itextpdf.html2pdf.css.resolve.ComputedStyleMap;
 import com.itextpdf.html2pdf.logs.Html2PdfLogMessageConstant;
 import com.itextpdf.html2pdf.attach.ProcessorContext;
 import com.itextpdf.html2pdf.css.CssConstants;
@@ -89,7 +90,7 @@ public final class FontStyleApplierUtil {
      */
     public static void applyFontStyles(Map<String, String> cssProps, ProcessorContext context,
             IStylesContainer stylesContainer, IPropertyContainer element) {
-        float em = CssDimensionParsingUtils.parseAbsoluteLength(cssProps.get(CssConstants.FONT_SIZE));
+        float em = ComputedStyleMap.getAbsoluteLength(cssProps, CssConstants.FONT_SIZE);
         float rem = context.getCssContext().getRootFontSize();
         if (em != 0) {
             element.setProperty(Property.FONT_SIZE, UnitValue.createPointValue(em));
@@ -22,6 +22,7 @@
  */
 package com.itextpdf.html2pdf.css.apply.util;
 
+import com.itextpdf.html2pdf.css.resolve.ComputedStyleMap;
 import com.itextpdf.html2pdf.logs.Html2PdfLogMessageConstant;
 import com.itextpdf.html2pdf.attach.ProcessorContext;
 import com.itextpdf.html2pdf.css.CssConstants;
@@ -47,7 +48,6 @@ import com.itextpdf.layout.properties.ListNumberingType;
 import com.itextpdf.layout.properties.ListSymbolPosition;
 import com.itextpdf.layout.properties.Property;
 import com.itextpdf.styledxmlparser.css.util.CssGradientUtil;
-import com.itextpdf.styledxmlparser.css.util.CssDimensionParsingUtils;
 import com.itextpdf.styledxmlparser.css.util.CssUtils;
 import com.itextpdf.styledxmlparser.exceptions.StyledXMLParserException;
 import com.itextpdf.styledxmlparser.node.IElementNode;
@@ -116,7 +116,7 @@ public final class ListStyleApplierUtil {
         PdfXObject imageXObject = null;
         if (listStyleImageStr != null && !CssConstants.NONE.equals(listStyleImageStr)) {
             if (CssGradientUtil.isCssLinearGradientValue(listStyleImageStr)) {
-                float em = CssDimensionParsingUtils.parseAbsoluteLength(cssProps.get(CssConstants.FONT_SIZE));
+                float em = ComputedStyleMap.getAbsoluteLength(cssProps, CssConstants.FONT_SIZE);
                 float rem = context.getCssContext().getRootFontSize();
                 try {
                     StrategyBasedLinearGradientBuilder gradientBuilder =
@@ -169,7 +169,7 @@ public final class ListStyleApplierUtil {
      * @param element the element
      */
     public static void applyListStyleTypeProperty(IStylesContainer stylesContainer, Map<String, String> cssProps, ProcessorContext context, IPropertyContainer element) {
-        float em = CssDimensionParsingUtils.parseAbsoluteLength(cssProps.get(CssConstants.FONT_SIZE));
+        float em = ComputedStyleMap.getAbsoluteLength(cssProps, CssConstants.FONT_SIZE);
 
         String style = cssProps.get(CssConstants.LIST_STYLE_TYPE);
         if (CssConstants.DISC.equals(style)) {
@@ -22,6 +22,7 @@
  */
 package com.itextpdf.html2pdf.css.apply.util;
 
+import com.itextpdf.html2pdf.css.resolve.ComputedStyleMap;
 import com.itextpdf.html2pdf.logs.Html2PdfLogMessageConstant;
 import com.itextpdf.html2pdf.attach.ProcessorContext;
 import com.itextpdf.html2pdf.css.CssConstants;
@@ -82,7 +83,7 @@ public final class MarginApplierUtil {
         boolean isBlock = element instanceof IBlockElement || CssConstants.BLOCK.equals(cssProps.get(CssConstants.DISPLAY));
         boolean isImage = element instanceof Image;
         
-        float em = CssDimensionParsingUtils.parseAbsoluteLength(cssProps.get(CssConstants.FONT_SIZE));
+        float em = ComputedStyleMap.getAbsoluteLength(cssProps, CssConstants.FONT_SIZE);
         float rem = context.getCssContext().getRootFontSize();
 
         if (isBlock || isImage) {
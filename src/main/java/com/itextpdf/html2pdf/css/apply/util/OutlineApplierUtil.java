@@ -42,6 +42,7 @@ import com.itextpdf.layout.properties.Property;
 import com.itextpdf.layout.properties.TransparentColor;
 import com.itextpdf.layout.properties.UnitValue;
 import com.itextpdf.html2pdf.css.CssConstants;
+import com.itextpdf.html2pdf.css.resolve.ComputedStyleMap;
 import com.itextpdf.styledxmlparser.css.resolve.CssDefaults;
 import com.itextpdf.styledxmlparser.css.util.CssDimensionParsingUtils;
 
@@ -74,7 +75,7 @@ public class OutlineApplierUtil {
      * @param element  the element
      */
     public static void applyOutlines(Map<String, String> cssProps, ProcessorContext context, IPropertyContainer element) {
-        float em = CssDimensionParsingUtils.parseAbsoluteLength(cssProps.get(CssConstants.FONT_SIZE));
+        float em = ComputedStyleMap.getAbsoluteLength(cssProps, CssConstants.FONT_SIZE);
         float rem = context.getCssContext().getRootFontSize();
 
         Border outline = getCertainBorder(cssProps.get(CssConstants.OUTLINE_WIDTH),
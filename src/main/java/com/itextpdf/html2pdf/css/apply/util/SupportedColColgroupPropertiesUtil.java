@@ -24,6 +24,7 @@ package com.itextpdf.html2pdf.css.apply.util;
 
 import com.itextpdf.html2pdf.attach.ProcessorContext;
 import com.itextpdf.html2pdf.css.CssConstants;
+import com.itextpdf.html2pdf.css.resolve.ComputedStyleMap;
 import com.itextpdf.layout.properties.UnitValue;
 import com.itextpdf.styledxmlparser.css.util.CssDimensionParsingUtils;
 
@@ -72,7 +73,7 @@ public class SupportedColColgroupPropertiesUtil {
      */
     //The Width is a special case, casue it should be transferred from <colgroup> to <col> but it not applied to <td> or <th>
     public static UnitValue getWidth(Map<String, String> resolvedCssProps, ProcessorContext context) {
-        float em = CssDimensionParsingUtils.parseAbsoluteLength(resolvedCssProps.get(CssConstants.FONT_SIZE));
+        float em = ComputedStyleMap.getAbsoluteLength(resolvedCssProps, CssConstants.FONT_SIZE);
         String width = resolvedCssProps.get(CssConstants.WIDTH);
         return width != null ? CssDimensionParsingUtils.parseLengthValueToPt(width, em, context.getCssContext().getRootFontSize()) : null;
     }
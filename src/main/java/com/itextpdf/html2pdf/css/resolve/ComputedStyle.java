@@ -0,0 +1,176 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2025 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.html2pdf.css.resolve;
+
+import com.itextpdf.styledxmlparser.css.util.CssDimensionParsingUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable computed styles of an element. Equal computed styles are interned by {@link DefaultCssResolver},
+ * so the elements with the same styles share a single instance, see {@link ComputedStyleMap}.
+ * <p>
+ * The properties are kept in arrays sorted by the hash codes of their names, so a property is looked up
+ * by comparing integers, and the lengths parsed from the values are cached.
+ */
+final class ComputedStyle {
+
+    private static final Comparator<Map.Entry<String, String>> PROPERTY_COMPARATOR =
+            new Comparator<Map.Entry<String, String>>() {
+                @Override
+                public int compare(Map.Entry<String, String> o1, Map.Entry<String, String> o2) {
+                    int result = Integer.compare(o1.getKey().hashCode(), o2.getKey().hashCode());
+                    return result != 0 ? result : o1.getKey().compareTo(o2.getKey());
+                }
+            };
+
+    private final int[] hashes;
+
+    private final String[] properties;
+
+    private final String[] values;
+
+    private final int hashCode;
+
+    private Map<String, Float> absoluteLengths;
+
+    /**
+     * Creates the computed styles from the resolved styles of an element.
+     *
+     * @param styles the resolved styles
+     */
+    ComputedStyle(Map<String, String> styles) {
+        List<Map.Entry<String, String>> entries = new ArrayList<>(styles.entrySet());
+        Collections.sort(entries, PROPERTY_COMPARATOR);
+        hashes = new int[entries.size()];
+        properties = new String[entries.size()];
+        values = new String[entries.size()];
+        for (int i = 0; i < entries.size(); ++i) {
+            properties[i] = entries.get(i).getKey();
+            values[i] = entries.get(i).getValue();
+            hashes[i] = properties[i].hashCode();
+        }
+        hashCode = 31 * Arrays.hashCode(properties) + Arrays.hashCode(values);
+    }
+
+    /**
+     * Gets the number of properties.
+     *
+     * @return the number of properties
+     */
+    int size() {
+        return properties.length;
+    }
+
+    /**
+     * Gets the name of the property at the index.
+     *
+     * @param index the index of the property
+     * @return the property name
+     */
+    String getProperty(int index) {
+        return properties[index];
+    }
+
+    /**
+     * Gets the value of the property at the index.
+     *
+     * @param index the index of the property
+     * @return the property value
+     */
+    String getValue(int index) {
+        return values[index];
+    }
+
+    /**
+     * Finds the index of a property.
+     *
+     * @param property the property name
+     * @return the index of the property, or -1 if there is no such property
+     */
+    int indexOf(Object property) {
+        if (!(property instanceof String)) {
+            return -1;
+        }
+        int hash = property.hashCode();
+        int low = 0;
+        int high = hashes.length - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            if (hashes[middle] < hash) {
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        for (int i = low; i < hashes.length && hashes[i] == hash; ++i) {
+            if (properties[i].equals(property)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Gets the value of a property parsed as an absolute length, parsing it only once.
+     *
+     * @param property the property name
+     * @return the length in points
+     */
+    float getAbsoluteLength(String property) {
+        if (absoluteLengths == null) {
+            absoluteLengths = new HashMap<>();
+        }
+        Float length = absoluteLengths.get(property);
+        if (length == null) {
+            int index = indexOf(property);
+            length = CssDimensionParsingUtils.parseAbsoluteLength(index < 0 ? null : values[index]);
+            absoluteLengths.put(property, length);
+        }
+        return (float) length;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ComputedStyle other = (ComputedStyle) o;
+        return hashCode == other.hashCode && Arrays.equals(properties, other.properties)
+                && Arrays.equals(values, other.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+}
@@ -0,0 +1,235 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2025 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.html2pdf.css.resolve;
+
+import com.itextpdf.styledxmlparser.css.util.CssDimensionParsingUtils;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * The {@link Map} view of the computed styles of an element, which are resolved by {@link DefaultCssResolver}.
+ * <p>
+ * The elements with equal computed styles share the same immutable properties, so the view takes almost
+ * no memory. The view is copy-on-write: the first modification, whether through the map itself, its entries
+ * or the iterators of its collection views, copies the properties into a map which is owned by the view.
+ */
+public final class ComputedStyleMap extends AbstractMap<String, String> {
+
+    private final ComputedStyle style;
+
+    private Map<String, String> modifiedStyles;
+
+    private Set<Map.Entry<String, String>> entrySet;
+
+    /**
+     * Creates a new {@link ComputedStyleMap} instance.
+     *
+     * @param style the shared computed styles
+     */
+    ComputedStyleMap(ComputedStyle style) {
+        this.style = style;
+    }
+
+    /**
+     * Gets the value of a style property parsed as an absolute length. If the styles are computed styles
+     * which weren't modified, the value is parsed only once for all the elements sharing them.
+     *
+     * @param styles   the styles of an element
+     * @param property the property name
+     * @return the length in points
+     */
+    public static float getAbsoluteLength(Map<String, String> styles, String property) {
+        if (styles instanceof ComputedStyleMap && ((ComputedStyleMap) styles).modifiedStyles == null) {
+            return ((ComputedStyleMap) styles).style.getAbsoluteLength(property);
+        }
+        return CssDimensionParsingUtils.parseAbsoluteLength(styles.get(property));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String get(Object key) {
+        if (modifiedStyles != null) {
+            return modifiedStyles.get(key);
+        }
+        int index = style.indexOf(key);
+        return index < 0 ? null : style.getValue(index);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsKey(Object key) {
+        return modifiedStyles != null ? modifiedStyles.containsKey(key) : style.indexOf(key) >= 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return modifiedStyles != null ? modifiedStyles.size() : style.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String put(String key, String value) {
+        return getModifiedStyles().put(key, value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String remove(Object key) {
+        return getModifiedStyles().remove(key);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        getModifiedStyles().clear();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<Map.Entry<String, String>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (o instanceof ComputedStyleMap && modifiedStyles == null
+                && ((ComputedStyleMap) o).modifiedStyles == null) {
+            return style.equals(((ComputedStyleMap) o).style);
+        }
+        return super.equals(o);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+
+    /**
+     * The entry set view, which switches to the entries of the owned map once the styles are modified.
+     */
+    private final class EntrySet extends AbstractSet<Map.Entry<String, String>> {
+        @Override
+        public Iterator<Map.Entry<String, String>> iterator() {
+            if (modifiedStyles != null) {
+                return modifiedStyles.entrySet().iterator();
+            }
+            return new SharedStyleIterator();
+        }
+
+        @Override
+        public int size() {
+            return ComputedStyleMap.this.size();
+        }
+    }
+
+    /**
+     * The iterator over the shared properties. Removing an entry copies the properties into the owned map
+     * first, the iteration goes on over the shared properties, which are never changed.
+     */
+    private final class SharedStyleIterator implements Iterator<Map.Entry<String, String>> {
+        private int index;
+
+        private String lastProperty;
+
+        @Override
+        public boolean hasNext() {
+            return index < style.size();
+        }
+
+        @Override
+        public Map.Entry<String, String> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            lastProperty = style.getProperty(index);
+            Map.Entry<String, String> entry = new StyleEntry(lastProperty, style.getValue(index));
+            ++index;
+            return entry;
+        }
+
+        @Override
+        public void remove() {
+            if (lastProperty == null) {
+                throw new IllegalStateException();
+            }
+            getModifiedStyles().remove(lastProperty);
+            lastProperty = null;
+        }
+    }
+
+    /**
+     * The entry of a shared property, setting its value copies the properties into the owned map first.
+     */
+    private final class StyleEntry extends AbstractMap.SimpleEntry<String, String> {
+        StyleEntry(String property, String value) {
+            super(property, value);
+        }
+
+        @Override
+        public String setValue(String value) {
+            getModifiedStyles().put(getKey(), value);
+            return super.setValue(value);
+        }
+    }
+
+    private Map<String, String> getModifiedStyles() {
+        if (modifiedStyles == null) {
+            Map<String, String> styles = new HashMap<>(style.size());
+            for (int i = 0; i < style.size(); ++i) {
+                styles.put(style.getProperty(i), style.getValue(i));
+            }
+            modifiedStyles = styles;
+        }
+        return modifiedStyles;
+    }
+}
@@ -49,6 +49,9 @@ public class CssContext extends AbstractCssContext {
     /** Indicates if a non-page(s) target-counter(s) is present. */
     private boolean nonPagesTargetCounterPresent = false;
 
+    /** Indicates if a page(s) target-counter(s) is present. */
+    private boolean pageTargetCounterPresent = false;
+
     /** The running elements manager. */
     private CssRunningManager runningManager = new CssRunningManager();
 
@@ -142,6 +145,24 @@ public class CssContext extends AbstractCssContext {
         return nonPagesTargetCounterPresent;
     }
 
+    /**
+     * Sets the presence of a page(s) target-counter(s).
+     *
+     * @param pageTargetCounterPresent the new page(s) target-counter(s) present
+     */
+    public void setPageTargetCounterPresent(boolean pageTargetCounterPresent) {
+        this.pageTargetCounterPresent = pageTargetCounterPresent;
+    }
+
+    /**
+     * Checks if a page(s) target-counter(s) is present.
+     *
+     * @return true, if page(s) target-counter(s) present
+     */
+    public boolean isPageTargetCounterPresent() {
+        return pageTargetCounterPresent;
+    }
+
     /**
      * Get running element's manager.
      *
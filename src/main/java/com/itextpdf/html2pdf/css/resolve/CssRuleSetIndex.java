@@ -0,0 +1,340 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2025 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.html2pdf.css.resolve;
+
+import com.itextpdf.html2pdf.html.AttributeConstants;
+import com.itextpdf.styledxmlparser.css.CssRuleSet;
+import com.itextpdf.styledxmlparser.css.CssStatement;
+import com.itextpdf.styledxmlparser.css.CssStyleSheet;
+import com.itextpdf.styledxmlparser.css.media.CssMediaRule;
+import com.itextpdf.styledxmlparser.css.media.MediaDeviceDescription;
+import com.itextpdf.styledxmlparser.css.page.CssPageRule;
+import com.itextpdf.styledxmlparser.css.pseudo.CssPseudoElementNode;
+import com.itextpdf.styledxmlparser.css.selector.AbstractCssSelector;
+import com.itextpdf.styledxmlparser.css.selector.ICssSelector;
+import com.itextpdf.styledxmlparser.css.selector.item.CssClassSelectorItem;
+import com.itextpdf.styledxmlparser.css.selector.item.CssIdSelectorItem;
+import com.itextpdf.styledxmlparser.css.selector.item.CssPseudoElementSelectorItem;
+import com.itextpdf.styledxmlparser.css.selector.item.CssSeparatorSelectorItem;
+import com.itextpdf.styledxmlparser.css.selector.item.CssTagSelectorItem;
+import com.itextpdf.styledxmlparser.css.selector.item.ICssSelectorItem;
+import com.itextpdf.styledxmlparser.node.IElementNode;
+import com.itextpdf.styledxmlparser.node.INode;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Index of the rule sets of a {@link CssStyleSheet} which allows to find the rule sets matching
+ * an element without checking every rule set of the style sheet.
+ *
+ * <p>
+ * Rule sets are bucketed by the id, class or tag name of the rightmost compound selector,
+ * media rules are pre-filtered against the {@link MediaDeviceDescription}. Any other statement
+ * (e.g. page rules) as well as rule sets which cannot be bucketed are checked for every element.
+ * The result is identical to {@link CssStyleSheet#getCssRuleSets(INode, MediaDeviceDescription)},
+ * including the order of rule sets with equal specificity.
+ */
+class CssRuleSetIndex {
+
+    /**
+     * Comparator which sorts rule sets by specificity in the same way as the style sheet does.
+     */
+    private static final Comparator<CssRuleSet> SPECIFICITY_COMPARATOR = new Comparator<CssRuleSet>() {
+        @Override
+        public int compare(CssRuleSet o1, CssRuleSet o2) {
+            return o1.getSelector().calculateSpecificity() - o2.getSelector().calculateSpecificity();
+        }
+    };
+
+    /**
+     * Comparator which restores the document order of the candidate entries.
+     */
+    private static final Comparator<IndexEntry> ORDINAL_COMPARATOR = new Comparator<IndexEntry>() {
+        @Override
+        public int compare(IndexEntry o1, IndexEntry o2) {
+            return Integer.compare(o1.ordinal, o2.ordinal);
+        }
+    };
+
+    /**
+     * The indexed style sheet.
+     */
+    private final CssStyleSheet styleSheet;
+
+    /**
+     * The device description against which media rules are filtered.
+     */
+    private final MediaDeviceDescription deviceDescription;
+
+    /**
+     * Entries keyed by the id of the rightmost compound selector.
+     */
+    private final Map<String, List<IndexEntry>> idEntries = new HashMap<>();
+
+    /**
+     * Entries keyed by a class name of the rightmost compound selector.
+     */
+    private final Map<String, List<IndexEntry>> classEntries = new HashMap<>();
+
+    /**
+     * Entries keyed by the lower-cased tag name of the rightmost compound selector.
+     */
+    private final Map<String, List<IndexEntry>> tagEntries = new HashMap<>();
+
+    /**
+     * Entries which shall be checked for every element.
+     */
+    private final List<IndexEntry> universalEntries = new ArrayList<>();
+
+    /**
+     * Lower-cased tag names whose bucket contains entries which depend on more than the tag name.
+     */
+    private final Set<String> tagNamesWithComplexEntries = new HashSet<>();
+
+    /**
+     * Indicates whether all universal entries depend on the tag name only.
+     */
+    private boolean universalEntriesByTagNameOnly = true;
+
+    /**
+     * The number of indexed statements, used as the ordinal of the next entry.
+     */
+    private int entriesCount = 0;
+
+    /**
+     * Creates a new {@link CssRuleSetIndex} instance.
+     *
+     * @param styleSheet        the style sheet to index
+     * @param deviceDescription the device description
+     */
+    CssRuleSetIndex(CssStyleSheet styleSheet, MediaDeviceDescription deviceDescription) {
+        this.styleSheet = styleSheet;
+        this.deviceDescription = deviceDescription;
+        for (CssStatement statement : styleSheet.getStatements()) {
+            addStatement(statement);
+        }
+    }
+
+    /**
+     * Gets the rule sets which match the node, sorted by specificity.
+     *
+     * @param node the node
+     * @return the list of matching {@link CssRuleSet} instances
+     */
+    List<CssRuleSet> getCssRuleSets(INode node) {
+        if (!(node instanceof IElementNode) || node instanceof CssPseudoElementNode) {
+            // Pseudo elements and non-element nodes are rare, so they are matched against the whole style sheet
+            return styleSheet.getCssRuleSets(node, deviceDescription);
+        }
+        IElementNode element = (IElementNode) node;
+        List<IndexEntry> candidates = new ArrayList<>(universalEntries);
+        boolean needsSorting = addCandidates(candidates, tagEntries, element.name() == null
+                ? null : element.name().toLowerCase());
+        needsSorting |= addCandidates(candidates, idEntries, element.getAttribute(AttributeConstants.ID));
+        String classAttribute = element.getAttribute(AttributeConstants.CLASS);
+        if (classAttribute != null) {
+            for (String className : splitClassNames(classAttribute)) {
+                needsSorting |= addCandidates(candidates, classEntries, className);
+            }
+        }
+        if (needsSorting) {
+            Collections.sort(candidates, ORDINAL_COMPARATOR);
+        }
+
+        List<CssRuleSet> ruleSets = new ArrayList<>();
+        for (IndexEntry candidate : candidates) {
+            ruleSets.addAll(candidate.statement.getCssRuleSets(element, deviceDescription));
+        }
+        Collections.sort(ruleSets, SPECIFICITY_COMPARATOR);
+        return ruleSets;
+    }
+
+    /**
+     * Checks whether the rule sets matching a regular (non pseudo) element are determined by its tag name alone.
+     * This is the case if every candidate statement either consists of a single type or universal selector, or
+     * can never match a regular element, e.g. page rules and pseudo-element selectors.
+     *
+     * @param tagName the tag name of the element
+     * @return true if all the elements with the given tag name are matched by the same rule sets
+     */
+    boolean isResolvedByTagNameOnly(String tagName) {
+        return universalEntriesByTagNameOnly && idEntries.isEmpty() && classEntries.isEmpty()
+                && !tagNamesWithComplexEntries.contains(tagName.toLowerCase());
+    }
+
+    /**
+     * Checks whether the index has rule sets bucketed by the given tag name.
+     *
+     * @param tagName the tag name of the element
+     * @return true if some rule sets are specific to the elements with the given tag name
+     */
+    boolean hasTagNameRuleSets(String tagName) {
+        return tagEntries.containsKey(tagName.toLowerCase());
+    }
+
+    private static boolean addCandidates(List<IndexEntry> candidates, Map<String, List<IndexEntry>> entries,
+            String key) {
+        if (key == null) {
+            return false;
+        }
+        List<IndexEntry> bucket = entries.get(key);
+        if (bucket == null) {
+            return false;
+        }
+        candidates.addAll(bucket);
+        return true;
+    }
+
+    private static Set<String> splitClassNames(String classAttribute) {
+        Set<String> classNames = new HashSet<>();
+        int start = -1;
+        for (int i = 0; i <= classAttribute.length(); i++) {
+            boolean isSeparator = i == classAttribute.length() || Character.isWhitespace(classAttribute.charAt(i));
+            if (isSeparator) {
+                if (start >= 0) {
+                    classNames.add(classAttribute.substring(start, i));
+                    start = -1;
+                }
+            } else if (start < 0) {
+                start = i;
+            }
+        }
+        return classNames;
+    }
+
+    private static void addToBucket(Map<String, List<IndexEntry>> entries, String key, IndexEntry entry) {
+        List<IndexEntry> bucket = entries.get(key);
+        if (bucket == null) {
+            bucket = new ArrayList<>();
+            entries.put(key, bucket);
+        }
+        bucket.add(entry);
+    }
+
+    private static String stripPrefix(String value, char prefix) {
+        return value.length() > 0 && value.charAt(0) == prefix ? value.substring(1) : value;
+    }
+
+    private static boolean dependsOnTagNameOnly(CssStatement statement) {
+        if (statement instanceof CssPageRule) {
+            return true;
+        }
+        if (!(statement instanceof CssRuleSet)
+                || !(((CssRuleSet) statement).getSelector() instanceof AbstractCssSelector)) {
+            return false;
+        }
+        List<ICssSelectorItem> items = ((AbstractCssSelector) ((CssRuleSet) statement).getSelector())
+                .getSelectorItems();
+        for (ICssSelectorItem item : items) {
+            if (item instanceof CssPseudoElementSelectorItem) {
+                return true;
+            }
+        }
+        return items.size() == 1 && items.get(0) instanceof CssTagSelectorItem;
+    }
+
+    private void addStatement(CssStatement statement) {
+        if (statement instanceof CssMediaRule && deviceDescription != null) {
+            CssMediaRule mediaRule = (CssMediaRule) statement;
+            if (mediaRule.matchMediaDevice(deviceDescription)) {
+                for (CssStatement childStatement : mediaRule.getStatements()) {
+                    addStatement(childStatement);
+                }
+            }
+            return;
+        }
+        IndexEntry entry = new IndexEntry(entriesCount++, statement);
+        if (!(statement instanceof CssRuleSet) || !addRuleSet((CssRuleSet) statement, entry)) {
+            universalEntries.add(entry);
+            if (!dependsOnTagNameOnly(statement)) {
+                universalEntriesByTagNameOnly = false;
+            }
+        }
+    }
+
+    /**
+     * Puts a rule set entry into the most selective bucket of its rightmost compound selector.
+     *
+     * @param ruleSet the rule set
+     * @param entry   the index entry of the rule set
+     * @return true if the entry has been bucketed, false if it shall be checked for every element
+     */
+    private boolean addRuleSet(CssRuleSet ruleSet, IndexEntry entry) {
+        ICssSelector selector = ruleSet.getSelector();
+        if (!(selector instanceof AbstractCssSelector)) {
+            return false;
+        }
+        List<ICssSelectorItem> items = ((AbstractCssSelector) selector).getSelectorItems();
+        String id = null;
+        String className = null;
+        String tagName = null;
+        for (int i = items.size() - 1; i >= 0; i--) {
+            ICssSelectorItem item = items.get(i);
+            if (item instanceof CssSeparatorSelectorItem) {
+                break;
+            } else if (item instanceof CssIdSelectorItem) {
+                id = stripPrefix(item.toString(), '#');
+            } else if (item instanceof CssClassSelectorItem) {
+                className = stripPrefix(item.toString(), '.');
+            } else if (item instanceof CssTagSelectorItem) {
+                String tag = item.toString();
+                if (!"*".equals(tag) && tag.indexOf('|') < 0) {
+                    tagName = tag.toLowerCase();
+                }
+            }
+        }
+        if (id != null && !id.isEmpty()) {
+            addToBucket(idEntries, id, entry);
+        } else if (className != null && !className.isEmpty()) {
+            addToBucket(classEntries, className, entry);
+        } else if (tagName != null && !tagName.isEmpty()) {
+            addToBucket(tagEntries, tagName, entry);
+            if (!dependsOnTagNameOnly(ruleSet)) {
+                tagNamesWithComplexEntries.add(tagName);
+            }
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * A statement of the style sheet together with its position in document order.
+     */
+    private static class IndexEntry {
+        private final int ordinal;
+        private final CssStatement statement;
+
+        IndexEntry(int ordinal, CssStatement statement) {
+            this.ordinal = ordinal;
+            this.statement = statement;
+        }
+    }
+}
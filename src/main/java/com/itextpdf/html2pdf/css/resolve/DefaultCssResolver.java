@@ -28,9 +28,14 @@ import com.itextpdf.html2pdf.css.apply.util.CounterProcessorUtil;
 import com.itextpdf.html2pdf.css.util.CssStyleSheetAnalyzer;
 import com.itextpdf.html2pdf.exceptions.Html2PdfException;
 import com.itextpdf.html2pdf.html.AttributeConstants;
+import com.itextpdf.html2pdf.html.DocumentIndex;
 import com.itextpdf.html2pdf.html.TagConstants;
 import com.itextpdf.html2pdf.logs.Html2PdfLogMessageConstant;
+import com.itextpdf.html2pdf.metrics.ConversionCache;
+import com.itextpdf.html2pdf.metrics.ConversionMetricsCollector;
+import com.itextpdf.html2pdf.util.ContentHashUtil;
 import com.itextpdf.io.util.DecimalFormatUtil;
+import com.itextpdf.io.util.StreamUtil;
 import com.itextpdf.styledxmlparser.css.CommonCssConstants;
 import com.itextpdf.styledxmlparser.css.CssFontFaceRule;
 import com.itextpdf.styledxmlparser.css.CssRuleSet;
@@ -58,14 +63,18 @@ import com.itextpdf.styledxmlparser.node.IStylesContainer;
 import com.itextpdf.styledxmlparser.resolver.resource.ResourceResolver;
 import com.itextpdf.styledxmlparser.util.StyleUtil;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -79,6 +88,11 @@ public class DefaultCssResolver implements ICssResolver {
      */
     private CssStyleSheet cssStyleSheet;
 
+    /**
+     * The index of the CSS style sheet rule sets.
+     */
+    private CssRuleSetIndex ruleSetIndex;
+
     /**
      * The device description.
      */
@@ -94,6 +108,42 @@ public class DefaultCssResolver implements ICssResolver {
      */
     private List<CssFontFaceRule> fonts = new ArrayList<>();
 
+    /**
+     * Indicates whether the style sheet mentions the pages counter.
+     */
+    private boolean pagesCounterPresent;
+
+    /**
+     * Indicates whether the style sheet mentions non-page(s) target-counter(s).
+     */
+    private boolean nonPagesTargetCounterPresent;
+
+    /**
+     * Indicates whether the style sheet mentions page(s) target-counter(s).
+     */
+    private boolean pageTargetCounterPresent;
+
+    /**
+     * The collector of the conversion metrics, or null if the metrics are not collected.
+     */
+    private ConversionMetricsCollector metricsCollector;
+
+    /**
+     * The user agent and style sheet rule sets of the elements matched in advance, either while preprocessing
+     * target-counters or in parallel, which are reused when the styles of the same elements are resolved.
+     */
+    private Map<INode, List<CssRuleSet>> matchedRuleSets;
+
+    /**
+     * The recently computed styles which are shared by the elements with the same cascade inputs.
+     */
+    private final StyleSharingCache styleSharingCache = new StyleSharingCache();
+
+    /**
+     * The interned computed styles, so that the elements with equal styles share a single instance.
+     */
+    private final Map<ComputedStyle, ComputedStyle> computedStyles = new HashMap<>();
+
     /**
      * Creates a new {@link DefaultCssResolver} instance.
      *
@@ -103,7 +153,7 @@ public class DefaultCssResolver implements ICssResolver {
      */
     public DefaultCssResolver(INode treeRoot, MediaDeviceDescription mediaDeviceDescription, ResourceResolver resourceResolver) {
         this.deviceDescription = mediaDeviceDescription;
-        collectCssDeclarations(treeRoot, resourceResolver, null);
+        collectCssDeclarations(new DocumentIndex(treeRoot).getStyleSheetNodes(), resourceResolver, null, null);
         collectFonts();
     }
 
@@ -114,11 +164,45 @@ public class DefaultCssResolver implements ICssResolver {
      * @param context  the processor context
      */
     public DefaultCssResolver(INode treeRoot, ProcessorContext context) {
+        this(new DocumentIndex(treeRoot), context);
+    }
+
+    /**
+     * Creates a new {@link DefaultCssResolver} instance which collects the style sheets of an already
+     * indexed document.
+     *
+     * @param documentIndex the index of the document
+     * @param context       the processor context
+     */
+    public DefaultCssResolver(DocumentIndex documentIndex, ProcessorContext context) {
         this.deviceDescription = context.getDeviceDescription();
-        collectCssDeclarations(treeRoot, context.getResourceResolver(), context.getCssContext());
+        this.metricsCollector = context.getMetricsCollector();
+        collectCssDeclarations(documentIndex.getStyleSheetNodes(), context.getResourceResolver(),
+                context.getCssContext(), context.getCssStyleSheetCache());
         collectFonts();
     }
 
+    /**
+     * Creates a new {@link DefaultCssResolver} instance which shares the already collected and indexed
+     * style sheet of another resolver, e.g. the one of a compiled template. No style sheets are collected
+     * from the document, the counters presence detected by the other resolver is set to the CSS context
+     * of the passed processor context.
+     *
+     * @param compiledResolver the resolver whose style sheet shall be reused
+     * @param context          the processor context of the current conversion
+     */
+    public DefaultCssResolver(DefaultCssResolver compiledResolver, ProcessorContext context) {
+        this.deviceDescription = compiledResolver.deviceDescription;
+        this.metricsCollector = context.getMetricsCollector();
+        this.cssStyleSheet = compiledResolver.cssStyleSheet;
+        this.ruleSetIndex = compiledResolver.ruleSetIndex;
+        this.fonts = compiledResolver.fonts;
+        this.pagesCounterPresent = compiledResolver.pagesCounterPresent;
+        this.nonPagesTargetCounterPresent = compiledResolver.nonPagesTargetCounterPresent;
+        this.pageTargetCounterPresent = compiledResolver.pageTargetCounterPresent;
+        applyCountersPresence(context.getCssContext());
+    }
+
     /**
      * Gets the list of fonts.
      *
@@ -130,16 +214,60 @@ public class DefaultCssResolver implements ICssResolver {
 
     /**
      * Resolves content and counter(s) styles of a node given the passed context.
+     * The style sheet rule sets matching the node are kept and reused by the next {@link #resolveStyles}
+     * call for it.
      *
      * @param node the node
      * @param context the CSS context (RootFontSize, etc.)
      */
     public void resolveContentAndCountersStyles(INode node, CssContext context) {
-        final Map<String, String> elementStyles = resolveElementsStyles(node);
+        final List<CssRuleSet> styleSheetRuleSets = collectStyleSheetRuleSets(node);
+        // The matched rule sets are kept, so that the element isn't matched against the style sheet again
+        // when its styles are resolved. The HTML styles aren't kept, since they may still be changed, e.g. by
+        // the column styles of a table. Pseudo elements are recreated for each traversal, so they can't be reused
+        if (!(node instanceof CssPseudoElementNode)) {
+            if (matchedRuleSets == null) {
+                matchedRuleSets = new HashMap<>();
+            }
+            matchedRuleSets.put(node, styleSheetRuleSets);
+        }
+        final Map<String, String> elementStyles = CssStyleSheet.extractStylesFromRuleSets(
+                addHtmlRuleSets(node, new ArrayList<>(styleSheetRuleSets)));
         CounterProcessorUtil.processCounters(elementStyles, context);
         resolveContentProperty(elementStyles, node, context);
     }
 
+    /**
+     * Drops the rule sets matched in advance which haven't been used yet, e.g. the ones of the elements
+     * of {@code display: none} subtrees or of the elements skipped by the tag workers. Shall be called once
+     * the document is traversed, the elements whose styles are resolved afterwards are matched again.
+     */
+    public void clearMatchedRuleSets() {
+        matchedRuleSets = null;
+    }
+
+    /**
+     * Matches the elements of a subtree against the style sheet in parallel. The subtrees are split into
+     * separate tasks of the passed pool, the collected rule sets are used by the next {@link #resolveStyles}
+     * call for each of the elements. Only the user agent and style sheet rule sets are collected: the HTML
+     * styles of an element may still be changed while its ancestors are processed, e.g. by the column styles
+     * of a table, so they are converted when the styles of the element are resolved. The computed styles
+     * themselves aren't resolved either, since they depend on the styles of the parent elements and on
+     * the counters, which are processed in the document order.
+     *
+     * @param root the root element of the subtree
+     * @param pool the pool the matching is performed on
+     */
+    public void collectRuleSetsInParallel(IElementNode root, ForkJoinPool pool) {
+        final Map<INode, List<CssRuleSet>> ruleSets = new ConcurrentHashMap<>();
+        pool.invoke(new RuleSetCollectingTask(this, root, ruleSets));
+        if (matchedRuleSets == null) {
+            matchedRuleSets = ruleSets;
+        } else {
+            matchedRuleSets.putAll(ruleSets);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -164,7 +292,28 @@ public class DefaultCssResolver implements ICssResolver {
      * @see com.itextpdf.html2pdf.css.resolve.ICssResolver#resolveStyles(com.itextpdf.html2pdf.html.node.INode, com.itextpdf.html2pdf.css.resolve.CssContext)
      */
     private Map<String, String> resolveStyles(INode element, CssContext context) {
-        Map<String, String> elementStyles = resolveElementsStyles(element);
+        final float rootFontSize = context.getRootFontSize();
+        final Map<String, String> sharingParentStyles = getStyleSharingParentStyles(element);
+        List<CssRuleSet> ruleSets = takeMatchedRuleSets(element);
+        if (ruleSets == null) {
+            ruleSets = collectStyleSheetRuleSets(element);
+        }
+        ruleSets = addHtmlRuleSets(element, ruleSets);
+        if (sharingParentStyles != null) {
+            final ComputedStyle sharedStyle = styleSharingCache.get(ruleSets, sharingParentStyles, rootFontSize);
+            if (metricsCollector != null) {
+                metricsCollector.onCacheLookup(ConversionCache.STYLE_SHARING, sharedStyle != null);
+            }
+            if (sharedStyle != null) {
+                Map<String, String> elementStyles = new ComputedStyleMap(sharedStyle);
+                context.setCurrentFontSize(
+                        CssDimensionParsingUtils.parseAbsoluteFontSize(elementStyles.get(CssConstants.FONT_SIZE)));
+                CounterProcessorUtil.processCounters(elementStyles, context);
+                resolveContentProperty(elementStyles, element, context);
+                return elementStyles;
+            }
+        }
+        Map<String, String> elementStyles = CssStyleSheet.extractStylesFromRuleSets(ruleSets);
 
         if (CssConstants.CURRENTCOLOR.equals(elementStyles.get(CssConstants.COLOR))) {
             // css-color-3/#currentcolor:
@@ -240,6 +389,12 @@ public class DefaultCssResolver implements ICssResolver {
             elementStyles.put(key, CssDefaults.getDefaultValue(key));
         }
 
+        final ComputedStyle computedStyle = internComputedStyle(elementStyles);
+        if (sharingParentStyles != null) {
+            styleSharingCache.put(ruleSets, sharingParentStyles, rootFontSize, computedStyle);
+        }
+        elementStyles = new ComputedStyleMap(computedStyle);
+
         // This is needed for correct resolving of content property, so doing it right here
         CounterProcessorUtil.processCounters(elementStyles, context);
         resolveContentProperty(elementStyles, element, context);
@@ -247,20 +402,69 @@ public class DefaultCssResolver implements ICssResolver {
         return elementStyles;
     }
 
-    private Map<String, String> resolveElementsStyles(INode element) {
+    /**
+     * Gets the parent styles an element's computed styles depend on, if they can be shared with other elements.
+     * The styles of the root element and of the elements without resolved parent styles aren't shared.
+     *
+     * @param element the element
+     * @return the parent styles, or null if the computed styles of the element shall not be shared
+     */
+    private static Map<String, String> getStyleSharingParentStyles(INode element) {
+        if (element instanceof IElementNode && element.parentNode() instanceof IElementNode) {
+            return ((IElementNode) element.parentNode()).getStyles();
+        }
+        return null;
+    }
+
+    private ComputedStyle internComputedStyle(Map<String, String> styles) {
+        final ComputedStyle computedStyle = new ComputedStyle(styles);
+        final ComputedStyle internedStyle = computedStyles.get(computedStyle);
+        if (internedStyle != null) {
+            return internedStyle;
+        }
+        computedStyles.put(computedStyle, computedStyle);
+        return computedStyle;
+    }
+
+    private List<CssRuleSet> takeMatchedRuleSets(INode element) {
+        return matchedRuleSets == null ? null : matchedRuleSets.remove(element);
+    }
+
+    /**
+     * Collects the rule sets of the user agent and of the style sheet which apply to a node,
+     * sorted by their precedence. They depend neither on the attributes of the node nor on the state
+     * of the conversion, and the method doesn't change the state of the resolver or of the node,
+     * so it may be called from several threads.
+     *
+     * @param element the node
+     * @return the list of {@link CssRuleSet} instances
+     */
+    List<CssRuleSet> collectStyleSheetRuleSets(INode element) {
         List<CssRuleSet> ruleSets = new ArrayList<>();
         ruleSets.add(new CssRuleSet(null, UserAgentCss.getStyles(element)));
+        ruleSets.addAll(ruleSetIndex.getCssRuleSets(element));
+        return ruleSets;
+    }
+
+    /**
+     * Adds the rule sets of the HTML styles and of the style attribute of a node to its user agent
+     * and style sheet rule sets, keeping them sorted by their precedence. The HTML styles include
+     * the additional styles which are set to the node while its ancestors are processed. Converting them may
+     * set additional styles to the descendants of the node, so it shall be done in the document order.
+     *
+     * @param element            the node
+     * @param styleSheetRuleSets the user agent and style sheet rule sets of the node, which are extended
+     * @return the extended list of {@link CssRuleSet} instances
+     */
+    private static List<CssRuleSet> addHtmlRuleSets(INode element, List<CssRuleSet> styleSheetRuleSets) {
         if (element instanceof IElementNode) {
-            ruleSets.add(new CssRuleSet(null, HtmlStylesToCssConverter.convert((IElementNode) element)));
-        }
-        ruleSets.addAll(cssStyleSheet.getCssRuleSets(element, deviceDescription));
-        if (element instanceof IElementNode) {
+            styleSheetRuleSets.add(1, new CssRuleSet(null, HtmlStylesToCssConverter.convert((IElementNode) element)));
             String styleAttribute = ((IElementNode) element).getAttribute(AttributeConstants.STYLE);
             if (styleAttribute != null) {
-                ruleSets.add(new CssRuleSet(null, CssRuleSetParser.parsePropertyDeclarations(styleAttribute)));
+                styleSheetRuleSets.add(new CssRuleSet(null, CssRuleSetParser.parsePropertyDeclarations(styleAttribute)));
             }
         }
-        return CssStyleSheet.extractStylesFromRuleSets(ruleSets);
+        return styleSheetRuleSets;
     }
 
     /**
@@ -288,82 +492,124 @@ public class DefaultCssResolver implements ICssResolver {
     /**
      * Collects CSS declarationss.
      *
-     * @param rootNode         the root node
-     * @param resourceResolver the resource resolver
-     * @param cssContext       the CSS context
+     * @param styleSheetNodes    the {@code style} and style sheet {@code link} elements of the document
+     * @param resourceResolver   the resource resolver
+     * @param cssContext         the CSS context
+     * @param cssStyleSheetCache the cache of parsed style sheets, or null if style sheets shall always be parsed
      */
-    private void collectCssDeclarations(INode rootNode, ResourceResolver resourceResolver, CssContext cssContext) {
+    private void collectCssDeclarations(List<IElementNode> styleSheetNodes, ResourceResolver resourceResolver,
+            CssContext cssContext, ICssStyleSheetCache cssStyleSheetCache) {
         cssStyleSheet = new CssStyleSheet();
-        LinkedList<INode> q = new LinkedList<>();
-        q.add(rootNode);
-        while (!q.isEmpty()) {
-            INode currentNode = q.pop();
-            if (currentNode instanceof IElementNode) {
-                IElementNode element = (IElementNode) currentNode;
-                if (TagConstants.STYLE.equals(element.name())) {
-                    if (!element.childNodes().isEmpty() && element.childNodes().get(0) instanceof IDataNode) {
-                        String styleData = ((IDataNode) element.childNodes().get(0)).getWholeData();
-                        CssStyleSheet styleSheet  = CssStyleSheetParser.parse(styleData, resourceResolver.getBaseUri());
+        for (IElementNode element : styleSheetNodes) {
+            if (TagConstants.STYLE.equals(element.name())) {
+                if (!element.childNodes().isEmpty() && element.childNodes().get(0) instanceof IDataNode) {
+                    String styleData = ((IDataNode) element.childNodes().get(0)).getWholeData();
+                    CssStyleSheet styleSheet = parseInlineStyleSheet(styleData, resourceResolver.getBaseUri(),
+                            cssStyleSheetCache);
+                    styleSheet = wrapStyleSheetInMediaQueryIfNecessary(element, styleSheet);
+                    cssStyleSheet.appendCssStyleSheet(styleSheet);
+                }
+            } else if (CssUtils.isStyleSheetLink(element)) {
+                String styleSheetUri = element.getAttribute(AttributeConstants.HREF);
+                try (InputStream stream = resourceResolver.retrieveResourceAsInputStream(styleSheetUri)) {
+                    if (stream != null) {
+                        String baseUri = resourceResolver.resolveAgainstBaseUri(styleSheetUri).toExternalForm();
+                        CssStyleSheet styleSheet = parseLinkedStyleSheet(stream, baseUri, cssStyleSheetCache);
                         styleSheet = wrapStyleSheetInMediaQueryIfNecessary(element, styleSheet);
                         cssStyleSheet.appendCssStyleSheet(styleSheet);
                     }
-                } else if (CssUtils.isStyleSheetLink(element)) {
-                    String styleSheetUri = element.getAttribute(AttributeConstants.HREF);
-                    try (InputStream stream = resourceResolver.retrieveResourceAsInputStream(styleSheetUri)) {
-                        if (stream != null) {
-                            String baseUri = resourceResolver.resolveAgainstBaseUri(styleSheetUri).toExternalForm();
-                            CssStyleSheet styleSheet = CssStyleSheetParser.parse(stream, baseUri);
-                            styleSheet = wrapStyleSheetInMediaQueryIfNecessary(element, styleSheet);
-                            cssStyleSheet.appendCssStyleSheet(styleSheet);
-                        }
-                    } catch (Exception exc) {
-                        Logger logger = LoggerFactory.getLogger(DefaultCssResolver.class);
-                        logger.error(Html2PdfLogMessageConstant.UNABLE_TO_PROCESS_EXTERNAL_CSS_FILE, exc);
-                    }
-                }
-            }
-
-            for (INode child : currentNode.childNodes()) {
-                if (child instanceof IElementNode) {
-                    q.add(child);
+                } catch (Exception exc) {
+                    Logger logger = LoggerFactory.getLogger(DefaultCssResolver.class);
+                    logger.error(Html2PdfLogMessageConstant.UNABLE_TO_PROCESS_EXTERNAL_CSS_FILE, exc);
                 }
             }
         }
-        enablePagesCounterIfMentioned(cssStyleSheet, cssContext);
-        enableNonPageTargetCounterIfMentioned(cssStyleSheet, cssContext);
-    }
-
-    private static boolean isFlexItem(Entry<String, String> parentEntry, String currentElementDisplay) {
-        return CssConstants.DISPLAY.equals(parentEntry.getKey())
-                && CssConstants.FLEX.equals(parentEntry.getValue())
-                && !CssConstants.FLEX.equals(currentElementDisplay);
+        ruleSetIndex = new CssRuleSetIndex(cssStyleSheet, deviceDescription);
+        // The presence of counter(pages) means that theoretically relayout may be needed.
+        // We don't know it yet because that selector might not even be used, but
+        // when we know it for sure, it's too late because the Document is created right in the start.
+        pagesCounterPresent = CssStyleSheetAnalyzer.checkPagesCounterPresence(cssStyleSheet);
+        nonPagesTargetCounterPresent = CssStyleSheetAnalyzer.checkNonPagesTargetCounterPresence(cssStyleSheet);
+        pageTargetCounterPresent = CssStyleSheetAnalyzer.checkPageTargetCounterPresence(cssStyleSheet);
+        applyCountersPresence(cssContext);
     }
 
     /**
-     * Check if a non-page(s) target-counter(s) is mentioned and enables it.
+     * Enables the pages counter and non-page(s) target-counter(s) in the CSS context if they are mentioned.
      *
-     * @param styleSheet the stylesheet to analyze
      * @param cssContext the CSS context
      */
-    private static void enableNonPageTargetCounterIfMentioned(CssStyleSheet styleSheet, CssContext cssContext) {
-        if (CssStyleSheetAnalyzer.checkNonPagesTargetCounterPresence(styleSheet)) {
+    private void applyCountersPresence(CssContext cssContext) {
+        if (cssContext == null) {
+            return;
+        }
+        if (pagesCounterPresent) {
+            cssContext.setPagesCounterPresent(true);
+        }
+        if (nonPagesTargetCounterPresent) {
             cssContext.setNonPagesTargetCounterPresent(true);
         }
+        if (pageTargetCounterPresent) {
+            cssContext.setPageTargetCounterPresent(true);
+        }
     }
 
     /**
-     * Check if a pages counter is mentioned and enables it.
+     * Parses the content of a {@code <style>} element, taking the style sheet from the cache if possible.
      *
-     * @param styleSheet the stylesheet to analyze
-     * @param cssContext the CSS context
+     * @param styleData          the style sheet content
+     * @param baseUri            the base URI
+     * @param cssStyleSheetCache the cache of parsed style sheets, may be null
+     * @return the parsed style sheet
      */
-    private static void enablePagesCounterIfMentioned(CssStyleSheet styleSheet, CssContext cssContext) {
-        // The presence of counter(pages) means that theoretically relayout may be needed.
-        // We don't know it yet because that selector might not even be used, but
-        // when we know it for sure, it's too late because the Document is created right in the start.
-        if (CssStyleSheetAnalyzer.checkPagesCounterPresence(styleSheet)) {
-            cssContext.setPagesCounterPresent(true);
+    private CssStyleSheet parseInlineStyleSheet(String styleData, String baseUri,
+            ICssStyleSheetCache cssStyleSheetCache) {
+        if (cssStyleSheetCache == null) {
+            return CssStyleSheetParser.parse(styleData, baseUri);
+        }
+        String contentHash = ContentHashUtil.hash(styleData);
+        CssStyleSheet styleSheet = cssStyleSheetCache.get(baseUri, contentHash);
+        if (metricsCollector != null) {
+            metricsCollector.onCacheLookup(ConversionCache.CSS_STYLE_SHEET, styleSheet != null);
+        }
+        if (styleSheet == null) {
+            styleSheet = CssStyleSheetParser.parse(styleData, baseUri);
+            cssStyleSheetCache.put(baseUri, contentHash, styleSheet);
+        }
+        return styleSheet;
+    }
+
+    /**
+     * Parses a linked style sheet, taking it from the cache if possible.
+     *
+     * @param stream             the style sheet stream
+     * @param baseUri            the resolved URI of the style sheet
+     * @param cssStyleSheetCache the cache of parsed style sheets, may be null
+     * @return the parsed style sheet
+     * @throws IOException if the style sheet can't be read
+     */
+    private CssStyleSheet parseLinkedStyleSheet(InputStream stream, String baseUri,
+            ICssStyleSheetCache cssStyleSheetCache) throws IOException {
+        if (cssStyleSheetCache == null) {
+            return CssStyleSheetParser.parse(stream, baseUri);
+        }
+        byte[] styleSheetBytes = StreamUtil.inputStreamToArray(stream);
+        String contentHash = ContentHashUtil.hash(styleSheetBytes);
+        CssStyleSheet styleSheet = cssStyleSheetCache.get(baseUri, contentHash);
+        if (metricsCollector != null) {
+            metricsCollector.onCacheLookup(ConversionCache.CSS_STYLE_SHEET, styleSheet != null);
+        }
+        if (styleSheet == null) {
+            styleSheet = CssStyleSheetParser.parse(new ByteArrayInputStream(styleSheetBytes), baseUri);
+            cssStyleSheetCache.put(baseUri, contentHash, styleSheet);
         }
+        return styleSheet;
+    }
+
+    private static boolean isFlexItem(Entry<String, String> parentEntry, String currentElementDisplay) {
+        return CssConstants.DISPLAY.equals(parentEntry.getKey())
+                && CssConstants.FLEX.equals(parentEntry.getValue())
+                && !CssConstants.FLEX.equals(currentElementDisplay);
     }
 
     /**
@@ -0,0 +1,54 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2025 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.html2pdf.css.resolve;
+
+import com.itextpdf.styledxmlparser.css.CssStyleSheet;
+
+/**
+ * Cache of parsed style sheets which can be shared across conversions.
+ * <p>
+ * Style sheets are identified by their URI together with the hash of their content, so that a changed
+ * resource behind the same URI is never served from the cache. Cached style sheets are treated as
+ * immutable by the resolver and hence may be used by several conversions simultaneously, but
+ * implementations have to take care of thread safety of the cache itself.
+ */
+public interface ICssStyleSheetCache {
+
+    /**
+     * Gets the cached style sheet.
+     *
+     * @param uri         the URI of the style sheet, or the base URI of the document for {@code <style>} blocks
+     * @param contentHash the hash of the style sheet content
+     * @return the cached {@link CssStyleSheet}, or null if there is no such style sheet in the cache
+     */
+    CssStyleSheet get(String uri, String contentHash);
+
+    /**
+     * Puts the parsed style sheet to the cache.
+     *
+     * @param uri         the URI of the style sheet, or the base URI of the document for {@code <style>} blocks
+     * @param contentHash the hash of the style sheet content
+     * @param styleSheet  the parsed {@link CssStyleSheet}
+     */
+    void put(String uri, String contentHash, CssStyleSheet styleSheet);
+}
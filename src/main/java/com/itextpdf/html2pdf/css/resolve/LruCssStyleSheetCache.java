@@ -0,0 +1,144 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2025 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.html2pdf.css.resolve;
+
+import com.itextpdf.styledxmlparser.css.CssStyleSheet;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Thread safe {@link ICssStyleSheetCache} implementation which keeps a limited number of style sheets
+ * and evicts the least recently used one when the limit is exceeded.
+ */
+public class LruCssStyleSheetCache implements ICssStyleSheetCache {
+
+    /**
+     * The default maximum number of cached style sheets.
+     */
+    public static final int DEFAULT_MAX_ENTRIES = 64;
+
+    private final int maxEntries;
+
+    private final Map<String, CssStyleSheet> styleSheets;
+
+    private long hitCount;
+
+    private long missCount;
+
+    private long evictionCount;
+
+    /**
+     * Creates a new {@link LruCssStyleSheetCache} instance with {@link #DEFAULT_MAX_ENTRIES} maximum entries.
+     */
+    public LruCssStyleSheetCache() {
+        this(DEFAULT_MAX_ENTRIES);
+    }
+
+    /**
+     * Creates a new {@link LruCssStyleSheetCache} instance.
+     *
+     * @param maxEntries the maximum number of cached style sheets, must be positive
+     */
+    public LruCssStyleSheetCache(int maxEntries) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries");
+        }
+        this.maxEntries = maxEntries;
+        this.styleSheets = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized CssStyleSheet get(String uri, String contentHash) {
+        CssStyleSheet styleSheet = styleSheets.get(createKey(uri, contentHash));
+        if (styleSheet == null) {
+            ++missCount;
+        } else {
+            ++hitCount;
+        }
+        return styleSheet;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void put(String uri, String contentHash, CssStyleSheet styleSheet) {
+        styleSheets.put(createKey(uri, contentHash), styleSheet);
+        while (styleSheets.size() > maxEntries) {
+            String eldestKey = styleSheets.keySet().iterator().next();
+            styleSheets.remove(eldestKey);
+            ++evictionCount;
+        }
+    }
+
+    /**
+     * Gets the number of currently cached style sheets.
+     *
+     * @return the number of cached style sheets
+     */
+    public synchronized int size() {
+        return styleSheets.size();
+    }
+
+    /**
+     * Removes all the style sheets from the cache. Statistics are not reset.
+     */
+    public synchronized void clear() {
+        styleSheets.clear();
+    }
+
+    /**
+     * Gets the number of lookups which found a cached style sheet.
+     *
+     * @return the number of cache hits
+     */
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Gets the number of lookups which didn't find a cached style sheet.
+     *
+     * @return the number of cache misses
+     */
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Gets the number of style sheets evicted from the cache because of the size limit.
+     *
+     * @return the number of evictions
+     */
+    public synchronized long getEvictionCount() {
+        return evictionCount;
+    }
+
+    private static String createKey(String uri, String contentHash) {
+        return (uri == null ? "" : uri) + "#" + contentHash;
+    }
+}
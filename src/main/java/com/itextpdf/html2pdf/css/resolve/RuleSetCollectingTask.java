@@ -0,0 +1,134 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2025 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.html2pdf.css.resolve;
+
+import com.itextpdf.html2pdf.html.TagConstants;
+import com.itextpdf.styledxmlparser.css.CssRuleSet;
+import com.itextpdf.styledxmlparser.node.IElementNode;
+import com.itextpdf.styledxmlparser.node.INode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Task which collects the user agent and style sheet rule sets applying to the elements of a subtree. The children whose subtrees
+ * are large enough are processed by separate tasks, the smaller ones are processed by the current task.
+ * The elements of inline SVG images are skipped, their styles aren't resolved by the {@link DefaultCssResolver}.
+ */
+class RuleSetCollectingTask extends RecursiveAction {
+
+    /**
+     * The minimal number of elements in a subtree for which a separate task is created.
+     */
+    static final int SUBTREE_SIZE_THRESHOLD = 64;
+
+    /**
+     * The resolver which matches the elements against the style sheet.
+     */
+    private final DefaultCssResolver cssResolver;
+
+    /**
+     * The root element of the subtree.
+     */
+    private final IElementNode element;
+
+    /**
+     * The thread-safe map the collected rule sets are put to.
+     */
+    private final Map<INode, List<CssRuleSet>> collectedRuleSets;
+
+    /**
+     * Creates a new {@link RuleSetCollectingTask} instance.
+     *
+     * @param cssResolver       the resolver which matches the elements against the style sheet
+     * @param element           the root element of the subtree
+     * @param collectedRuleSets the thread-safe map the collected rule sets are put to
+     */
+    RuleSetCollectingTask(DefaultCssResolver cssResolver, IElementNode element,
+            Map<INode, List<CssRuleSet>> collectedRuleSets) {
+        this.cssResolver = cssResolver;
+        this.element = element;
+        this.collectedRuleSets = collectedRuleSets;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void compute() {
+        collectedRuleSets.put(element, cssResolver.collectStyleSheetRuleSets(element));
+        if (isSvg(element)) {
+            return;
+        }
+        final List<RuleSetCollectingTask> subtasks = new ArrayList<>();
+        for (final INode child : element.childNodes()) {
+            if (child instanceof IElementNode) {
+                final IElementNode childElement = (IElementNode) child;
+                if (countElements(childElement, SUBTREE_SIZE_THRESHOLD) >= SUBTREE_SIZE_THRESHOLD) {
+                    subtasks.add(new RuleSetCollectingTask(cssResolver, childElement, collectedRuleSets));
+                } else {
+                    collect(childElement);
+                }
+            }
+        }
+        invokeAll(subtasks);
+    }
+
+    private void collect(IElementNode element) {
+        collectedRuleSets.put(element, cssResolver.collectStyleSheetRuleSets(element));
+        if (isSvg(element)) {
+            return;
+        }
+        for (final INode child : element.childNodes()) {
+            if (child instanceof IElementNode) {
+                collect((IElementNode) child);
+            }
+        }
+    }
+
+    /**
+     * Counts the elements of a subtree, the counting stops as soon as the limit is reached.
+     *
+     * @param element the root element of the subtree
+     * @param limit   the number of elements after which the counting stops
+     * @return the number of elements, but not more than the limit
+     */
+    private static int countElements(IElementNode element, int limit) {
+        int count = 1;
+        for (final INode child : element.childNodes()) {
+            if (count >= limit) {
+                break;
+            }
+            if (child instanceof IElementNode) {
+                count += countElements((IElementNode) child, limit - count);
+            }
+        }
+        return count;
+    }
+
+    private static boolean isSvg(IElementNode element) {
+        return TagConstants.SVG.equals(element.name());
+    }
+}
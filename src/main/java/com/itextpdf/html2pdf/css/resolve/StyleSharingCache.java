@@ -0,0 +1,131 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2025 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.html2pdf.css.resolve;
+
+import com.itextpdf.styledxmlparser.css.CssDeclaration;
+import com.itextpdf.styledxmlparser.css.CssRuleSet;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cache of the recently computed element styles, which lets elements with the same cascade inputs,
+ * e.g. the cells of a table or the items of a list, share the computed styles instead of computing them again.
+ * <p>
+ * The styles are shared if the matched rule sets are the same, the declarations without selector
+ * (user agent styles, presentational attributes and the {@code style} attribute) are equal,
+ * and the parent styles and the root font size are the same.
+ */
+class StyleSharingCache {
+
+    /**
+     * The number of the recently computed styles which are kept.
+     */
+    private static final int CAPACITY = 8;
+
+    private final Entry[] entries = new Entry[CAPACITY];
+
+    private int nextEntry;
+
+    /**
+     * Gets the computed styles shared by an element with the passed cascade inputs.
+     *
+     * @param ruleSets     the rule sets which are applied to the element, in the cascade order
+     * @param parentStyles the computed styles of the parent element
+     * @param rootFontSize the root font size
+     * @return the shared computed styles, or null if there are none
+     */
+    ComputedStyle get(List<CssRuleSet> ruleSets, Map<String, String> parentStyles, float rootFontSize) {
+        for (int i = 1; i <= CAPACITY; ++i) {
+            Entry entry = entries[(nextEntry - i + CAPACITY) % CAPACITY];
+            if (entry != null && entry.matches(ruleSets, parentStyles, rootFontSize)) {
+                return entry.styles;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Adds the computed styles of an element, replacing the least recently added ones if the cache is full.
+     *
+     * @param ruleSets     the rule sets which are applied to the element, in the cascade order
+     * @param parentStyles the computed styles of the parent element
+     * @param rootFontSize the root font size
+     * @param styles       the computed styles
+     */
+    void put(List<CssRuleSet> ruleSets, Map<String, String> parentStyles, float rootFontSize,
+            ComputedStyle styles) {
+        entries[nextEntry] = new Entry(ruleSets, parentStyles, rootFontSize, styles);
+        nextEntry = (nextEntry + 1) % CAPACITY;
+    }
+
+    private static boolean areEqualRuleSets(CssRuleSet ruleSet, CssRuleSet other) {
+        if (ruleSet == other) {
+            return true;
+        }
+        // Rule sets of the style sheet are compared by identity, the ones created for the element by value
+        return ruleSet.getSelector() == null && other.getSelector() == null
+                && areEqualDeclarations(ruleSet.getNormalDeclarations(), other.getNormalDeclarations())
+                && areEqualDeclarations(ruleSet.getImportantDeclarations(), other.getImportantDeclarations());
+    }
+
+    private static boolean areEqualDeclarations(List<CssDeclaration> declarations, List<CssDeclaration> other) {
+        if (declarations.size() != other.size()) {
+            return false;
+        }
+        for (int i = 0; i < declarations.size(); ++i) {
+            if (!declarations.get(i).getProperty().equals(other.get(i).getProperty())
+                    || !declarations.get(i).getExpression().equals(other.get(i).getExpression())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static class Entry {
+        private final List<CssRuleSet> ruleSets;
+        private final Map<String, String> parentStyles;
+        private final float rootFontSize;
+        private final ComputedStyle styles;
+
+        Entry(List<CssRuleSet> ruleSets, Map<String, String> parentStyles, float rootFontSize,
+                ComputedStyle styles) {
+            this.ruleSets = ruleSets;
+            this.parentStyles = parentStyles;
+            this.rootFontSize = rootFontSize;
+            this.styles = styles;
+        }
+
+        boolean matches(List<CssRuleSet> ruleSets, Map<String, String> parentStyles, float rootFontSize) {
+            if (this.rootFontSize != rootFontSize || this.ruleSets.size() != ruleSets.size()) {
+                return false;
+            }
+            for (int i = 0; i < ruleSets.size(); ++i) {
+                if (!areEqualRuleSets(this.ruleSets.get(i), ruleSets.get(i))) {
+                    return false;
+                }
+            }
+            return this.parentStyles == parentStyles || this.parentStyles.equals(parentStyles);
+        }
+    }
+}
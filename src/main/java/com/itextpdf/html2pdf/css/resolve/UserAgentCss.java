@@ -23,12 +23,18 @@
 package com.itextpdf.html2pdf.css.resolve;
 
 import com.itextpdf.io.util.ResourceUtil;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.itextpdf.styledxmlparser.css.CssDeclaration;
+import com.itextpdf.styledxmlparser.css.CssRuleSet;
 import com.itextpdf.styledxmlparser.css.CssStyleSheet;
 import com.itextpdf.styledxmlparser.css.media.MediaDeviceDescription;
 import com.itextpdf.styledxmlparser.css.parse.CssStyleSheetParser;
+import com.itextpdf.styledxmlparser.css.pseudo.CssPseudoElementNode;
+import com.itextpdf.styledxmlparser.node.IElementNode;
 import com.itextpdf.styledxmlparser.node.INode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -44,6 +50,22 @@ class UserAgentCss {
     /** The default {@link CssStyleSheet} instance. */
     private static final CssStyleSheet defaultCss;
 
+    /** The device description against which the default CSS is matched. */
+    private static final MediaDeviceDescription defaultDeviceDescription = MediaDeviceDescription.createDefault();
+
+    /** The index of the default CSS rule sets. */
+    private static final CssRuleSetIndex defaultCssIndex;
+
+    /** The declarations of the elements which have no default style. */
+    private static final List<CssDeclaration> NO_DECLARATIONS = Collections.<CssDeclaration>emptyList();
+
+    /**
+     * The declarations of the elements which are styled by their tag name only, keyed by tag name.
+     * Only the tag names which have their own rules in the default CSS are cached, so the size of the cache
+     * doesn't depend on the converted documents.
+     */
+    private static final Map<String, List<CssDeclaration>> tagDeclarations = new ConcurrentHashMap<>();
+
     static {
         CssStyleSheet parsedStylesheet = new CssStyleSheet();
         try {
@@ -53,16 +75,57 @@ class UserAgentCss {
             logger.error("Error parsing default.css", exc);
         } finally {
             defaultCss = parsedStylesheet;
+            defaultCssIndex = new CssRuleSetIndex(parsedStylesheet, defaultDeviceDescription);
         }
     }
 
     /**
      * Gets the styles of a node.
      *
+     * <p>
+     * Most of the default CSS rules depend on the tag name only, so the declarations of such elements
+     * are computed once per tag name and shared afterwards. The returned list shall not be modified.
+     *
      * @param node the node
      * @return a list of {@link CssDeclaration} values
      */
     public static List<CssDeclaration> getStyles(INode node) {
-        return defaultCss.getCssDeclarations(node, MediaDeviceDescription.createDefault());
+        if (!(node instanceof IElementNode) || node instanceof CssPseudoElementNode) {
+            return defaultCss.getCssDeclarations(node, defaultDeviceDescription);
+        }
+        String tagName = ((IElementNode) node).name();
+        if (tagName == null || !defaultCssIndex.isResolvedByTagNameOnly(tagName)) {
+            return resolveDeclarations(node);
+        }
+        if (!defaultCssIndex.hasTagNameRuleSets(tagName)) {
+            // Unknown and custom tags are not cached, they are matched by the few universal rules at most
+            List<CssDeclaration> declarations = resolveDeclarations(node);
+            return declarations.isEmpty() ? NO_DECLARATIONS : declarations;
+        }
+        List<CssDeclaration> declarations = tagDeclarations.get(tagName);
+        if (declarations == null) {
+            declarations = Collections.unmodifiableList(resolveDeclarations(node));
+            List<CssDeclaration> cachedDeclarations = tagDeclarations.putIfAbsent(tagName, declarations);
+            if (cachedDeclarations != null) {
+                declarations = cachedDeclarations;
+            }
+        }
+        return declarations;
+    }
+
+    /**
+     * Resolves the declarations of an element using the default CSS index.
+     *
+     * @param node the element node
+     * @return a list of {@link CssDeclaration} values
+     */
+    private static List<CssDeclaration> resolveDeclarations(INode node) {
+        // Only the already matched rule sets are collected into the style sheet, it's needed to
+        // merge their declarations in exactly the same way as the default CSS does
+        CssStyleSheet matchedRules = new CssStyleSheet();
+        for (CssRuleSet ruleSet : defaultCssIndex.getCssRuleSets(node)) {
+            matchedRules.addStatement(ruleSet);
+        }
+        return matchedRules.getCssDeclarations(node, defaultDeviceDescription);
     }
 }
@@ -54,72 +54,7 @@ public class CssStyleSheetAnalyzer {
      * or <code>false</code> otherwise
      */
     public static boolean checkNonPagesTargetCounterPresence(CssStyleSheet styleSheet) {
-        return checkNonPagesTargetCounterPresence(styleSheet.getStatements());
-    }
-
-    private static boolean checkNonPagesTargetCounterPresence(Collection<CssStatement> statements) {
-        boolean nonPagesTargetCounterPresent = false;
-        for (final CssStatement statement : statements) {
-            boolean checkNonPagesTargetCounterPresenceResult = false;
-            if (statement instanceof CssMarginRule) {
-                checkNonPagesTargetCounterPresenceResult =
-                        checkNonPagesTargetCounterPresence(((CssMarginRule) statement).getStatements());
-            } else if (statement instanceof CssMediaRule) {
-                checkNonPagesTargetCounterPresenceResult =
-                        checkNonPagesTargetCounterPresence(((CssMediaRule) statement).getStatements());
-            } else if (statement instanceof CssPageRule) {
-                checkNonPagesTargetCounterPresenceResult =
-                        checkNonPagesTargetCounterPresence(((CssPageRule) statement).getStatements());
-            } else if (statement instanceof CssRuleSet) {
-                checkNonPagesTargetCounterPresenceResult =
-                        checkNonPagesTargetCounterPresence((CssRuleSet) statement);
-            }
-            nonPagesTargetCounterPresent = nonPagesTargetCounterPresent || checkNonPagesTargetCounterPresenceResult;
-        }
-        return nonPagesTargetCounterPresent;
-    }
-
-    private static boolean checkNonPagesTargetCounterPresence(CssRuleSet ruleSet) {
-        boolean pagesCounterPresent = false;
-        for (final CssDeclaration declaration : ruleSet.getImportantDeclarations()) {
-            pagesCounterPresent = pagesCounterPresent || checkNonPagesTargetCounterPresence(declaration);
-        }
-        for (final CssDeclaration declaration : ruleSet.getNormalDeclarations()) {
-            pagesCounterPresent = pagesCounterPresent || checkNonPagesTargetCounterPresence(declaration);
-        }
-        return pagesCounterPresent;
-    }
-
-    private static boolean checkNonPagesTargetCounterPresence(CssDeclaration declaration) {
-        boolean nonPagesTargetCounterPresent = false;
-
-        if (CssConstants.CONTENT.equals(declaration.getProperty())) {
-            CssDeclarationValueTokenizer tokenizer = new CssDeclarationValueTokenizer(declaration.getExpression());
-            CssDeclarationValueTokenizer.Token token;
-
-            while ((token = tokenizer.getNextValidToken()) != null) {
-                if (token.isString()) {
-                    continue;
-                }
-                if (token.getValue().startsWith(CssConstants.TARGET_COUNTER + "(")) {
-                    final String paramsStr = token.getValue()
-                            .substring(CssConstants.TARGET_COUNTER.length() + 1, token.getValue().length() - 1);
-                    final String[] params = paramsStr.split(",");
-                    nonPagesTargetCounterPresent = nonPagesTargetCounterPresent ||
-                            (params.length >= TARGET_COUNTER_MIN_PARAMS_SIZE &&
-                                    !checkTargetCounterParamsForPageOrPagesReferencePresence(params));
-                } else if (token.getValue().startsWith(CssConstants.TARGET_COUNTERS + "(")) {
-                    final String paramsStr = token.getValue()
-                            .substring(CssConstants.TARGET_COUNTERS.length() + 1, token.getValue().length() - 1);
-                    final String[] params = paramsStr.split(",");
-                    nonPagesTargetCounterPresent = nonPagesTargetCounterPresent ||
-                            (params.length >= TARGET_COUNTERS_MIN_PARAMS_SIZE &&
-                                    !checkTargetCounterParamsForPageOrPagesReferencePresence(params));
-                }
-            }
-        }
-
-        return nonPagesTargetCounterPresent;
+        return checkPresence(styleSheet.getStatements(), CounterReference.NON_PAGES_TARGET_COUNTER);
     }
 
     /**
@@ -131,77 +66,101 @@ public class CssStyleSheetAnalyzer {
      * or <code>false</code> otherwise
      */
     public static boolean checkPagesCounterPresence(CssStyleSheet styleSheet) {
-        return checkPagesCounterPresence(styleSheet.getStatements());
+        return checkPresence(styleSheet.getStatements(), CounterReference.PAGES_COUNTER);
     }
 
-    private static boolean checkPagesCounterPresence(Collection<CssStatement> statements) {
-        boolean pagesCounterPresent = false;
-        for (CssStatement statement : statements) {
+    /**
+     * Helper method to check if page(s) target-counter(s) is present anywhere in the CSS.
+     * Unlike counter(pages), such references resolve to the page of another element,
+     * so they can only be resolved by laying the document out again.
+     *
+     * @param styleSheet CSS stylesheet to analyze
+     * @return <code>true</code> in case any page(s) target-counter(s) are present in CSS declarations,
+     * or <code>false</code> otherwise
+     */
+    public static boolean checkPageTargetCounterPresence(CssStyleSheet styleSheet) {
+        return checkPresence(styleSheet.getStatements(), CounterReference.PAGE_TARGET_COUNTER);
+    }
+
+    private static boolean checkPresence(Collection<CssStatement> statements, CounterReference reference) {
+        for (final CssStatement statement : statements) {
+            boolean present = false;
             if (statement instanceof CssMarginRule) {
-                pagesCounterPresent = pagesCounterPresent || checkPagesCounterPresence(((CssMarginRule) statement).getStatements());
+                present = checkPresence(((CssMarginRule) statement).getStatements(), reference);
             } else if (statement instanceof CssMediaRule) {
-                pagesCounterPresent = pagesCounterPresent || checkPagesCounterPresence(((CssMediaRule) statement).getStatements());
+                present = checkPresence(((CssMediaRule) statement).getStatements(), reference);
             } else if (statement instanceof CssPageRule) {
-                pagesCounterPresent = pagesCounterPresent || checkPagesCounterPresence(((CssPageRule) statement).getStatements());
+                present = checkPresence(((CssPageRule) statement).getStatements(), reference);
             } else if (statement instanceof CssRuleSet) {
-                pagesCounterPresent = pagesCounterPresent || checkPagesCounterPresence((CssRuleSet) statement);
+                present = checkPresence((CssRuleSet) statement, reference);
+            }
+            if (present) {
+                return true;
             }
         }
-        return pagesCounterPresent;
+        return false;
     }
 
-    private static boolean checkPagesCounterPresence(CssRuleSet ruleSet) {
-        boolean pagesCounterPresent = false;
-        for (CssDeclaration declaration : ruleSet.getImportantDeclarations()) {
-            pagesCounterPresent = pagesCounterPresent || checkPagesCounterPresence(declaration);
+    private static boolean checkPresence(CssRuleSet ruleSet, CounterReference reference) {
+        for (final CssDeclaration declaration : ruleSet.getImportantDeclarations()) {
+            if (checkPresence(declaration, reference)) {
+                return true;
+            }
         }
-        for (CssDeclaration declaration : ruleSet.getNormalDeclarations()) {
-            pagesCounterPresent = pagesCounterPresent || checkPagesCounterPresence(declaration);
+        for (final CssDeclaration declaration : ruleSet.getNormalDeclarations()) {
+            if (checkPresence(declaration, reference)) {
+                return true;
+            }
         }
-        return pagesCounterPresent;
+        return false;
     }
 
-    private static boolean checkPagesCounterPresence(CssDeclaration declaration) {
-        boolean pagesCounterPresent = false;
-
+    private static boolean checkPresence(CssDeclaration declaration, CounterReference reference) {
         // MDN: The counters() function can be used with any CSS property, but support for properties other
         // than content is experimental, and support for the type-or-unit parameter is sparse.
         // iText also does not support counter(pages) anywhere else for now
-        if (CssConstants.CONTENT.equals(declaration.getProperty())) {
-            CssDeclarationValueTokenizer tokenizer = new CssDeclarationValueTokenizer(declaration.getExpression());
-            CssDeclarationValueTokenizer.Token token;
-
-            while ((token = tokenizer.getNextValidToken()) != null) {
-                if (token.isString()) {
-                    continue;
+        if (!CssConstants.CONTENT.equals(declaration.getProperty())) {
+            return false;
+        }
+        CssDeclarationValueTokenizer tokenizer = new CssDeclarationValueTokenizer(declaration.getExpression());
+        CssDeclarationValueTokenizer.Token token;
+        while ((token = tokenizer.getNextValidToken()) != null) {
+            if (token.isString()) {
+                continue;
+            }
+            final String value = token.getValue();
+            if (value.startsWith(CssConstants.TARGET_COUNTER + "(")) {
+                if (checkTargetCounterPresence(getParams(value, CssConstants.TARGET_COUNTER),
+                        TARGET_COUNTER_MIN_PARAMS_SIZE, reference)) {
+                    return true;
+                }
+            } else if (value.startsWith(CssConstants.TARGET_COUNTERS + "(")) {
+                if (checkTargetCounterPresence(getParams(value, CssConstants.TARGET_COUNTERS),
+                        TARGET_COUNTERS_MIN_PARAMS_SIZE, reference)) {
+                    return true;
                 }
-                if (token.getValue().startsWith(CssConstants.COUNTERS + "(")) {
-                    String paramsStr = token.getValue().substring(CssConstants.COUNTERS.length() + 1, token.getValue().length() - 1);
-                    String[] params = paramsStr.split(",");
-                    pagesCounterPresent = pagesCounterPresent || checkCounterFunctionParamsForPagesReferencePresence(params);
-                } else if (token.getValue().startsWith(CssConstants.COUNTER + "(")) {
-                    String paramsStr = token.getValue().substring(CssConstants.COUNTER.length() + 1, token.getValue().length() - 1);
-                    String[] params = paramsStr.split(",");
-                    pagesCounterPresent = pagesCounterPresent || checkCounterFunctionParamsForPagesReferencePresence(params);
-                } else if (token.getValue().startsWith(CssConstants.TARGET_COUNTER + "(")) {
-                    final String paramsStr = token.getValue()
-                            .substring(CssConstants.TARGET_COUNTER.length() + 1, token.getValue().length() - 1);
-                    final String[] params = paramsStr.split(",");
-                    pagesCounterPresent = pagesCounterPresent ||
-                            (params.length >= TARGET_COUNTER_MIN_PARAMS_SIZE &&
-                                    checkTargetCounterParamsForPageOrPagesReferencePresence(params));
-                } else if (token.getValue().startsWith(CssConstants.TARGET_COUNTERS + "(")) {
-                    final String paramsStr = token.getValue()
-                            .substring(CssConstants.TARGET_COUNTERS.length() + 1, token.getValue().length() - 1);
-                    final String[] params = paramsStr.split(",");
-                    pagesCounterPresent = pagesCounterPresent ||
-                            (params.length >= TARGET_COUNTERS_MIN_PARAMS_SIZE &&
-                                    checkTargetCounterParamsForPageOrPagesReferencePresence(params));
+            } else if (reference == CounterReference.PAGES_COUNTER) {
+                if (value.startsWith(CssConstants.COUNTERS + "(")
+                        && checkCounterFunctionParamsForPagesReferencePresence(getParams(value, CssConstants.COUNTERS))
+                        || value.startsWith(CssConstants.COUNTER + "(")
+                        && checkCounterFunctionParamsForPagesReferencePresence(getParams(value, CssConstants.COUNTER))) {
+                    return true;
                 }
             }
         }
+        return false;
+    }
+
+    private static boolean checkTargetCounterPresence(String[] params, int minParamsSize, CounterReference reference) {
+        if (params.length < minParamsSize) {
+            return false;
+        }
+        boolean pageReference = checkTargetCounterParamsForPageOrPagesReferencePresence(params);
+        return reference == CounterReference.NON_PAGES_TARGET_COUNTER ? !pageReference : pageReference;
+    }
 
-        return pagesCounterPresent;
+    private static String[] getParams(String function, String functionName) {
+        return function.substring(functionName.length() + 1, function.length() - 1).split(",");
     }
 
     private static boolean checkCounterFunctionParamsForPagesReferencePresence(String[] params) {
@@ -212,4 +171,15 @@ public class CssStyleSheetAnalyzer {
         return CssConstants.PAGE.equals(params[1].trim()) || CssConstants.PAGES.equals(params[1].trim());
     }
 
+    /**
+     * The kind of counter reference which is searched for in the CSS.
+     */
+    private enum CounterReference {
+        /** target-counter(s) referencing anything but the page(s) counter. */
+        NON_PAGES_TARGET_COUNTER,
+        /** counter(s)(pages) or target-counter(s) referencing the page(s) counter. */
+        PAGES_COUNTER,
+        /** target-counter(s) referencing the page(s) counter. */
+        PAGE_TARGET_COUNTER
+    }
 }
@@ -40,6 +40,9 @@ public class Html2PdfException extends ITextException {
     /** The Constant UnsupportedEncodingException. */
     public static final String UNSUPPORTED_ENCODING_EXCEPTION = "Unsupported encoding exception.";
 
+    /** Message in case the content hash algorithm is not supported by the platform. */
+    public static final String HASH_ALGORITHM_IS_NOT_AVAILABLE = "Hash algorithm {0} is not available.";
+
     /**
      * Creates a new {@link Html2PdfException} instance.
      *
@@ -48,4 +51,14 @@ public class Html2PdfException extends ITextException {
     public Html2PdfException(String message) {
         super(message);
     }
+
+    /**
+     * Creates a new {@link Html2PdfException} instance.
+     *
+     * @param message the message
+     * @param cause   the cause of the exception
+     */
+    public Html2PdfException(String message, Throwable cause) {
+        super(message, cause);
+    }
 }
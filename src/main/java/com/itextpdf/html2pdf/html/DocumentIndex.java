@@ -0,0 +1,157 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2025 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.html2pdf.html;
+
+import com.itextpdf.styledxmlparser.css.util.CssUtils;
+import com.itextpdf.styledxmlparser.node.IElementNode;
+import com.itextpdf.styledxmlparser.node.INode;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Index of the nodes of an HTML document which are looked up before the document is converted:
+ * the style sheet nodes, the internal link targets, the ids, and the {@code html} and {@code body} elements.
+ * <p>
+ * The index is built by a single breadth-first pass over the elements of the DOM tree, so that the style sheets
+ * are collected in the same order as before, and it can be shared by all the consumers instead of having each
+ * of them walk the tree again.
+ */
+public class DocumentIndex {
+
+    /**
+     * The {@code style} and style sheet {@code link} elements in breadth-first order.
+     */
+    private final List<IElementNode> styleSheetNodes = new ArrayList<>();
+
+    /**
+     * The ids referenced by the internal links, i.e. the {@code href="#..."} attributes of the anchors.
+     */
+    private final Set<String> linkDestinations = new HashSet<>();
+
+    /**
+     * The ids of the elements.
+     */
+    private final Set<String> ids = new HashSet<>();
+
+    /**
+     * The first {@code html} element in breadth-first order.
+     */
+    private IElementNode htmlNode;
+
+    /**
+     * The first {@code body} element in breadth-first order.
+     */
+    private IElementNode bodyNode;
+
+    /**
+     * Creates a new {@link DocumentIndex} instance by indexing the subtree of the given node.
+     *
+     * @param root the root node
+     */
+    public DocumentIndex(INode root) {
+        List<INode> level = Collections.singletonList(root);
+        while (!level.isEmpty()) {
+            List<INode> nextLevel = new ArrayList<>();
+            for (INode node : level) {
+                if (node instanceof IElementNode) {
+                    indexElement((IElementNode) node);
+                }
+                for (INode child : node.childNodes()) {
+                    if (child instanceof IElementNode) {
+                        nextLevel.add(child);
+                    }
+                }
+            }
+            level = nextLevel;
+        }
+    }
+
+    /**
+     * Gets the {@code style} and style sheet {@code link} elements in breadth-first order.
+     *
+     * @return the style sheet nodes
+     */
+    public List<IElementNode> getStyleSheetNodes() {
+        return Collections.unmodifiableList(styleSheetNodes);
+    }
+
+    /**
+     * Gets the ids referenced by the internal links of the document.
+     *
+     * @return the internal link targets
+     */
+    public Set<String> getLinkDestinations() {
+        return Collections.unmodifiableSet(linkDestinations);
+    }
+
+    /**
+     * Gets the ids of the elements of the document.
+     *
+     * @return the ids
+     */
+    public Set<String> getIds() {
+        return Collections.unmodifiableSet(ids);
+    }
+
+    /**
+     * Gets the {@code html} element.
+     *
+     * @return the {@code html} element, or null if there is none
+     */
+    public IElementNode getHtmlNode() {
+        return htmlNode;
+    }
+
+    /**
+     * Gets the {@code body} element.
+     *
+     * @return the {@code body} element, or null if there is none
+     */
+    public IElementNode getBodyNode() {
+        return bodyNode;
+    }
+
+    private void indexElement(IElementNode element) {
+        String name = element.name();
+        if (TagConstants.STYLE.equals(name) || CssUtils.isStyleSheetLink(element)) {
+            styleSheetNodes.add(element);
+        } else if (TagConstants.A.equals(name)) {
+            String href = element.getAttribute(AttributeConstants.HREF);
+            if (href != null && href.startsWith("#")) {
+                linkDestinations.add(href.substring(1));
+            }
+        } else if (htmlNode == null && TagConstants.HTML.equals(name)) {
+            htmlNode = element;
+        } else if (bodyNode == null && TagConstants.BODY.equals(name)) {
+            bodyNode = element;
+        }
+        String id = element.getAttribute(AttributeConstants.ID);
+        if (id != null) {
+            ids.add(id);
+        }
+    }
+}
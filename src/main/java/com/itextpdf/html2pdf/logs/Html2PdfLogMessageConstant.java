@@ -111,6 +111,11 @@ public final class Html2PdfLogMessageConstant {
     /** The Constant PADDING_VALUE_IN_PERCENT_NOT_SUPPORTED. */
     public static final String PADDING_VALUE_IN_PERCENT_NOT_SUPPORTED = "Padding value in percents not supported";
 
+    /** The Constant PAGE_COUNT_EXCEEDS_RESERVED_DIGITS. */
+    public static final String PAGE_COUNT_EXCEEDS_RESERVED_DIGITS =
+            "The total number of pages {0} has more digits than reserved for it. The number might overlap the "
+                    + "following content.";
+
     public static final String PAGE_MARGIN_BOX_CONTENT_CANNOT_BE_DRAWN = "Page margin box {0} content cannot be drawn.";
 
     public static final String PAGE_MARGIN_BOX_SOME_PROPERTIES_NOT_PROCESSED =
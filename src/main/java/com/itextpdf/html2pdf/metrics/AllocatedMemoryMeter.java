@@ -0,0 +1,65 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2025 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.html2pdf.metrics;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Measures the memory allocated by the current thread, if the JVM supports it.
+ */
+final class AllocatedMemoryMeter {
+
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN = createThreadMxBean();
+
+    private AllocatedMemoryMeter() {
+        // Empty constructor
+    }
+
+    /**
+     * Gets the number of bytes allocated by the current thread since its start.
+     *
+     * @return the number of allocated bytes, or -1 if the measurement isn't supported
+     */
+    static long getAllocatedBytes() {
+        if (THREAD_MX_BEAN == null) {
+            return -1;
+        }
+        return THREAD_MX_BEAN.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static com.sun.management.ThreadMXBean createThreadMxBean() {
+        try {
+            java.lang.management.ThreadMXBean threadMxBean = ManagementFactory.getThreadMXBean();
+            if (threadMxBean instanceof com.sun.management.ThreadMXBean) {
+                com.sun.management.ThreadMXBean sunThreadMxBean = (com.sun.management.ThreadMXBean) threadMxBean;
+                if (sunThreadMxBean.isThreadAllocatedMemorySupported()
+                        && sunThreadMxBean.isThreadAllocatedMemoryEnabled()) {
+                    return sunThreadMxBean;
+                }
+            }
+        } catch (LinkageError | RuntimeException e) {
+            // The management API isn't available on this platform
+        }
+        return null;
+    }
+}
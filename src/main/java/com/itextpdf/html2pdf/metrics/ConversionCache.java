@@ -0,0 +1,54 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2025 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.html2pdf.metrics;
+
+/**
+ * The caches used by a conversion whose hits and misses are counted in {@link ConversionMetrics}.
+ */
+public enum ConversionCache {
+    /**
+     * The cache of parsed style sheets, see {@link com.itextpdf.html2pdf.ConverterProperties#setCssStyleSheetCache}.
+     */
+    CSS_STYLE_SHEET,
+
+    /**
+     * The cache of decoded images, see {@link com.itextpdf.html2pdf.ConverterProperties#setImageDataCache}.
+     */
+    IMAGE_DATA,
+
+    /**
+     * The per-document cache of processed SVG images.
+     */
+    SVG,
+
+    /**
+     * The per-document cache of computed styles shared by elements with the same cascade inputs.
+     */
+    STYLE_SHARING,
+
+    /**
+     * The per-document cache of external resources fetched in the background, see
+     * {@link com.itextpdf.html2pdf.ConverterProperties#setResourcePrefetchParallelism}.
+     */
+    PREFETCHED_RESOURCE
+}
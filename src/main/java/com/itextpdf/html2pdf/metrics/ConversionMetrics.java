@@ -0,0 +1,160 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2025 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.html2pdf.metrics;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * The metrics of a single conversion.
+ * <p>
+ * The {@link ConversionPhase#PARSING} phase happens before the conversion is started, so it's reported
+ * only by {@link IConversionMetricsListener#onPhaseFinished(ConversionPhase, long, long)}.
+ */
+public final class ConversionMetrics {
+
+    private final Map<ConversionPhase, Long> phaseDurations;
+
+    private final Map<ConversionPhase, Long> phaseAllocatedBytes;
+
+    private final Map<ConversionCache, Integer> cacheHits;
+
+    private final Map<ConversionCache, Integer> cacheMisses;
+
+    private final int elementCount;
+
+    private final int relayoutCount;
+
+    private final int resourceFetchCount;
+
+    private final long resourceFetchDurationNanos;
+
+    /**
+     * Creates a new {@link ConversionMetrics} instance.
+     *
+     * @param collector the collector of the metrics
+     */
+    ConversionMetrics(ConversionMetricsCollector collector) {
+        this.phaseDurations = new EnumMap<>(collector.phaseDurations);
+        this.phaseAllocatedBytes = new EnumMap<>(collector.phaseAllocatedBytes);
+        this.cacheHits = new EnumMap<>(collector.cacheHits);
+        this.cacheMisses = new EnumMap<>(collector.cacheMisses);
+        this.elementCount = collector.elementCount;
+        this.relayoutCount = collector.relayoutCount;
+        this.resourceFetchCount = collector.resourceFetchCount;
+        this.resourceFetchDurationNanos = collector.resourceFetchDurationNanos;
+    }
+
+    /**
+     * Gets the wall-clock duration of a phase.
+     *
+     * @param phase the phase
+     * @return the duration in nanoseconds, or 0 if the phase wasn't performed
+     */
+    public long getPhaseDurationNanos(ConversionPhase phase) {
+        Long duration = phaseDurations.get(phase);
+        return duration == null ? 0 : (long) duration;
+    }
+
+    /**
+     * Gets the number of bytes allocated by the converting thread during a top-level phase.
+     *
+     * @param phase the phase
+     * @return the number of allocated bytes, or -1 if the phase wasn't performed, is accumulated over
+     * the traversal or the JVM doesn't support the measurement
+     */
+    public long getPhaseAllocatedBytes(ConversionPhase phase) {
+        Long allocatedBytes = phaseAllocatedBytes.get(phase);
+        return allocatedBytes == null ? -1 : (long) allocatedBytes;
+    }
+
+    /**
+     * Gets the number of HTML elements processed by the traversal, including pseudo-elements.
+     *
+     * @return the number of elements
+     */
+    public int getElementCount() {
+        return elementCount;
+    }
+
+    /**
+     * Gets the number of repeated layouts of the document which were needed to resolve the total number of pages.
+     *
+     * @return the number of relayouts
+     */
+    public int getRelayoutCount() {
+        return relayoutCount;
+    }
+
+    /**
+     * Gets the number of resources, e.g. style sheets, images and fonts, retrieved by the resource retriever.
+     *
+     * @return the number of retrieved resources
+     */
+    public int getResourceFetchCount() {
+        return resourceFetchCount;
+    }
+
+    /**
+     * Gets the total time spent by the resource retriever. For resources retrieved as streams
+     * only opening the stream is measured.
+     *
+     * @return the total duration in nanoseconds
+     */
+    public long getResourceFetchDurationNanos() {
+        return resourceFetchDurationNanos;
+    }
+
+    /**
+     * Gets the number of lookups in a cache which found the entry.
+     *
+     * @param cache the cache
+     * @return the number of hits
+     */
+    public int getCacheHits(ConversionCache cache) {
+        Integer hits = cacheHits.get(cache);
+        return hits == null ? 0 : (int) hits;
+    }
+
+    /**
+     * Gets the number of lookups in a cache which didn't find the entry.
+     *
+     * @param cache the cache
+     * @return the number of misses
+     */
+    public int getCacheMisses(ConversionCache cache) {
+        Integer misses = cacheMisses.get(cache);
+        return misses == null ? 0 : (int) misses;
+    }
+
+    /**
+     * Gets the hit rate of a cache.
+     *
+     * @param cache the cache
+     * @return the ratio of hits to all the lookups, or 0 if the cache wasn't used
+     */
+    public double getCacheHitRate(ConversionCache cache) {
+        int lookups = getCacheHits(cache) + getCacheMisses(cache);
+        return lookups == 0 ? 0 : (double) getCacheHits(cache) / lookups;
+    }
+}
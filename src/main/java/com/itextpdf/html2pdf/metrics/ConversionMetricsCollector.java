@@ -0,0 +1,182 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2025 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.html2pdf.metrics;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Collects the metrics of a single conversion and reports them to an {@link IConversionMetricsListener}.
+ * <p>
+ * A collector is created by the {@link com.itextpdf.html2pdf.attach.ProcessorContext} for each conversion
+ * only if a listener is set, so the conversion isn't affected otherwise.
+ */
+public class ConversionMetricsCollector {
+
+    final Map<ConversionPhase, Long> phaseDurations = new EnumMap<>(ConversionPhase.class);
+
+    final Map<ConversionPhase, Long> phaseAllocatedBytes = new EnumMap<>(ConversionPhase.class);
+
+    final Map<ConversionCache, Integer> cacheHits = new EnumMap<>(ConversionCache.class);
+
+    final Map<ConversionCache, Integer> cacheMisses = new EnumMap<>(ConversionCache.class);
+
+    int elementCount;
+
+    int relayoutCount;
+
+    int resourceFetchCount;
+
+    long resourceFetchDurationNanos;
+
+    private final IConversionMetricsListener listener;
+
+    private final Map<ConversionPhase, long[]> startedPhases = new EnumMap<>(ConversionPhase.class);
+
+    private boolean finished;
+
+    /**
+     * Creates a new {@link ConversionMetricsCollector} instance.
+     *
+     * @param listener the listener to report the metrics to
+     */
+    public ConversionMetricsCollector(IConversionMetricsListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Reports a phase which was measured before the collector was created, e.g. parsing.
+     *
+     * @param listener the listener to report the phase to, may be null
+     * @param phase the phase
+     * @param startNanos the value of {@link System#nanoTime()} at the start of the phase
+     * @param startAllocatedBytes the value of {@link #getAllocatedBytes()} at the start of the phase
+     */
+    public static void reportPhase(IConversionMetricsListener listener, ConversionPhase phase, long startNanos,
+            long startAllocatedBytes) {
+        if (listener != null) {
+            listener.onPhaseFinished(phase, System.nanoTime() - startNanos,
+                    getAllocatedBytesDelta(startAllocatedBytes));
+        }
+    }
+
+    /**
+     * Gets the number of bytes allocated by the current thread.
+     *
+     * @return the number of allocated bytes, or -1 if the JVM doesn't support the measurement
+     */
+    public static long getAllocatedBytes() {
+        return AllocatedMemoryMeter.getAllocatedBytes();
+    }
+
+    /**
+     * Starts measuring a top-level phase.
+     *
+     * @param phase the phase
+     */
+    public void startPhase(ConversionPhase phase) {
+        startedPhases.put(phase, new long[] {System.nanoTime(), getAllocatedBytes()});
+    }
+
+    /**
+     * Finishes measuring a top-level phase and reports it to the listener.
+     *
+     * @param phase the phase
+     */
+    public void finishPhase(ConversionPhase phase) {
+        long[] start = startedPhases.remove(phase);
+        if (start == null) {
+            return;
+        }
+        long durationNanos = System.nanoTime() - start[0];
+        long allocatedBytes = getAllocatedBytesDelta(start[1]);
+        addPhaseDuration(phase, durationNanos);
+        if (allocatedBytes >= 0) {
+            Long previous = phaseAllocatedBytes.get(phase);
+            phaseAllocatedBytes.put(phase, previous == null ? allocatedBytes : previous + allocatedBytes);
+        }
+        listener.onPhaseFinished(phase, durationNanos, allocatedBytes);
+    }
+
+    /**
+     * Adds the duration of a phase which is accumulated over the traversal, e.g. style resolving.
+     *
+     * @param phase the phase
+     * @param durationNanos the duration in nanoseconds
+     */
+    public void addPhaseDuration(ConversionPhase phase, long durationNanos) {
+        Long previous = phaseDurations.get(phase);
+        phaseDurations.put(phase, previous == null ? durationNanos : previous + durationNanos);
+    }
+
+    /**
+     * Counts a processed element.
+     */
+    public void onElementProcessed() {
+        ++elementCount;
+    }
+
+    /**
+     * Counts a relayout of the document.
+     */
+    public void onRelayout() {
+        ++relayoutCount;
+    }
+
+    /**
+     * Counts a retrieved resource.
+     *
+     * @param durationNanos the time spent by the resource retriever in nanoseconds
+     */
+    public void onResourceFetched(long durationNanos) {
+        ++resourceFetchCount;
+        resourceFetchDurationNanos += durationNanos;
+    }
+
+    /**
+     * Counts a cache lookup.
+     *
+     * @param cache the cache
+     * @param hit whether the entry was found
+     */
+    public void onCacheLookup(ConversionCache cache, boolean hit) {
+        Map<ConversionCache, Integer> counters = hit ? cacheHits : cacheMisses;
+        Integer previous = counters.get(cache);
+        counters.put(cache, previous == null ? 1 : previous + 1);
+    }
+
+    /**
+     * Reports the metrics of the conversion to the listener. Subsequent calls are ignored.
+     */
+    public void finishConversion() {
+        if (!finished) {
+            finished = true;
+            listener.onConversionFinished(new ConversionMetrics(this));
+        }
+    }
+
+    private static long getAllocatedBytesDelta(long startAllocatedBytes) {
+        long allocatedBytes = getAllocatedBytes();
+        return startAllocatedBytes < 0 || allocatedBytes < 0 ? -1 : allocatedBytes - startAllocatedBytes;
+    }
+}
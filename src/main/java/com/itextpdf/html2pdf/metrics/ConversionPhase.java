@@ -0,0 +1,81 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2025 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.html2pdf.metrics;
+
+/**
+ * The phases of an HTML to PDF conversion which are reported to an {@link IConversionMetricsListener}.
+ */
+public enum ConversionPhase {
+    /**
+     * Parsing of the HTML source into a DOM. Only reported for the {@link com.itextpdf.html2pdf.HtmlConverter}
+     * methods which parse the source themselves.
+     */
+    PARSING,
+
+    /**
+     * Collecting, parsing and indexing the style sheets of the document.
+     */
+    CSS_COLLECTING,
+
+    /**
+     * Loading the fonts defined by {@code @font-face} rules.
+     */
+    FONT_FACE_LOADING,
+
+    /**
+     * The preliminary traversal which resolves the values of {@code target-counter} functions.
+     */
+    TARGET_COUNTERS_PROCESSING,
+
+    /**
+     * The parallel matching of the style sheet against the elements of the document. Only reported if
+     * a style resolving pool is set in the {@link com.itextpdf.html2pdf.ConverterProperties}.
+     */
+    SELECTOR_MATCHING,
+
+    /**
+     * The traversal of the DOM which creates the layout elements. It includes style resolution, CSS applying
+     * and, in immediate flush mode, the layout of the top-level elements.
+     */
+    TRAVERSAL,
+
+    /**
+     * Style resolution of the separate elements. Accumulated over the {@link #TRAVERSAL} phase.
+     */
+    STYLE_RESOLVING,
+
+    /**
+     * Applying the resolved styles to the layout elements. Accumulated over the {@link #TRAVERSAL} phase.
+     */
+    CSS_APPLYING,
+
+    /**
+     * Repeated layouts of the document which are needed to resolve the total number of pages.
+     */
+    RELAYOUT,
+
+    /**
+     * Closing of the document: layout of the pending content and writing of the PDF document.
+     */
+    CLOSING
+}
@@ -0,0 +1,53 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2025 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.html2pdf.metrics;
+
+/**
+ * The listener which receives the metrics of conversions, see
+ * {@link com.itextpdf.html2pdf.ConverterProperties#setConversionMetricsListener(IConversionMetricsListener)}.
+ * <p>
+ * The listener is called on the thread which performs the conversion, so an implementation shared
+ * between simultaneous conversions shall be thread safe.
+ */
+public interface IConversionMetricsListener {
+
+    /**
+     * Called when a top-level phase of a conversion is finished. Phases accumulated over the traversal,
+     * i.e. {@link ConversionPhase#STYLE_RESOLVING} and {@link ConversionPhase#CSS_APPLYING}, are reported
+     * only as a part of {@link ConversionMetrics}.
+     *
+     * @param phase the finished phase
+     * @param durationNanos the wall-clock duration of the phase in nanoseconds
+     * @param allocatedBytes the number of bytes allocated by the converting thread during the phase,
+     *                       or -1 if the JVM doesn't support the measurement
+     */
+    void onPhaseFinished(ConversionPhase phase, long durationNanos, long allocatedBytes);
+
+    /**
+     * Called when a conversion is finished: when the {@link com.itextpdf.layout.Document} created from
+     * the HTML is closed, or when the layout elements are created. Not called for failed conversions.
+     *
+     * @param metrics the metrics of the conversion
+     */
+    void onConversionFinished(ConversionMetrics metrics);
+}
@@ -0,0 +1,123 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2025 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.html2pdf.resolver.font;
+
+import com.itextpdf.layout.font.FontProvider;
+import com.itextpdf.layout.font.FontSet;
+import com.itextpdf.styledxmlparser.resolver.font.BasicFontProvider;
+
+/**
+ * A catalogue of fonts which is indexed once and shared between conversions.
+ * <p>
+ * Collecting the shipped and the system fonts is expensive, while a {@link FontProvider} keeps
+ * the {@link com.itextpdf.kernel.font.PdfFont} instances of a single document and can't be shared.
+ * The catalogue keeps the {@link FontSet} and creates lightweight per-document providers on top of it.
+ * The font set of the catalogue isn't modified after its creation, so the catalogue can be used by
+ * several threads simultaneously. Fonts of a single document, e.g. {@code @font-face} ones, are kept
+ * as temporary fonts of the conversion and don't get to the catalogue.
+ */
+public final class FontCatalog {
+
+    private final FontSet fontSet;
+
+    private final String defaultFontFamily;
+
+    /**
+     * Creates a new {@link FontCatalog} instance.
+     *
+     * @param fontSet the font set
+     * @param defaultFontFamily the default font family
+     */
+    private FontCatalog(FontSet fontSet, String defaultFontFamily) {
+        this.fontSet = fontSet;
+        this.defaultFontFamily = defaultFontFamily;
+    }
+
+    /**
+     * Gets the catalogue of the fonts which are used by default: the standard PDF fonts and the shipped fonts.
+     * The catalogue is created on the first call.
+     *
+     * @return the default {@link FontCatalog} instance
+     */
+    public static FontCatalog getDefault() {
+        return DefaultCatalogHolder.INSTANCE;
+    }
+
+    /**
+     * Gets the catalogue of the fonts which are used by default for PDF/A documents: only the shipped fonts,
+     * since the standard PDF fonts can't be embedded. The catalogue is created on the first call.
+     *
+     * @return the default {@link FontCatalog} instance for PDF/A documents
+     */
+    public static FontCatalog getDefaultForPdfA() {
+        return PdfACatalogHolder.INSTANCE;
+    }
+
+    /**
+     * Creates a catalogue of the fonts of the passed font provider. The font set of the provider
+     * is shared with the catalogue, so the provider shall not be modified after this call.
+     *
+     * @param fontProvider the font provider which has collected the fonts
+     * @return the {@link FontCatalog} instance
+     */
+    public static FontCatalog create(FontProvider fontProvider) {
+        return new FontCatalog(fontProvider.getFontSet(), fontProvider.getDefaultFontFamily());
+    }
+
+    /**
+     * Creates a font provider for a single document. The provider shares the font set of the catalogue
+     * and keeps only the {@link com.itextpdf.kernel.font.PdfFont} instances of its document.
+     * Fonts shall not be added to the returned provider, since that would modify the catalogue.
+     *
+     * @return the {@link FontProvider} instance
+     */
+    public FontProvider createFontProvider() {
+        return new FontProvider(fontSet, defaultFontFamily);
+    }
+
+    /**
+     * Gets the font set of the catalogue.
+     *
+     * @return the {@link FontSet} instance which shall not be modified
+     */
+    public FontSet getFontSet() {
+        return fontSet;
+    }
+
+    /**
+     * Gets the default font family.
+     *
+     * @return the default font family
+     */
+    public String getDefaultFontFamily() {
+        return defaultFontFamily;
+    }
+
+    private static final class DefaultCatalogHolder {
+        private static final FontCatalog INSTANCE = create(new BasicFontProvider());
+    }
+
+    private static final class PdfACatalogHolder {
+        private static final FontCatalog INSTANCE = create(new BasicFontProvider(false, true, false));
+    }
+}
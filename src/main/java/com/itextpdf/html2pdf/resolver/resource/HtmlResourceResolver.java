@@ -25,21 +25,35 @@ package com.itextpdf.html2pdf.resolver.resource;
 import com.itextpdf.commons.utils.Base64;
 import com.itextpdf.commons.utils.FileUtil;
 import com.itextpdf.html2pdf.attach.ProcessorContext;
+import com.itextpdf.html2pdf.attach.impl.SvgProcessingCache;
 import com.itextpdf.html2pdf.attach.util.ContextMappingHelper;
+import com.itextpdf.html2pdf.metrics.ConversionCache;
+import com.itextpdf.html2pdf.util.ContentHashUtil;
 import com.itextpdf.html2pdf.util.SvgProcessingUtil;
+import com.itextpdf.io.image.ImageData;
+import com.itextpdf.io.image.ImageDataFactory;
 import com.itextpdf.kernel.pdf.xobject.PdfFormXObject;
+import com.itextpdf.kernel.pdf.xobject.PdfImageXObject;
 import com.itextpdf.kernel.pdf.xobject.PdfXObject;
+import com.itextpdf.styledxmlparser.css.CssStyleSheet;
+import com.itextpdf.styledxmlparser.css.media.MediaDeviceDescription;
+import com.itextpdf.styledxmlparser.node.INode;
+import com.itextpdf.styledxmlparser.resolver.resource.DefaultResourceRetriever;
 import com.itextpdf.styledxmlparser.resolver.resource.IResourceRetriever;
 import com.itextpdf.styledxmlparser.resolver.resource.ResourceResolver;
 import com.itextpdf.svg.converter.SvgConverter;
 import com.itextpdf.svg.element.SvgImage;
 import com.itextpdf.svg.processors.ISvgProcessorResult;
 import com.itextpdf.svg.processors.impl.SvgConverterProperties;
+import com.itextpdf.svg.xobject.SvgImageXObject;
 
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.net.MalformedURLException;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.util.Set;
 import java.util.regex.Pattern;
 
 /**
@@ -49,9 +63,12 @@ public class HtmlResourceResolver extends ResourceResolver {
 
     private static final String SVG_PREFIX = "data:image/svg+xml";
     private static final Pattern SVG_IDENTIFIER_PATTERN = Pattern.compile(",[\\s]*(<svg )");
+    private static final String DATA_URI_KEY_PREFIX = "data:";
 
     private final ProcessorContext context;
 
+    private final PrefetchingResourceRetriever prefetchingRetriever;
+
     /**
      * Creates a new {@link HtmlResourceResolver} instance.
      * If {@code baseUri} is a string that represents an absolute URI with any schema
@@ -82,8 +99,63 @@ public class HtmlResourceResolver extends ResourceResolver {
      * @param retriever the resource retriever with the help of which data from resources will be retrieved
      */
     public HtmlResourceResolver(String baseUri, ProcessorContext context, IResourceRetriever retriever) {
-        super(baseUri, retriever);
+        this(baseUri, context, createPrefetchingRetriever(retriever, context), retriever);
+    }
+
+    private HtmlResourceResolver(String baseUri, ProcessorContext context,
+            PrefetchingResourceRetriever prefetchingRetriever, IResourceRetriever retriever) {
+        super(baseUri, createRetriever(prefetchingRetriever == null ? retriever : prefetchingRetriever, context));
         this.context = context;
+        this.prefetchingRetriever = prefetchingRetriever;
+    }
+
+    /**
+     * Starts fetching the style sheets, the images and the SVG objects referenced by a document in
+     * the background. Does nothing unless resource prefetching is enabled in the
+     * {@link com.itextpdf.html2pdf.ConverterProperties}.
+     *
+     * @param root the root node of the document
+     */
+    public void prefetchResources(INode root) {
+        if (prefetchingRetriever != null) {
+            prefetchResources(ResourceReferenceCollector.collectReferences(root));
+        }
+    }
+
+    /**
+     * Starts fetching the resources referenced by the {@code url()} values of a style sheet in the background,
+     * e.g. background images and font sources. Does nothing unless resource prefetching is enabled in the
+     * {@link com.itextpdf.html2pdf.ConverterProperties}.
+     *
+     * @param styleSheet        the style sheet
+     * @param deviceDescription the media device description
+     */
+    public void prefetchResources(CssStyleSheet styleSheet, MediaDeviceDescription deviceDescription) {
+        if (prefetchingRetriever != null) {
+            prefetchResources(ResourceReferenceCollector.collectReferences(styleSheet, deviceDescription));
+        }
+    }
+
+    /**
+     * Stops the threads which fetch the resources in the background once the pending fetching is finished.
+     * The fetched resources are still used until the cache is reset. Called when the processing of a document
+     * is finished, does nothing unless resource prefetching is enabled.
+     */
+    public void finishPrefetching() {
+        if (prefetchingRetriever != null) {
+            prefetchingRetriever.shutdown();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void resetCache() {
+        super.resetCache();
+        if (prefetchingRetriever != null) {
+            prefetchingRetriever.clear();
+        }
     }
 
     @Override
@@ -108,19 +180,27 @@ public class HtmlResourceResolver extends ResourceResolver {
         String fixedSrc = src.replaceAll("\\s", "");
         if (fixedSrc.startsWith(SVG_PREFIX)) {
             fixedSrc = fixedSrc.substring(fixedSrc.indexOf(BASE64_IDENTIFIER) + BASE64_IDENTIFIER.length() + 1);
-            try (ByteArrayInputStream stream = new ByteArrayInputStream(Base64.decode(fixedSrc))) {
-                PdfFormXObject xObject = HtmlResourceResolver.processAsSvg(stream, context, null);
+            try {
+                PdfFormXObject xObject = processSvgDataWithCache(fixedSrc, Base64.decode(fixedSrc));
                 if (xObject != null) {
                     return xObject;
                 }
             } catch (Exception ignored) {
             }
         }
+        IImageDataCache imageDataCache = getImageDataCache();
+        if (imageDataCache != null) {
+            return tryResolveBase64ImageSourceWithCache(src, imageDataCache);
+        }
         return super.tryResolveBase64ImageSource(src);
     }
 
     @Override
     protected PdfXObject createImageByUrl(URL url) throws Exception {
+        IImageDataCache imageDataCache = getImageDataCache();
+        if (imageDataCache != null) {
+            return createImageByUrlWithCache(url, imageDataCache);
+        }
         try {
             return super.createImageByUrl(url);
         } catch (Exception ignored) {
@@ -130,9 +210,53 @@ public class HtmlResourceResolver extends ResourceResolver {
         }
     }
 
+    private IImageDataCache getImageDataCache() {
+        return context == null ? null : context.getImageDataCache();
+    }
+
+    private PdfXObject tryResolveBase64ImageSourceWithCache(String src, IImageDataCache imageDataCache) {
+        try {
+            String fixedSrc = src.replaceAll("\\s", "");
+            String base64Data = fixedSrc.substring(fixedSrc.indexOf(BASE64_IDENTIFIER) + BASE64_IDENTIFIER.length() + 1);
+            String key = DATA_URI_KEY_PREFIX + ContentHashUtil.hash(base64Data);
+            ImageData imageData = imageDataCache.get(key);
+            countCacheLookup(ConversionCache.IMAGE_DATA, imageData != null);
+            if (imageData == null) {
+                imageData = ImageDataFactory.create(Base64.decode(base64Data));
+                imageDataCache.put(key, imageData);
+            }
+            // ImageData isn't bound to a document, a new XObject is created for the current one
+            return new PdfImageXObject(imageData);
+        } catch (Exception ignored) {
+            //Logs an error in a higher-level method if null is returned
+        }
+        return null;
+    }
+
+    private PdfXObject createImageByUrlWithCache(URL url, IImageDataCache imageDataCache) throws IOException {
+        String key = url.toExternalForm();
+        ImageData imageData = imageDataCache.get(key);
+        countCacheLookup(ConversionCache.IMAGE_DATA, imageData != null);
+        if (imageData == null) {
+            byte[] bytes = getRetriever().getByteArrayByUrl(url);
+            if (bytes == null) {
+                return null;
+            }
+            try {
+                imageData = ImageDataFactory.create(bytes);
+            } catch (Exception ignored) {
+                // Not a raster image, SVG images are bound to the document and hence aren't cached
+                return HtmlResourceResolver.processAsSvg(new ByteArrayInputStream(bytes), context,
+                        FileUtil.parentDirectory(url));
+            }
+            imageDataCache.put(key, imageData);
+        }
+        return new PdfImageXObject(imageData);
+    }
+
     private PdfXObject tryResolveSvgImageSource(String src) {
-        try (ByteArrayInputStream stream = new ByteArrayInputStream(src.getBytes(StandardCharsets.UTF_8))) {
-            PdfFormXObject xObject = HtmlResourceResolver.processAsSvg(stream, context, null);
+        try {
+            PdfFormXObject xObject = processSvgDataWithCache(src, src.getBytes(StandardCharsets.UTF_8));
             if (xObject != null) {
                 return xObject;
             }
@@ -142,6 +266,59 @@ public class HtmlResourceResolver extends ResourceResolver {
         return null;
     }
 
+    private PdfFormXObject processSvgDataWithCache(String svgSource, byte[] svgData) {
+        SvgProcessingCache svgProcessingCache = context.getSvgProcessingCache();
+        String key = svgProcessingCache.createKey(svgSource, context);
+        SvgImageXObject xObject = svgProcessingCache.getXObject(key);
+        if (xObject != null) {
+            countCacheLookup(ConversionCache.SVG, true);
+            return xObject;
+        }
+        ISvgProcessorResult res = svgProcessingCache.getProcessingResult(key);
+        countCacheLookup(ConversionCache.SVG, res != null);
+        if (res == null) {
+            res = SvgConverter.parseAndProcess(new ByteArrayInputStream(svgData),
+                    ContextMappingHelper.mapToSvgConverterProperties(context));
+            svgProcessingCache.putProcessingResult(key, res);
+        }
+        xObject = new SvgProcessingUtil(context.getResourceResolver())
+                .createXObjectFromProcessingResult(res, context, true);
+        svgProcessingCache.putXObject(key, xObject, context);
+        return xObject;
+    }
+
+    private void countCacheLookup(ConversionCache cache, boolean hit) {
+        if (context.getMetricsCollector() != null) {
+            context.getMetricsCollector().onCacheLookup(cache, hit);
+        }
+    }
+
+    private void prefetchResources(Set<String> uris) {
+        for (final String uri : uris) {
+            try {
+                prefetchingRetriever.prefetch(resolveAgainstBaseUri(uri));
+            } catch (MalformedURLException ignored) {
+                // The error is reported when the resource is used
+            }
+        }
+    }
+
+    private static PrefetchingResourceRetriever createPrefetchingRetriever(IResourceRetriever retriever,
+            ProcessorContext context) {
+        if (context == null || context.getResourcePrefetchParallelism() <= 0) {
+            return null;
+        }
+        return new PrefetchingResourceRetriever(retriever == null ? new DefaultResourceRetriever() : retriever,
+                context, context.getResourcePrefetchParallelism(), context.getResourcePrefetchTimeout());
+    }
+
+    private static IResourceRetriever createRetriever(IResourceRetriever retriever, ProcessorContext context) {
+        if (context == null || context.getMetricsListener() == null) {
+            return retriever;
+        }
+        return new MetricsResourceRetriever(retriever == null ? new DefaultResourceRetriever() : retriever, context);
+    }
+
     private static PdfFormXObject processAsSvg(InputStream stream, ProcessorContext context, String parentDir) {
         SvgConverterProperties svgConverterProperties = ContextMappingHelper.mapToSvgConverterProperties(context);
         if (parentDir != null) {
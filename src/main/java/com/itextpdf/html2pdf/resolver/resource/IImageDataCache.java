@@ -0,0 +1,52 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2025 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.html2pdf.resolver.resource;
+
+import com.itextpdf.io.image.ImageData;
+
+/**
+ * Cache of decoded raster images which can be shared across conversions.
+ * <p>
+ * Images are identified either by their resolved URL or by the hash of a data URI content.
+ * {@link ImageData} instances are not bound to a PDF document, so {@link HtmlResourceResolver}
+ * creates a new image XObject from the cached data for every document. Implementations have to
+ * take care of thread safety if the cache is used by simultaneous conversions.
+ */
+public interface IImageDataCache {
+
+    /**
+     * Gets the cached image data.
+     *
+     * @param key the resolved URL of the image or the data URI key
+     * @return the cached {@link ImageData}, or null if there is no such image in the cache
+     */
+    ImageData get(String key);
+
+    /**
+     * Puts the decoded image data to the cache.
+     *
+     * @param key       the resolved URL of the image or the data URI key
+     * @param imageData the decoded {@link ImageData}
+     */
+    void put(String key, ImageData imageData);
+}
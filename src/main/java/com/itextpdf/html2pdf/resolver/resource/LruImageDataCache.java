@@ -0,0 +1,179 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2025 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.html2pdf.resolver.resource;
+
+import com.itextpdf.io.image.ImageData;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Thread safe {@link IImageDataCache} implementation which limits the total size of the cached image data
+ * and evicts the least recently used images when the limit is exceeded.
+ */
+public class LruImageDataCache implements IImageDataCache {
+
+    /**
+     * The default maximum total size of the cached image data in bytes.
+     */
+    public static final long DEFAULT_MAX_SIZE_IN_BYTES = 64L * 1024 * 1024;
+
+    private final long maxSizeInBytes;
+
+    private final Map<String, ImageData> images;
+
+    private final Map<String, Long> imageSizes;
+
+    private long sizeInBytes;
+
+    private long hitCount;
+
+    private long missCount;
+
+    private long evictionCount;
+
+    /**
+     * Creates a new {@link LruImageDataCache} instance with {@link #DEFAULT_MAX_SIZE_IN_BYTES} size limit.
+     */
+    public LruImageDataCache() {
+        this(DEFAULT_MAX_SIZE_IN_BYTES);
+    }
+
+    /**
+     * Creates a new {@link LruImageDataCache} instance.
+     *
+     * @param maxSizeInBytes the maximum total size of the cached image data in bytes, must be positive
+     */
+    public LruImageDataCache(long maxSizeInBytes) {
+        if (maxSizeInBytes <= 0) {
+            throw new IllegalArgumentException("maxSizeInBytes");
+        }
+        this.maxSizeInBytes = maxSizeInBytes;
+        this.images = new LinkedHashMap<>(16, 0.75f, true);
+        this.imageSizes = new LinkedHashMap<>();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized ImageData get(String key) {
+        ImageData imageData = images.get(key);
+        if (imageData == null) {
+            ++missCount;
+        } else {
+            ++hitCount;
+        }
+        return imageData;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Images larger than the size limit of the cache are not cached.
+     */
+    @Override
+    public synchronized void put(String key, ImageData imageData) {
+        long imageSize = calculateSize(imageData);
+        if (imageSize > maxSizeInBytes) {
+            return;
+        }
+        remove(key);
+        images.put(key, imageData);
+        imageSizes.put(key, imageSize);
+        sizeInBytes += imageSize;
+        Iterator<String> keys = images.keySet().iterator();
+        while (sizeInBytes > maxSizeInBytes && keys.hasNext()) {
+            String eldestKey = keys.next();
+            keys.remove();
+            sizeInBytes -= imageSizes.remove(eldestKey);
+            ++evictionCount;
+        }
+    }
+
+    /**
+     * Gets the number of currently cached images.
+     *
+     * @return the number of cached images
+     */
+    public synchronized int size() {
+        return images.size();
+    }
+
+    /**
+     * Gets the total size of the currently cached image data.
+     *
+     * @return the size of the cached image data in bytes
+     */
+    public synchronized long getSizeInBytes() {
+        return sizeInBytes;
+    }
+
+    /**
+     * Removes all the images from the cache. Statistics are not reset.
+     */
+    public synchronized void clear() {
+        images.clear();
+        imageSizes.clear();
+        sizeInBytes = 0;
+    }
+
+    /**
+     * Gets the number of lookups which found a cached image.
+     *
+     * @return the number of cache hits
+     */
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Gets the number of lookups which didn't find a cached image.
+     *
+     * @return the number of cache misses
+     */
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Gets the number of images evicted from the cache because of the size limit.
+     *
+     * @return the number of evictions
+     */
+    public synchronized long getEvictionCount() {
+        return evictionCount;
+    }
+
+    private void remove(String key) {
+        if (images.remove(key) != null) {
+            sizeInBytes -= imageSizes.remove(key);
+        }
+    }
+
+    private static long calculateSize(ImageData imageData) {
+        byte[] data = imageData.getData();
+        return data == null ? 0 : data.length;
+    }
+}
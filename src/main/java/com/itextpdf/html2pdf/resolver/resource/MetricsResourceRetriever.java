@@ -0,0 +1,86 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2025 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.html2pdf.resolver.resource;
+
+import com.itextpdf.html2pdf.attach.ProcessorContext;
+import com.itextpdf.html2pdf.metrics.ConversionMetricsCollector;
+import com.itextpdf.styledxmlparser.resolver.resource.IResourceRetriever;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+
+/**
+ * Wraps a resource retriever to count the retrieved resources and the time spent on them
+ * in the metrics of the current conversion.
+ */
+class MetricsResourceRetriever implements IResourceRetriever {
+
+    private final IResourceRetriever retriever;
+
+    private final ProcessorContext context;
+
+    /**
+     * Creates a new {@link MetricsResourceRetriever} instance.
+     *
+     * @param retriever the wrapped retriever
+     * @param context the processor context which provides the collector of the current conversion
+     */
+    MetricsResourceRetriever(IResourceRetriever retriever, ProcessorContext context) {
+        this.retriever = retriever;
+        this.context = context;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public InputStream getInputStreamByUrl(URL url) throws IOException {
+        long start = System.nanoTime();
+        try {
+            return retriever.getInputStreamByUrl(url);
+        } finally {
+            onResourceFetched(start);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public byte[] getByteArrayByUrl(URL url) throws IOException {
+        long start = System.nanoTime();
+        try {
+            return retriever.getByteArrayByUrl(url);
+        } finally {
+            onResourceFetched(start);
+        }
+    }
+
+    private void onResourceFetched(long start) {
+        ConversionMetricsCollector metricsCollector = context.getMetricsCollector();
+        if (metricsCollector != null) {
+            metricsCollector.onResourceFetched(System.nanoTime() - start);
+        }
+    }
+}
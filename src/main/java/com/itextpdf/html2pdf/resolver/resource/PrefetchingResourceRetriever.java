@@ -0,0 +1,200 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2025 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.html2pdf.resolver.resource;
+
+import com.itextpdf.html2pdf.attach.ProcessorContext;
+import com.itextpdf.html2pdf.metrics.ConversionCache;
+import com.itextpdf.styledxmlparser.resolver.resource.IResourceRetriever;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Wraps a resource retriever to fetch the resources in the background before they are used.
+ * A prefetched resource is kept until the next conversion starts, so it's handed out every time it's used
+ * during the conversion. A failed or timed out prefetching falls back to the wrapped retriever, so that
+ * the errors are reported at the point of use as usual.
+ */
+class PrefetchingResourceRetriever implements IResourceRetriever {
+
+    /**
+     * The time in seconds after which the idle prefetching threads are stopped.
+     */
+    private static final long KEEP_ALIVE_SECONDS = 1;
+
+    private final IResourceRetriever retriever;
+
+    private final ProcessorContext context;
+
+    private final long timeout;
+
+    private final int parallelism;
+
+    private ThreadPoolExecutor executor;
+
+    private final Map<String, Future<byte[]>> prefetchedResources = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new {@link PrefetchingResourceRetriever} instance.
+     *
+     * @param retriever   the wrapped retriever, it's called from the prefetching threads
+     * @param context     the processor context which provides the collector of the current conversion
+     * @param parallelism the number of concurrently fetched resources
+     * @param timeout     the time in milliseconds to wait for a prefetched resource when it's used
+     */
+    PrefetchingResourceRetriever(IResourceRetriever retriever, ProcessorContext context, int parallelism,
+            long timeout) {
+        this.retriever = retriever;
+        this.context = context;
+        this.timeout = timeout;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Starts fetching a resource in the background, unless it's already fetched.
+     *
+     * @param url the resource URL
+     */
+    void prefetch(final URL url) {
+        final String key = url.toExternalForm();
+        if (prefetchedResources.containsKey(key)) {
+            return;
+        }
+        final FutureTask<byte[]> task = new FutureTask<>(new Callable<byte[]>() {
+            @Override
+            public byte[] call() throws IOException {
+                return retriever.getByteArrayByUrl(url);
+            }
+        });
+        if (prefetchedResources.putIfAbsent(key, task) == null) {
+            getExecutor().execute(task);
+        }
+    }
+
+    /**
+     * Stops the prefetching threads once the pending prefetching is finished. The prefetched resources
+     * are still handed out, e.g. to the page margin boxes which are laid out when the document is closed.
+     */
+    void shutdown() {
+        if (executor != null) {
+            executor.shutdown();
+            executor = null;
+        }
+    }
+
+    /**
+     * Cancels the pending prefetching and drops the prefetched resources which weren't used.
+     */
+    void clear() {
+        for (final Future<byte[]> resource : prefetchedResources.values()) {
+            resource.cancel(true);
+        }
+        prefetchedResources.clear();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public InputStream getInputStreamByUrl(URL url) throws IOException {
+        final byte[] bytes = takePrefetchedResource(url);
+        if (bytes != null) {
+            return new ByteArrayInputStream(bytes);
+        }
+        return retriever.getInputStreamByUrl(url);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public byte[] getByteArrayByUrl(URL url) throws IOException {
+        final byte[] bytes = takePrefetchedResource(url);
+        if (bytes != null) {
+            return bytes;
+        }
+        return retriever.getByteArrayByUrl(url);
+    }
+
+    private byte[] takePrefetchedResource(URL url) {
+        final String key = url.toExternalForm();
+        final Future<byte[]> resource = prefetchedResources.get(key);
+        byte[] bytes = null;
+        if (resource != null) {
+            try {
+                bytes = resource.get(timeout, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                resource.cancel(true);
+                prefetchedResources.remove(key, resource);
+            } catch (ExecutionException | CancellationException e) {
+                // The resource is fetched once again to report the error at the point of use
+                prefetchedResources.remove(key, resource);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (context.getMetricsCollector() != null) {
+            context.getMetricsCollector().onCacheLookup(ConversionCache.PREFETCHED_RESOURCE, bytes != null);
+        }
+        return bytes;
+    }
+
+    private ThreadPoolExecutor getExecutor() {
+        if (executor == null) {
+            executor = new ThreadPoolExecutor(parallelism, parallelism, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<Runnable>(), new PrefetchThreadFactory());
+            // The threads are stopped when nothing is prefetched, so that an abandoned conversion doesn't keep them
+            executor.allowCoreThreadTimeOut(true);
+        }
+        return executor;
+    }
+
+    /**
+     * Creates daemon threads, so that the prefetching doesn't prevent the JVM from exiting.
+     */
+    private static final class PrefetchThreadFactory implements ThreadFactory {
+        private static final AtomicInteger THREAD_NUMBER = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            final Thread thread = new Thread(runnable, "pdfHTML-prefetch-" + THREAD_NUMBER.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
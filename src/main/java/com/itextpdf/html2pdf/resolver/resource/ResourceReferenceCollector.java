@@ -0,0 +1,154 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2025 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.html2pdf.resolver.resource;
+
+import com.itextpdf.html2pdf.html.AttributeConstants;
+import com.itextpdf.html2pdf.html.TagConstants;
+import com.itextpdf.styledxmlparser.css.CssDeclaration;
+import com.itextpdf.styledxmlparser.css.CssFontFaceRule;
+import com.itextpdf.styledxmlparser.css.CssNestedAtRule;
+import com.itextpdf.styledxmlparser.css.CssRuleSet;
+import com.itextpdf.styledxmlparser.css.CssStatement;
+import com.itextpdf.styledxmlparser.css.CssStyleSheet;
+import com.itextpdf.styledxmlparser.css.media.CssMediaRule;
+import com.itextpdf.styledxmlparser.css.media.MediaDeviceDescription;
+import com.itextpdf.styledxmlparser.css.util.CssUtils;
+import com.itextpdf.styledxmlparser.node.IElementNode;
+import com.itextpdf.styledxmlparser.node.INode;
+import com.itextpdf.styledxmlparser.resolver.resource.ResourceResolver;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Collects the references to external resources from a document and from its style sheet,
+ * so that the resources can be fetched before they are used.
+ */
+final class ResourceReferenceCollector {
+
+    private static final Pattern URL_PATTERN = Pattern.compile("url\\(\\s*(['\"]?)([^'\")]+)\\1\\s*\\)");
+
+    private ResourceReferenceCollector() {
+    }
+
+    /**
+     * Collects the style sheet links, the image sources, the data of SVG objects and
+     * the {@code url()} values of the style attributes of a document.
+     * The content of inline SVG images is skipped.
+     *
+     * @param root the root node of the document
+     * @return the set of the referenced URIs in the document order
+     */
+    static Set<String> collectReferences(INode root) {
+        final Set<String> references = new LinkedHashSet<>();
+        collectReferences(root, references);
+        return references;
+    }
+
+    /**
+     * Collects the {@code url()} values of the declarations of a style sheet, including
+     * the sources of the {@code @font-face} rules. The media rules which don't match
+     * the device are skipped.
+     *
+     * @param styleSheet        the style sheet
+     * @param deviceDescription the media device description
+     * @return the set of the referenced URIs in the order of the style sheet
+     */
+    static Set<String> collectReferences(CssStyleSheet styleSheet, MediaDeviceDescription deviceDescription) {
+        final Set<String> references = new LinkedHashSet<>();
+        collectReferences(styleSheet.getStatements(), deviceDescription, references);
+        return references;
+    }
+
+    private static void collectReferences(INode node, Set<String> references) {
+        if (!(node instanceof IElementNode)) {
+            for (final INode child : node.childNodes()) {
+                collectReferences(child, references);
+            }
+            return;
+        }
+        final IElementNode element = (IElementNode) node;
+        if (TagConstants.SVG.equals(element.name())) {
+            return;
+        }
+        if (CssUtils.isStyleSheetLink(element)) {
+            addReference(element.getAttribute(AttributeConstants.HREF), references);
+        } else if (TagConstants.IMG.equals(element.name())) {
+            addReference(element.getAttribute(AttributeConstants.SRC), references);
+        } else if (TagConstants.OBJECT.equals(element.name())
+                && AttributeConstants.ObjectTypes.SVGIMAGE.equals(element.getAttribute(AttributeConstants.TYPE))) {
+            addReference(element.getAttribute(AttributeConstants.DATA), references);
+        }
+        final String style = element.getAttribute(AttributeConstants.STYLE);
+        if (style != null) {
+            addUrls(style, references);
+        }
+        for (final INode child : element.childNodes()) {
+            collectReferences(child, references);
+        }
+    }
+
+    private static void collectReferences(Collection<CssStatement> statements,
+            MediaDeviceDescription deviceDescription, Set<String> references) {
+        for (final CssStatement statement : statements) {
+            if (statement instanceof CssFontFaceRule) {
+                addUrls(((CssFontFaceRule) statement).getProperties(), references);
+            } else if (statement instanceof CssMediaRule) {
+                if (((CssMediaRule) statement).matchMediaDevice(deviceDescription)) {
+                    collectReferences(((CssMediaRule) statement).getStatements(), deviceDescription, references);
+                }
+            } else if (statement instanceof CssNestedAtRule) {
+                collectReferences(((CssNestedAtRule) statement).getStatements(), deviceDescription, references);
+            } else if (statement instanceof CssRuleSet) {
+                addUrls(((CssRuleSet) statement).getNormalDeclarations(), references);
+                addUrls(((CssRuleSet) statement).getImportantDeclarations(), references);
+            }
+        }
+    }
+
+    private static void addUrls(Collection<CssDeclaration> declarations, Set<String> references) {
+        for (final CssDeclaration declaration : declarations) {
+            addUrls(declaration.getExpression(), references);
+        }
+    }
+
+    private static void addUrls(String value, Set<String> references) {
+        if (value == null || !value.contains("url(")) {
+            return;
+        }
+        final Matcher matcher = URL_PATTERN.matcher(value);
+        while (matcher.find()) {
+            addReference(matcher.group(2).trim(), references);
+        }
+    }
+
+    private static void addReference(String uri, Set<String> references) {
+        // Data URIs are decoded when they are used, there is nothing to fetch
+        if (uri != null && !uri.trim().isEmpty() && !ResourceResolver.isDataSrc(uri)) {
+            references.add(uri.trim());
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2025 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.html2pdf.util;
+
+import com.itextpdf.commons.utils.MessageFormatUtil;
+import com.itextpdf.html2pdf.exceptions.Html2PdfException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Utility class for calculating content hashes which identify resources independently of their location.
+ */
+public final class ContentHashUtil {
+    private static final String HASH_ALGORITHM = "SHA-256";
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    /**
+     * Creates a new {@link ContentHashUtil} instance.
+     */
+    private ContentHashUtil() {
+        // empty constructor
+    }
+
+    /**
+     * Calculates the hash of the passed bytes.
+     *
+     * @param content the content bytes
+     * @return the lowercase hexadecimal representation of the SHA-256 hash
+     */
+    public static String hash(byte[] content) {
+        MessageDigest messageDigest;
+        try {
+            messageDigest = MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new Html2PdfException(MessageFormatUtil.format(
+                    Html2PdfException.HASH_ALGORITHM_IS_NOT_AVAILABLE, HASH_ALGORITHM), e);
+        }
+        byte[] digest = messageDigest.digest(content);
+        StringBuilder sb = new StringBuilder(digest.length * 2);
+        for (byte b : digest) {
+            sb.append(HEX_DIGITS[(b >> 4) & 0xF]).append(HEX_DIGITS[b & 0xF]);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Calculates the hash of the UTF-8 representation of the passed string.
+     *
+     * @param content the content string
+     * @return the lowercase hexadecimal representation of the SHA-256 hash
+     */
+    public static String hash(String content) {
+        return hash(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,65 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2025 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.html2pdf;
+
+import com.itextpdf.test.ExtendedITextTest;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("IntegrationTest")
+public class CompiledHtmlTemplateMultiThreadedTest extends ExtendedITextTest {
+
+    private static final String TEMPLATE = "<html><head><style>"
+            + "p { font-size: 20pt; color: #336699; } .total { font-weight: bold; }"
+            + "</style></head><body></body></html>";
+
+    @Test
+    public void multiThreadedTemplateConversionTest() throws InterruptedException {
+        final CompiledHtmlTemplate template = CompiledHtmlTemplate.compile(TEMPLATE, new ConverterProperties());
+        int runcount = 20;
+        List<Future<Integer>> futures = new ArrayList<>(runcount);
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        for (int i = 0; i < runcount; i++) {
+            final int invoiceNumber = i;
+            futures.add(executorService.submit(() -> {
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                template.convertToPdf("<p>Invoice " + invoiceNumber + "</p>", out);
+                return out.size();
+            }));
+        }
+        executorService.shutdown();
+        Assertions.assertTrue(executorService.awaitTermination(2, TimeUnit.MINUTES));
+        for (Future<Integer> future : futures) {
+            Assertions.assertDoesNotThrow(() -> Assertions.assertTrue(future.get() > 0));
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2025 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.html2pdf;
+
+import com.itextpdf.html2pdf.logs.Html2PdfLogMessageConstant;
+import com.itextpdf.kernel.pdf.PdfWriter;
+import com.itextpdf.kernel.utils.CompareTool;
+import com.itextpdf.layout.element.IElement;
+import com.itextpdf.layout.properties.Property;
+import com.itextpdf.layout.properties.UnitValue;
+import com.itextpdf.test.ExtendedITextTest;
+import com.itextpdf.test.annotations.LogMessage;
+import com.itextpdf.test.annotations.LogMessages;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("IntegrationTest")
+public class CompiledHtmlTemplateTest extends ExtendedITextTest {
+
+    public static final String DESTINATION_FOLDER = "./target/test/com/itextpdf/html2pdf/CompiledHtmlTemplateTest/";
+
+    private static final String TEMPLATE = "<html><head><style>"
+            + "@page { margin: 20pt; @bottom-center { content: counter(page); } }"
+            + "p { font-size: 20pt; color: #336699; } .total { font-weight: bold; }"
+            + "</style></head><body></body></html>";
+
+    private static final String DOCUMENT = "<html><head><style>"
+            + "@page { margin: 20pt; @bottom-center { content: counter(page); } }"
+            + "p { font-size: 20pt; color: #336699; } .total { font-weight: bold; }"
+            + "</style></head><body><p>Invoice 42</p><p class='total'>Total: 100</p></body></html>";
+
+    @BeforeAll
+    public static void beforeClass() {
+        createOrClearDestinationFolder(DESTINATION_FOLDER);
+    }
+
+    @Test
+    public void templateStylesAreAppliedTest() {
+        CompiledHtmlTemplate template = CompiledHtmlTemplate.compile(TEMPLATE, new ConverterProperties());
+        List<IElement> elements = template.convertToElements("<p>Invoice 42</p>");
+        Assertions.assertEquals(20f, elements.get(0).<UnitValue>getProperty(Property.FONT_SIZE).getValue(), 1e-10f);
+    }
+
+    @Test
+    public void documentStylesAreNotCollectedTest() {
+        CompiledHtmlTemplate template = CompiledHtmlTemplate.compile(TEMPLATE, new ConverterProperties());
+        List<IElement> elements = template.convertToElements(
+                "<html><head><style>p { font-size: 30pt; }</style></head><body><p>Invoice 42</p></body></html>");
+        Assertions.assertEquals(20f, elements.get(0).<UnitValue>getProperty(Property.FONT_SIZE).getValue(), 1e-10f);
+    }
+
+    @Test
+    public void templateConversionEqualsHtmlConverterTest() throws IOException, InterruptedException {
+        String outPdf = DESTINATION_FOLDER + "templateConversion.pdf";
+        String cmpPdf = DESTINATION_FOLDER + "htmlConverterConversion.pdf";
+        HtmlConverter.convertToPdf(DOCUMENT, new PdfWriter(cmpPdf));
+
+        CompiledHtmlTemplate template = CompiledHtmlTemplate.compile(TEMPLATE, new ConverterProperties());
+        try (OutputStream out = new FileOutputStream(outPdf)) {
+            template.convertToPdf(DOCUMENT, out);
+        }
+        Assertions.assertNull(new CompareTool().compareByContent(outPdf, cmpPdf, DESTINATION_FOLDER));
+    }
+
+    @Test
+    @LogMessages(messages = @LogMessage(messageTemplate = Html2PdfLogMessageConstant.UNABLE_TO_RETRIEVE_FONT))
+    public void invalidFontFaceIsLoggedTest() {
+        CompiledHtmlTemplate template = CompiledHtmlTemplate.compile("<html><head><style>"
+                + "@font-face { font-family: broken; src: url(data:font/ttf;base64,AAAA); }"
+                + "</style></head><body></body></html>", new ConverterProperties());
+        Assertions.assertNotNull(template);
+    }
+}
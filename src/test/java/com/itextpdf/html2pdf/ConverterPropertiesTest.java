@@ -24,6 +24,9 @@ package com.itextpdf.html2pdf;
 
 import com.itextpdf.commons.actions.NamespaceConstant;
 import com.itextpdf.commons.actions.contexts.IMetaInfo;
+import com.itextpdf.kernel.pdf.PdfAConformance;
+import com.itextpdf.kernel.pdf.PdfDictionary;
+import com.itextpdf.kernel.pdf.PdfOutputIntent;
 import com.itextpdf.test.ExtendedITextTest;
 
 import org.junit.jupiter.api.Assertions;
@@ -71,6 +74,18 @@ public class ConverterPropertiesTest extends ExtendedITextTest {
         Assertions.assertEquals(20, propertiesCopied.getLimitOfLayouts());
     }
 
+    @Test
+    public void copyPdfAPropertiesTest() {
+        PdfOutputIntent outputIntent = new PdfOutputIntent(new PdfDictionary());
+        ConverterProperties properties = new ConverterProperties()
+                .setPdfAConformance(PdfAConformance.PDF_A_3B)
+                .setDocumentOutputIntent(outputIntent);
+        ConverterProperties propertiesCopied = new ConverterProperties(properties);
+
+        Assertions.assertEquals(PdfAConformance.PDF_A_3B, propertiesCopied.getPdfAConformance());
+        Assertions.assertSame(outputIntent, propertiesCopied.getDocumentOutputIntent());
+    }
+
     private static class TestMetaInfo implements IMetaInfo {
     }
 }
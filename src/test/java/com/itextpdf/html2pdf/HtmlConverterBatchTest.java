@@ -0,0 +1,154 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2025 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.html2pdf;
+
+import com.itextpdf.test.ExtendedITextTest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("IntegrationTest")
+public class HtmlConverterBatchTest extends ExtendedITextTest {
+
+    @Test
+    public void convertAllTest() throws InterruptedException {
+        List<ConversionJob> jobs = new ArrayList<>();
+        List<ByteArrayOutputStream> outputs = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            outputs.add(out);
+            jobs.add(new ConversionJob("<html><head><style>p { color: red; }</style></head>"
+                    + "<body><p>Document " + i + "</p></body></html>", out));
+        }
+        List<ConversionResult> results = HtmlConverter.convertAll(jobs,
+                new BatchConversionOptions().setThreadsCount(3).setMaxPendingJobs(4));
+
+        Assertions.assertEquals(jobs.size(), results.size());
+        for (int i = 0; i < results.size(); i++) {
+            Assertions.assertSame(jobs.get(i), results.get(i).getJob());
+            Assertions.assertTrue(results.get(i).isSuccessful());
+            Assertions.assertTrue(outputs.get(i).size() > 0);
+        }
+    }
+
+    @Test
+    public void failedJobDoesNotAffectOthersTest() throws InterruptedException {
+        List<ConversionJob> jobs = new ArrayList<>();
+        jobs.add(new ConversionJob("<p>First</p>", new ByteArrayOutputStream()));
+        jobs.add(new ConversionJob("<p>Failed</p>", new FailingOutputStream()));
+        jobs.add(new ConversionJob("<p>Last</p>", new ByteArrayOutputStream()));
+        List<ConversionResult> results = HtmlConverter.convertAll(jobs, new BatchConversionOptions().setThreadsCount(2));
+
+        Assertions.assertTrue(results.get(0).isSuccessful());
+        Assertions.assertFalse(results.get(1).isSuccessful());
+        Assertions.assertFalse(results.get(1).isTimedOut());
+        Assertions.assertNotNull(results.get(1).getError());
+        Assertions.assertTrue(results.get(2).isSuccessful());
+    }
+
+    @Test
+    public void timedOutJobTest() throws InterruptedException {
+        List<ConversionJob> jobs = new ArrayList<>();
+        jobs.add(new ConversionJob(new BlockingInputStream(), new ByteArrayOutputStream()));
+        jobs.add(new ConversionJob("<p>Converted</p>", new ByteArrayOutputStream()));
+        List<ConversionResult> results = HtmlConverter.convertAll(jobs,
+                new BatchConversionOptions().setThreadsCount(2).setJobTimeoutMillis(200));
+
+        Assertions.assertTrue(results.get(0).isTimedOut());
+        Assertions.assertFalse(results.get(0).isSuccessful());
+        Assertions.assertTrue(results.get(1).isSuccessful());
+    }
+
+    @Test
+    public void uninterruptibleTimedOutJobDoesNotBlockBatchTest() throws InterruptedException {
+        UninterruptibleInputStream input = new UninterruptibleInputStream();
+        List<ConversionJob> jobs = new ArrayList<>();
+        jobs.add(new ConversionJob(input, new ByteArrayOutputStream()));
+        jobs.add(new ConversionJob("<p>Converted</p>", new ByteArrayOutputStream()));
+        try {
+            List<ConversionResult> results = HtmlConverter.convertAll(jobs,
+                    new BatchConversionOptions().setThreadsCount(2).setJobTimeoutMillis(200));
+
+            Assertions.assertTrue(results.get(0).isTimedOut());
+            Assertions.assertTrue(results.get(1).isSuccessful());
+        } finally {
+            input.release();
+        }
+    }
+
+    @Test
+    public void invalidOptionsTest() {
+        BatchConversionOptions options = new BatchConversionOptions();
+        Assertions.assertThrows(IllegalArgumentException.class, () -> options.setThreadsCount(0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> options.setMaxPendingJobs(0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> options.setJobTimeoutMillis(-1));
+    }
+
+    private static class FailingOutputStream extends OutputStream {
+        @Override
+        public void write(int b) throws IOException {
+            throw new IOException("Output is not writable");
+        }
+    }
+
+    private static class UninterruptibleInputStream extends InputStream {
+        private final CountDownLatch released = new CountDownLatch(1);
+
+        @Override
+        public int read() {
+            while (true) {
+                try {
+                    released.await();
+                    return -1;
+                } catch (InterruptedException e) {
+                    // the interruption is ignored on purpose
+                }
+            }
+        }
+
+        void release() {
+            released.countDown();
+        }
+    }
+
+    private static class BlockingInputStream extends InputStream {
+        @Override
+        public int read() throws IOException {
+            try {
+                Thread.sleep(60000);
+            } catch (InterruptedException e) {
+                throw new InterruptedIOException();
+            }
+            return -1;
+        }
+    }
+}
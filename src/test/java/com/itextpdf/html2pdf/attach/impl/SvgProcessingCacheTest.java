@@ -0,0 +1,102 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2025 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.html2pdf.attach.impl;
+
+import com.itextpdf.html2pdf.HtmlConverter;
+import com.itextpdf.kernel.pdf.PdfDictionary;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfName;
+import com.itextpdf.kernel.pdf.PdfReader;
+import com.itextpdf.test.ExtendedITextTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+@Tag("IntegrationTest")
+public class SvgProcessingCacheTest extends ExtendedITextTest {
+
+    private static final String ICON = "<svg width='10' height='10'><circle cx='5' cy='5' r='4' fill='red'/></svg>";
+
+    private static final String ICON_DATA_URI = "data:image/svg+xml,<svg xmlns='http://www.w3.org/2000/svg' "
+            + "width='10' height='10'><rect width='10' height='10' fill='blue'/></svg>";
+
+    @Test
+    public void repeatedInlineSvgIsWrittenOnceTest() throws IOException {
+        String html = "<html><body><p>" + ICON + "</p><p>" + ICON + "</p><p>" + ICON + "</p></body></html>";
+        Assertions.assertEquals(1, countPageXObjects(html));
+    }
+
+    @Test
+    public void differentInlineSvgsAreNotSharedTest() throws IOException {
+        String html = "<html><body><p>" + ICON + "</p><p>" + ICON.replace("red", "green") + "</p></body></html>";
+        Assertions.assertEquals(2, countPageXObjects(html));
+    }
+
+    @Test
+    public void inlineSvgWithDifferentAncestorsIsNotSharedTest() throws IOException {
+        String html = "<html><head><style>.dark circle { fill: black; }</style></head><body><p>" + ICON
+                + "</p><p class='dark'>" + ICON + "</p></body></html>";
+        Assertions.assertEquals(2, countPageXObjects(html));
+    }
+
+    @Test
+    public void positionDependentStylesDisableInlineSvgCachingTest() throws IOException {
+        String html = "<html><head><style>p:first-child circle { fill: black; }</style></head><body><p>" + ICON
+                + "</p><p>" + ICON + "</p></body></html>";
+        Assertions.assertEquals(2, countPageXObjects(html));
+    }
+
+    @Test
+    public void siblingCombinatorDisablesInlineSvgCachingTest() throws IOException {
+        String html = "<html><head><style>p + p circle { fill: black; }</style></head><body><p>" + ICON
+                + "</p><p>" + ICON + "</p></body></html>";
+        Assertions.assertEquals(2, countPageXObjects(html));
+    }
+
+    @Test
+    public void selectorAttributeValueDoesNotDisableInlineSvgCachingTest() throws IOException {
+        String html = "<html><head><style>p[title='a:nth-child + b'] circle { fill: black; }</style></head><body><p>"
+                + ICON + "</p><p>" + ICON + "</p></body></html>";
+        Assertions.assertEquals(1, countPageXObjects(html));
+    }
+
+    @Test
+    public void repeatedSvgDataUriIsWrittenOnceTest() throws IOException {
+        String html = "<html><body><img src=\"" + ICON_DATA_URI + "\"/><img src=\"" + ICON_DATA_URI + "\"/>"
+                + "</body></html>";
+        Assertions.assertEquals(1, countPageXObjects(html));
+    }
+
+    private static int countPageXObjects(String html) throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        HtmlConverter.convertToPdf(html, baos);
+        try (PdfDocument pdfDocument = new PdfDocument(new PdfReader(new ByteArrayInputStream(baos.toByteArray())))) {
+            PdfDictionary xObjects = pdfDocument.getPage(1).getResources().getResource(PdfName.XObject);
+            return xObjects == null ? 0 : xObjects.size();
+        }
+    }
+}
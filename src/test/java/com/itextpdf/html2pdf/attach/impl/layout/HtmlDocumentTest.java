@@ -0,0 +1,71 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2025 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.html2pdf.attach.impl.layout;
+
+import com.itextpdf.io.source.ByteArrayOutputStream;
+import com.itextpdf.kernel.geom.PageSize;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfWriter;
+import com.itextpdf.layout.element.AreaBreak;
+import com.itextpdf.layout.element.Paragraph;
+import com.itextpdf.test.ExtendedITextTest;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("UnitTest")
+public class HtmlDocumentTest extends ExtendedITextTest {
+
+    @Test
+    public void addedElementsAreReleasedInImmediateFlushModeTest() {
+        PdfDocument pdfDocument = new PdfDocument(new PdfWriter(new ByteArrayOutputStream()));
+        ChildCountingHtmlDocument document = new ChildCountingHtmlDocument(pdfDocument, true);
+        document.add(new Paragraph("first"));
+        document.add(new AreaBreak());
+        document.add(new Paragraph("second"));
+        Assertions.assertEquals(0, document.getChildElementsCount());
+        document.close();
+        Assertions.assertEquals(2, pdfDocument.getNumberOfPages());
+    }
+
+    @Test
+    public void addedElementsAreKeptWithoutImmediateFlushTest() {
+        PdfDocument pdfDocument = new PdfDocument(new PdfWriter(new ByteArrayOutputStream()));
+        ChildCountingHtmlDocument document = new ChildCountingHtmlDocument(pdfDocument, false);
+        document.add(new Paragraph("first"));
+        document.add(new Paragraph("second"));
+        Assertions.assertEquals(2, document.getChildElementsCount());
+        document.close();
+    }
+
+    private static class ChildCountingHtmlDocument extends HtmlDocument {
+        ChildCountingHtmlDocument(PdfDocument pdfDocument, boolean immediateFlush) {
+            super(pdfDocument, PageSize.A4, immediateFlush);
+        }
+
+        int getChildElementsCount() {
+            return childElements.size();
+        }
+    }
+}
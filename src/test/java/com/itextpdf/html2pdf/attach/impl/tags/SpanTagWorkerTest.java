@@ -27,6 +27,7 @@ import com.itextpdf.html2pdf.attach.ProcessorContext;
 import com.itextpdf.html2pdf.html.AttributeConstants;
 import com.itextpdf.html2pdf.html.TagConstants;
 import com.itextpdf.layout.IPropertyContainer;
+import com.itextpdf.layout.element.Text;
 import com.itextpdf.layout.tagging.IAccessibleElement;
 import com.itextpdf.styledxmlparser.jsoup.nodes.Attributes;
 import com.itextpdf.styledxmlparser.jsoup.nodes.Element;
@@ -57,4 +58,36 @@ public class SpanTagWorkerTest extends ExtendedITextTest {
         String lang = ((IAccessibleElement) propertyContainer).getAccessibilityProperties().getLanguage();
         Assertions.assertEquals("en", lang);
     }
+
+    @Test
+    public void nestedSpansKeepOrderTest() {
+        JsoupElementNode outerNode = createSpanNode();
+        JsoupElementNode innerNode = createSpanNode();
+        ProcessorContext processorContext = new ProcessorContext(new ConverterProperties());
+
+        SpanTagWorker outerWorker = new SpanTagWorker(outerNode, processorContext);
+        processorContext.getState().push(outerWorker);
+        outerWorker.processContent("first", processorContext);
+        SpanTagWorker innerWorker = new SpanTagWorker(innerNode, processorContext);
+        processorContext.getState().push(innerWorker);
+        innerWorker.processContent("second", processorContext);
+        innerWorker.processEnd(innerNode, processorContext);
+        processorContext.getState().pop();
+        Assertions.assertTrue(outerWorker.processTagChild(innerWorker, processorContext));
+        outerWorker.processContent("third", processorContext);
+        outerWorker.processEnd(outerNode, processorContext);
+        processorContext.getState().pop();
+
+        Assertions.assertEquals(1, innerWorker.getAllElements().size());
+        Assertions.assertEquals("second", ((Text) innerWorker.getAllElements().get(0)).getText());
+        Assertions.assertEquals(3, outerWorker.getAllElements().size());
+        Assertions.assertEquals("first", ((Text) outerWorker.getAllElements().get(0)).getText());
+        Assertions.assertEquals("second", ((Text) outerWorker.getAllElements().get(1)).getText());
+        Assertions.assertEquals("third", ((Text) outerWorker.getAllElements().get(2)).getText());
+        Assertions.assertEquals(2, outerWorker.getOwnLeafElements().size());
+    }
+
+    private static JsoupElementNode createSpanNode() {
+        return new JsoupElementNode(new Element(Tag.valueOf(TagConstants.SPAN), TagConstants.SPAN, new Attributes()));
+    }
 }
@@ -0,0 +1,84 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2025 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.html2pdf.attach.util;
+
+import com.itextpdf.test.ExtendedITextTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("UnitTest")
+public class RowColHelperTest extends ExtendedITextTest {
+
+    @Test
+    public void rowspanOccupiesNextRowsTest() {
+        RowColHelper helper = new RowColHelper();
+        Assertions.assertEquals(0, helper.moveToNextEmptyCol());
+        helper.updateCurrentPosition(1, 3);
+        Assertions.assertEquals(1, helper.moveToNextEmptyCol());
+        helper.updateCurrentPosition(2, 1);
+
+        helper.newRow();
+        Assertions.assertEquals(1, helper.moveToNextEmptyCol());
+        helper.updateCurrentPosition(1, 1);
+        Assertions.assertEquals(2, helper.moveToNextEmptyCol());
+        helper.updateCurrentPosition(1, 1);
+
+        helper.newRow();
+        Assertions.assertEquals(1, helper.moveToNextEmptyCol());
+        helper.updateCurrentPosition(1, 1);
+
+        helper.newRow();
+        Assertions.assertEquals(0, helper.moveToNextEmptyCol());
+    }
+
+    @Test
+    public void wideTableGrowsBufferTest() {
+        RowColHelper helper = new RowColHelper();
+        for (int col = 0; col < 50; col++) {
+            Assertions.assertEquals(col, helper.moveToNextEmptyCol());
+            helper.updateCurrentPosition(1, col % 2 == 0 ? 2 : 1);
+        }
+        helper.newRow();
+        for (int col = 1; col < 50; col += 2) {
+            Assertions.assertEquals(col, helper.moveToNextEmptyCol());
+            helper.updateCurrentPosition(1, 1);
+        }
+        Assertions.assertEquals(50, helper.moveToNextEmptyCol());
+    }
+
+    @Test
+    public void positionWithoutMovingToEmptyColTest() {
+        RowColHelper helper = new RowColHelper();
+        helper.updateCurrentPosition(1, 1);
+        helper.newRow();
+        helper.updateCurrentPosition(1, 1);
+        helper.updateCurrentPosition(1, 1);
+        helper.updateCurrentPosition(1, 2);
+
+        helper.newRow();
+        Assertions.assertEquals(0, helper.moveToNextEmptyCol());
+        helper.updateCurrentPosition(2, 1);
+        Assertions.assertEquals(3, helper.moveToNextEmptyCol());
+    }
+}
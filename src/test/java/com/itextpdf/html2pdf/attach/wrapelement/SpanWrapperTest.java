@@ -0,0 +1,100 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2025 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.html2pdf.attach.wrapelement;
+
+import com.itextpdf.layout.IPropertyContainer;
+import com.itextpdf.layout.element.Div;
+import com.itextpdf.layout.element.IElement;
+import com.itextpdf.layout.element.Text;
+import com.itextpdf.test.ExtendedITextTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+@Tag("UnitTest")
+public class SpanWrapperTest extends ExtendedITextTest {
+
+    @Test
+    public void nestedSpansShareElementsTest() {
+        Text first = new Text("first");
+        Text second = new Text("second");
+        Text third = new Text("third");
+        SpanWrapper outer = new SpanWrapper();
+        outer.add(first);
+        SpanWrapper inner = new SpanWrapper(outer);
+        inner.add(second);
+        outer.add(inner);
+        outer.add(third);
+
+        Assertions.assertEquals(Collections.<IPropertyContainer>singletonList(second), inner.getElements());
+        Assertions.assertEquals(Arrays.<IPropertyContainer>asList(first, second, third), outer.getElements());
+    }
+
+    @Test
+    public void nestedSpanNotAddedTest() {
+        Text first = new Text("first");
+        Text second = new Text("second");
+        Text third = new Text("third");
+        SpanWrapper outer = new SpanWrapper();
+        outer.add(first);
+        SpanWrapper inner = new SpanWrapper(outer);
+        inner.add(second);
+        outer.add(third);
+        inner.add(first);
+
+        Assertions.assertEquals(Arrays.<IPropertyContainer>asList(second, first), inner.getElements());
+        Assertions.assertEquals(Arrays.<IPropertyContainer>asList(first, third), outer.getElements());
+    }
+
+    @Test
+    public void independentSpanCopiedTest() {
+        Text first = new Text("first");
+        Text second = new Text("second");
+        SpanWrapper outer = new SpanWrapper();
+        SpanWrapper independent = new SpanWrapper();
+        independent.addAll(Collections.<IElement>singletonList(second));
+        outer.add(first);
+        outer.add(independent);
+
+        Assertions.assertEquals(Arrays.<IPropertyContainer>asList(first, second), outer.getElements());
+    }
+
+    @Test
+    public void replacedElementVisibleInEnclosingSpanTest() {
+        Div block = new Div();
+        Div replacement = new Div();
+        SpanWrapper outer = new SpanWrapper();
+        SpanWrapper inner = new SpanWrapper(outer);
+        inner.add(block);
+        inner.getElements().set(0, replacement);
+        outer.add(inner);
+
+        List<IPropertyContainer> elements = outer.getElements();
+        Assertions.assertEquals(1, elements.size());
+        Assertions.assertSame(replacement, elements.get(0));
+    }
+}
@@ -0,0 +1,100 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2025 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.html2pdf.attach.wrapelement;
+
+import com.itextpdf.html2pdf.attach.util.WaitingColgroupsHelper;
+import com.itextpdf.layout.element.Cell;
+import com.itextpdf.layout.element.Table;
+import com.itextpdf.test.ExtendedITextTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("UnitTest")
+public class TableWrapperTest extends ExtendedITextTest {
+
+    @Test
+    public void rowspanCellsTest() {
+        TableWrapper wrapper = new TableWrapper();
+        Cell spanning = new Cell(2, 1);
+        Cell first = new Cell();
+        Cell second = new Cell();
+        wrapper.newRow();
+        wrapper.addCell(spanning);
+        wrapper.addCell(first);
+        wrapper.newRow();
+        wrapper.addCell(second);
+
+        Table table = wrapper.toTable(new WaitingColgroupsHelper(null));
+
+        Assertions.assertEquals(2, wrapper.getRowsSize());
+        Assertions.assertEquals(2, table.getNumberOfColumns());
+        Assertions.assertSame(spanning, table.getCell(0, 0));
+        Assertions.assertSame(first, table.getCell(0, 1));
+        Assertions.assertSame(second, table.getCell(1, 1));
+    }
+
+    @Test
+    public void rtlRowsAreReversedTest() {
+        TableWrapper wrapper = new TableWrapper(true);
+        Cell[] cells = new Cell[6];
+        for (int i = 0; i < cells.length; i++) {
+            if (i % 3 == 0) {
+                wrapper.newRow();
+            }
+            cells[i] = new Cell();
+            wrapper.addCell(cells[i]);
+        }
+        Cell header = new Cell();
+        wrapper.addHeaderCell(header);
+
+        Table table = wrapper.toTable(new WaitingColgroupsHelper(null));
+
+        Assertions.assertEquals(3, table.getNumberOfColumns());
+        for (int i = 0; i < cells.length; i++) {
+            Assertions.assertSame(cells[i], table.getCell(i / 3, 2 - i % 3));
+        }
+        Assertions.assertSame(header, table.getHeader().getCell(0, 0));
+    }
+
+    @Test
+    public void flushedRowsAreReleasedTest() {
+        TableWrapper wrapper = new TableWrapper();
+        for (int i = 0; i < 40; i++) {
+            wrapper.newRow();
+            wrapper.addCell(new Cell());
+            wrapper.addCell(new Cell());
+        }
+        Table table = wrapper.toLargeTable(new WaitingColgroupsHelper(null));
+        // The rows are kept until the large table is accepted
+        Assertions.assertEquals(40, wrapper.getRowsSize());
+        wrapper.clearRows();
+        Assertions.assertEquals(0, wrapper.getRowsSize());
+
+        wrapper.addCell(new Cell());
+        Assertions.assertEquals(1, wrapper.getRowsSize());
+        wrapper.flushRows(table);
+        Assertions.assertEquals(0, wrapper.getRowsSize());
+        Assertions.assertEquals(2, table.getNumberOfColumns());
+    }
+}
@@ -0,0 +1,163 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2025 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.html2pdf.css;
+
+import com.itextpdf.html2pdf.ConverterProperties;
+import com.itextpdf.html2pdf.HtmlConverter;
+import com.itextpdf.html2pdf.logs.Html2PdfLogMessageConstant;
+import com.itextpdf.html2pdf.metrics.ConversionMetrics;
+import com.itextpdf.html2pdf.metrics.ConversionPhase;
+import com.itextpdf.html2pdf.metrics.IConversionMetricsListener;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfName;
+import com.itextpdf.kernel.pdf.PdfObject;
+import com.itextpdf.kernel.pdf.PdfResources;
+import com.itextpdf.kernel.pdf.PdfReader;
+import com.itextpdf.kernel.pdf.canvas.parser.PdfTextExtractor;
+import com.itextpdf.test.ExtendedITextTest;
+import com.itextpdf.test.annotations.LogMessage;
+import com.itextpdf.test.annotations.LogMessages;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
+
+@Tag("IntegrationTest")
+public class ReservedPageCountDigitsTest extends ExtendedITextTest {
+
+    private static final String PAGE_RULE = "@page { @bottom-right { content: 'Page ' counter(page) ' of ' "
+            + "counter(pages); } }";
+
+    @Test
+    public void pageCountIsDrawnWithoutRelayoutTest() throws IOException {
+        String html = createHtml(PAGE_RULE, 3);
+        RelayoutCountingListener listener = new RelayoutCountingListener();
+        byte[] deferred = convert(html, new ConverterProperties().setReservedPageCountDigits(2)
+                .setConversionMetricsListener(listener));
+
+        Assertions.assertEquals(0, listener.relayoutCount);
+        assertPageFooters(deferred, 3, 3);
+        assertSamePagesText(convert(html, new ConverterProperties()), deferred);
+    }
+
+    @Test
+    public void pageCountIsAlignedInReservedSpaceTest() throws IOException {
+        String html = createHtml("@page { @bottom-center { text-align: right; content: counter(pages) ' total'; } }",
+                2);
+        byte[] deferred = convert(html, new ConverterProperties().setReservedPageCountDigits(3));
+
+        assertSamePagesText(convert(html, new ConverterProperties()), deferred);
+    }
+
+    @Test
+    public void pageCountFormIsSharedBetweenPagesTest() throws IOException {
+        byte[] deferred = convert(createHtml(PAGE_RULE, 5), new ConverterProperties().setReservedPageCountDigits(2));
+
+        assertPageFooters(deferred, 5, 5);
+        try (PdfDocument pdfDocument = new PdfDocument(new PdfReader(new ByteArrayInputStream(deferred)))) {
+            Set<PdfObject> forms = new HashSet<>();
+            for (int i = 1; i <= pdfDocument.getNumberOfPages(); ++i) {
+                PdfResources resources = pdfDocument.getPage(i).getResources();
+                for (PdfName name : resources.getResourceNames(PdfName.XObject)) {
+                    forms.add(resources.getResourceObject(PdfName.XObject, name));
+                }
+            }
+            Assertions.assertEquals(1, forms.size());
+        }
+    }
+
+    @Test
+    public void pageTargetCounterIsRelaidOutTest() throws IOException {
+        String html = createHtml(PAGE_RULE + " a::after { content: target-counter(attr(href), page); }", 2)
+                .replace("<body>", "<body><a href='#last'>Last page: </a>")
+                .replace("</body>", "<p id='last'>Last</p></body>");
+        RelayoutCountingListener listener = new RelayoutCountingListener();
+        byte[] result = convert(html, new ConverterProperties().setReservedPageCountDigits(2)
+                .setConversionMetricsListener(listener));
+
+        Assertions.assertTrue(listener.relayoutCount > 0);
+        assertSamePagesText(convert(html, new ConverterProperties()), result);
+    }
+
+    @Test
+    @LogMessages(messages = @LogMessage(messageTemplate = Html2PdfLogMessageConstant.PAGE_COUNT_EXCEEDS_RESERVED_DIGITS))
+    public void pageCountExceedsReservedDigitsTest() throws IOException {
+        byte[] result = convert(createHtml(PAGE_RULE, 11), new ConverterProperties().setReservedPageCountDigits(1));
+
+        assertPageFooters(result, 11, 11);
+    }
+
+    private static String createHtml(String css, int numberOfPages) {
+        StringBuilder html = new StringBuilder("<html><head><style>").append(css).append("</style></head><body>");
+        for (int i = 1; i < numberOfPages; ++i) {
+            html.append("<p style='page-break-after: always'>Page content ").append(i).append("</p>");
+        }
+        return html.append("<p>Page content ").append(numberOfPages).append("</p></body></html>").toString();
+    }
+
+    private static byte[] convert(String html, ConverterProperties properties) {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        HtmlConverter.convertToPdf(html, baos, properties);
+        return baos.toByteArray();
+    }
+
+    private static void assertPageFooters(byte[] pdf, int expectedNumberOfPages, int expectedPageCount)
+            throws IOException {
+        try (PdfDocument pdfDocument = new PdfDocument(new PdfReader(new ByteArrayInputStream(pdf)))) {
+            Assertions.assertEquals(expectedNumberOfPages, pdfDocument.getNumberOfPages());
+            for (int i = 1; i <= expectedNumberOfPages; ++i) {
+                String text = PdfTextExtractor.getTextFromPage(pdfDocument.getPage(i));
+                Assertions.assertTrue(text.contains("Page " + i + " of " + expectedPageCount), text);
+            }
+        }
+    }
+
+    private static void assertSamePagesText(byte[] expected, byte[] actual) throws IOException {
+        try (PdfDocument expectedDocument = new PdfDocument(new PdfReader(new ByteArrayInputStream(expected)));
+                PdfDocument actualDocument = new PdfDocument(new PdfReader(new ByteArrayInputStream(actual)))) {
+            Assertions.assertEquals(expectedDocument.getNumberOfPages(), actualDocument.getNumberOfPages());
+            for (int i = 1; i <= expectedDocument.getNumberOfPages(); ++i) {
+                Assertions.assertEquals(PdfTextExtractor.getTextFromPage(expectedDocument.getPage(i)),
+                        PdfTextExtractor.getTextFromPage(actualDocument.getPage(i)), "page " + i);
+            }
+        }
+    }
+
+    private static class RelayoutCountingListener implements IConversionMetricsListener {
+        private int relayoutCount = -1;
+
+        @Override
+        public void onPhaseFinished(ConversionPhase phase, long durationNanos, long allocatedBytes) {
+        }
+
+        @Override
+        public void onConversionFinished(ConversionMetrics metrics) {
+            relayoutCount = metrics.getRelayoutCount();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2025 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.html2pdf.css;
+
+import com.itextpdf.html2pdf.ConverterProperties;
+import com.itextpdf.html2pdf.HtmlConverter;
+import com.itextpdf.kernel.pdf.PdfDictionary;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfName;
+import com.itextpdf.kernel.pdf.PdfReader;
+import com.itextpdf.kernel.pdf.canvas.parser.PdfTextExtractor;
+import com.itextpdf.test.ExtendedITextTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
+
+@Tag("IntegrationTest")
+public class StaticMarginBoxesTest extends ExtendedITextTest {
+
+    private static final String BODY = "<p style='page-break-after: always'>First</p>"
+            + "<p style='page-break-after: always'>Second</p><p>Third</p>";
+
+    @Test
+    public void staticMarginBoxesAreSharedBetweenPagesTest() throws IOException {
+        byte[] pdf = convert("@page { @top-center { content: 'Header'; } @bottom-left { content: 'Footer'; } }");
+
+        try (PdfDocument pdfDocument = new PdfDocument(new PdfReader(new ByteArrayInputStream(pdf)))) {
+            Assertions.assertEquals(3, pdfDocument.getNumberOfPages());
+            Set<Integer> xObjects = new HashSet<>();
+            for (int i = 1; i <= pdfDocument.getNumberOfPages(); ++i) {
+                String text = PdfTextExtractor.getTextFromPage(pdfDocument.getPage(i));
+                Assertions.assertTrue(text.contains("Header"), text);
+                Assertions.assertTrue(text.contains("Footer"), text);
+                xObjects.addAll(getXObjectNumbers(pdfDocument, i));
+            }
+            Assertions.assertEquals(1, xObjects.size());
+        }
+    }
+
+    @Test
+    public void pageCounterMarginBoxesAreDrawnOnEachPageTest() throws IOException {
+        byte[] pdf = convert("@page { @bottom-right { content: 'Page ' counter(page); } }");
+
+        try (PdfDocument pdfDocument = new PdfDocument(new PdfReader(new ByteArrayInputStream(pdf)))) {
+            for (int i = 1; i <= pdfDocument.getNumberOfPages(); ++i) {
+                String text = PdfTextExtractor.getTextFromPage(pdfDocument.getPage(i));
+                Assertions.assertTrue(text.contains("Page " + i), text);
+                Assertions.assertTrue(getXObjectNumbers(pdfDocument, i).isEmpty());
+            }
+        }
+    }
+
+    private static byte[] convert(String css) {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        HtmlConverter.convertToPdf("<html><head><style>" + css + "</style></head><body>" + BODY + "</body></html>",
+                baos, new ConverterProperties());
+        return baos.toByteArray();
+    }
+
+    private static Set<Integer> getXObjectNumbers(PdfDocument pdfDocument, int pageNumber) {
+        Set<Integer> numbers = new HashSet<>();
+        PdfDictionary xObjects = pdfDocument.getPage(pageNumber).getResources().getResource(PdfName.XObject);
+        if (xObjects != null) {
+            for (PdfName name : xObjects.keySet()) {
+                numbers.add(xObjects.getAsStream(name).getIndirectReference().getObjNumber());
+            }
+        }
+        return numbers;
+    }
+}
@@ -0,0 +1,71 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2025 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.html2pdf.css.apply.impl;
+
+import com.itextpdf.html2pdf.HtmlConverter;
+import com.itextpdf.kernel.colors.ColorConstants;
+import com.itextpdf.layout.element.IElement;
+import com.itextpdf.layout.element.Paragraph;
+import com.itextpdf.layout.element.Text;
+import com.itextpdf.layout.properties.Background;
+import com.itextpdf.layout.properties.Property;
+import com.itextpdf.layout.properties.TransparentColor;
+import com.itextpdf.layout.properties.UnitValue;
+import com.itextpdf.test.ExtendedITextTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+@Tag("IntegrationTest")
+public class SpanTagCssApplierTest extends ExtendedITextTest {
+
+    @Test
+    public void textChunksShareSpanStylesTest() {
+        List<IElement> elements = HtmlConverter.convertToElements("<p><span style='color: red; font-size: 20px; "
+                + "background-color: yellow'>first<b>second</b>third</span></p>");
+        List<IElement> children = ((Paragraph) elements.get(0)).getChildren();
+        Assertions.assertEquals(3, children.size());
+        Text first = (Text) children.get(0);
+        Text second = (Text) children.get(1);
+        Text third = (Text) children.get(2);
+
+        Assertions.assertEquals("first", first.getText());
+        Assertions.assertEquals("third", third.getText());
+        Assertions.assertSame(first.<TransparentColor>getOwnProperty(Property.FONT_COLOR),
+                third.<TransparentColor>getOwnProperty(Property.FONT_COLOR));
+        Assertions.assertSame(first.<UnitValue>getOwnProperty(Property.FONT_SIZE),
+                third.<UnitValue>getOwnProperty(Property.FONT_SIZE));
+        Assertions.assertEquals(ColorConstants.RED,
+                first.<TransparentColor>getOwnProperty(Property.FONT_COLOR).getColor());
+        Assertions.assertEquals(UnitValue.createPointValue(15), first.<UnitValue>getOwnProperty(Property.FONT_SIZE));
+
+        // The nested element gets the background of the span, but keeps its own font properties
+        Assertions.assertEquals(ColorConstants.YELLOW,
+                second.<Background>getOwnProperty(Property.BACKGROUND).getColor());
+        Assertions.assertEquals(ColorConstants.YELLOW,
+                first.<Background>getOwnProperty(Property.BACKGROUND).getColor());
+        Assertions.assertNotNull(second.<Object>getOwnProperty(Property.FONT));
+    }
+}
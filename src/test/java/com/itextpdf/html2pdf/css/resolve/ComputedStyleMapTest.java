@@ -0,0 +1,118 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2025 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.html2pdf.css.resolve;
+
+import com.itextpdf.test.ExtendedITextTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+@Tag("UnitTest")
+public class ComputedStyleMapTest extends ExtendedITextTest {
+
+    @Test
+    public void lookupTest() {
+        Map<String, String> styles = createStyles();
+        ComputedStyleMap computedStyles = new ComputedStyleMap(new ComputedStyle(styles));
+
+        Assertions.assertEquals(styles, computedStyles);
+        Assertions.assertEquals(computedStyles, styles);
+        Assertions.assertEquals(styles.hashCode(), computedStyles.hashCode());
+        Assertions.assertEquals("red", computedStyles.get("color"));
+        Assertions.assertTrue(computedStyles.containsKey("display"));
+        Assertions.assertFalse(computedStyles.containsKey("width"));
+        Assertions.assertNull(computedStyles.get("width"));
+        Assertions.assertEquals(4, computedStyles.size());
+        Assertions.assertEquals(12f, ComputedStyleMap.getAbsoluteLength(computedStyles, "font-size"), 1e-6f);
+        Assertions.assertEquals(7.5f, ComputedStyleMap.getAbsoluteLength(computedStyles, "margin-top"), 1e-6f);
+    }
+
+    @Test
+    public void copyOnWriteTest() {
+        ComputedStyle style = new ComputedStyle(createStyles());
+        ComputedStyleMap first = new ComputedStyleMap(style);
+        ComputedStyleMap second = new ComputedStyleMap(style);
+
+        Assertions.assertEquals("block", first.put("display", "inline"));
+        Assertions.assertEquals("12pt", first.remove("font-size"));
+
+        Assertions.assertEquals("inline", first.get("display"));
+        Assertions.assertEquals(3, first.size());
+        Assertions.assertEquals(7.5f, ComputedStyleMap.getAbsoluteLength(first, "margin-top"), 1e-6f);
+        Assertions.assertEquals("block", second.get("display"));
+        Assertions.assertEquals("12pt", second.get("font-size"));
+        Assertions.assertNotEquals(first, second);
+    }
+
+    @Test
+    public void modificationThroughEntriesTest() {
+        ComputedStyle style = new ComputedStyle(createStyles());
+        ComputedStyleMap computedStyles = new ComputedStyleMap(style);
+        Map<String, String> expectedStyles = createStyles();
+
+        Iterator<Map.Entry<String, String>> iterator = computedStyles.entrySet().iterator();
+        int iteratedEntries = 0;
+        while (iterator.hasNext()) {
+            Map.Entry<String, String> entry = iterator.next();
+            ++iteratedEntries;
+            if ("font-size".equals(entry.getKey())) {
+                iterator.remove();
+                expectedStyles.remove("font-size");
+            } else if ("color".equals(entry.getKey())) {
+                Assertions.assertEquals("red", entry.setValue("blue"));
+                expectedStyles.put("color", "blue");
+            }
+        }
+
+        Assertions.assertEquals(4, iteratedEntries);
+        Assertions.assertEquals(expectedStyles, computedStyles);
+        Assertions.assertEquals(3, computedStyles.entrySet().size());
+        Assertions.assertTrue(computedStyles.keySet().remove("display"));
+        Assertions.assertFalse(computedStyles.containsKey("display"));
+        Assertions.assertEquals("red", new ComputedStyleMap(style).get("color"));
+        Assertions.assertEquals(4, new ComputedStyleMap(style).size());
+    }
+
+    @Test
+    public void equalStylesTest() {
+        ComputedStyle style = new ComputedStyle(createStyles());
+        ComputedStyle equalStyle = new ComputedStyle(new HashMap<>(createStyles()));
+
+        Assertions.assertEquals(style, equalStyle);
+        Assertions.assertEquals(style.hashCode(), equalStyle.hashCode());
+        Assertions.assertEquals(new ComputedStyleMap(style), new ComputedStyleMap(equalStyle));
+    }
+
+    private static Map<String, String> createStyles() {
+        Map<String, String> styles = new HashMap<>();
+        styles.put("color", "red");
+        styles.put("display", "block");
+        styles.put("font-size", "12pt");
+        styles.put("margin-top", "10px");
+        return styles;
+    }
+}
@@ -0,0 +1,120 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2025 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.html2pdf.css.resolve;
+
+import com.itextpdf.styledxmlparser.IXmlParser;
+import com.itextpdf.styledxmlparser.css.CssRuleSet;
+import com.itextpdf.styledxmlparser.css.CssStyleSheet;
+import com.itextpdf.styledxmlparser.css.media.MediaDeviceDescription;
+import com.itextpdf.styledxmlparser.css.media.MediaType;
+import com.itextpdf.styledxmlparser.css.parse.CssStyleSheetParser;
+import com.itextpdf.styledxmlparser.css.pseudo.CssPseudoElementNode;
+import com.itextpdf.styledxmlparser.node.IDocumentNode;
+import com.itextpdf.styledxmlparser.node.IElementNode;
+import com.itextpdf.styledxmlparser.node.INode;
+import com.itextpdf.styledxmlparser.node.impl.jsoup.JsoupHtmlParser;
+import com.itextpdf.test.ExtendedITextTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+@Tag("UnitTest")
+public class CssRuleSetIndexTest extends ExtendedITextTest {
+
+    private static final String HTML = "<html><head></head><body>"
+            + "<div id='main' class='a b'><p class='b'>text <span class='c'>span</span></p>"
+            + "<p id='second'>text</p><table><tr><td class='a'>cell</td></tr></table></div>"
+            + "<ul class='list'><li>one</li><li class='b c'>two</li></ul></body></html>";
+
+    private static final String CSS = "* { color: black; } p { color: red; } .b { color: green; }"
+            + "div p { font-size: 12pt; } #main .b { color: blue; } p.b { color: yellow; }"
+            + "td.a, li { color: orange; } .a > p { margin: 0; } [class] { padding: 1pt; }"
+            + "li:first-child { color: gray; } p::before { content: 'x'; } DIV { border: 1px solid; }"
+            + "@media print { .c { color: navy; } @media (min-width: 1px) { span { color: lime; } } }"
+            + "@media screen { p { color: purple; } }"
+            + "#second { color: white; } .list li { color: pink; } p { color: maroon; }";
+
+    @Test
+    public void indexMatchesStyleSheetForPrintTest() {
+        assertIndexMatchesStyleSheet(new MediaDeviceDescription(MediaType.PRINT));
+    }
+
+    @Test
+    public void indexMatchesStyleSheetForScreenTest() {
+        assertIndexMatchesStyleSheet(new MediaDeviceDescription(MediaType.SCREEN));
+    }
+
+    @Test
+    public void pseudoElementMatchesStyleSheetTest() {
+        IXmlParser parser = new JsoupHtmlParser();
+        IDocumentNode document = parser.parse(HTML);
+        CssStyleSheet styleSheet = CssStyleSheetParser.parse(CSS);
+        MediaDeviceDescription deviceDescription = new MediaDeviceDescription(MediaType.PRINT);
+        CssRuleSetIndex index = new CssRuleSetIndex(styleSheet, deviceDescription);
+
+        IElementNode paragraph = findElement(document, "p");
+        Assertions.assertNotNull(paragraph);
+        CssPseudoElementNode before = new CssPseudoElementNode(paragraph, "before");
+        List<CssRuleSet> expected = styleSheet.getCssRuleSets(before, deviceDescription);
+        Assertions.assertFalse(expected.isEmpty());
+        Assertions.assertEquals(expected, index.getCssRuleSets(before));
+    }
+
+    private static void assertIndexMatchesStyleSheet(MediaDeviceDescription deviceDescription) {
+        IXmlParser parser = new JsoupHtmlParser();
+        IDocumentNode document = parser.parse(HTML);
+        CssStyleSheet styleSheet = CssStyleSheetParser.parse(CSS);
+        CssRuleSetIndex index = new CssRuleSetIndex(styleSheet, deviceDescription);
+        assertIndexMatchesStyleSheet(document, styleSheet, index, deviceDescription);
+    }
+
+    private static void assertIndexMatchesStyleSheet(INode node, CssStyleSheet styleSheet, CssRuleSetIndex index,
+            MediaDeviceDescription deviceDescription) {
+        if (node instanceof IElementNode) {
+            List<CssRuleSet> expected = styleSheet.getCssRuleSets(node, deviceDescription);
+            List<CssRuleSet> actual = index.getCssRuleSets(node);
+            Assertions.assertEquals(expected.size(), actual.size(), ((IElementNode) node).name());
+            for (int i = 0; i < expected.size(); i++) {
+                Assertions.assertSame(expected.get(i), actual.get(i), ((IElementNode) node).name());
+            }
+        }
+        for (INode child : node.childNodes()) {
+            assertIndexMatchesStyleSheet(child, styleSheet, index, deviceDescription);
+        }
+    }
+
+    private static IElementNode findElement(INode node, String name) {
+        if (node instanceof IElementNode && name.equals(((IElementNode) node).name())) {
+            return (IElementNode) node;
+        }
+        for (INode child : node.childNodes()) {
+            IElementNode result = findElement(child, name);
+            if (result != null) {
+                return result;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,146 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2025 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.html2pdf.css.resolve;
+
+import com.itextpdf.styledxmlparser.css.media.MediaDeviceDescription;
+import com.itextpdf.styledxmlparser.node.IDocumentNode;
+import com.itextpdf.styledxmlparser.node.IElementNode;
+import com.itextpdf.styledxmlparser.node.INode;
+import com.itextpdf.styledxmlparser.node.impl.jsoup.JsoupHtmlParser;
+import com.itextpdf.styledxmlparser.resolver.resource.ResourceResolver;
+import com.itextpdf.test.ExtendedITextTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@Tag("UnitTest")
+public class DefaultCssResolverTest extends ExtendedITextTest {
+
+    private static final String HTML = "<html><head><style>"
+            + "body { font-size: 10pt; counter-reset: chapter; } h1 { counter-increment: chapter; font-size: 2em; }"
+            + "a::after { content: target-counter(attr(href), chapter); } .toc { color: red; }"
+            + "</style></head><body><div class='toc'><a href='#one'>One</a><a href='#two'>Two</a></div>"
+            + "<h1 id='one'>One</h1><p style='margin: 1em'>Text</p><h1 id='two'>Two</h1></body></html>";
+
+    @Test
+    public void stylesResolvedAfterCountersPreprocessingTest() {
+        IDocumentNode expectedDocument = new JsoupHtmlParser().parse(HTML);
+        DefaultCssResolver expectedResolver = createResolver(expectedDocument);
+        resolveStyles(expectedDocument, expectedResolver, new CssContext());
+
+        IDocumentNode actualDocument = new JsoupHtmlParser().parse(HTML);
+        DefaultCssResolver actualResolver = createResolver(actualDocument);
+        CssContext context = new CssContext();
+        for (IElementNode element : collectElements(actualDocument, new ArrayList<IElementNode>())) {
+            actualResolver.resolveContentAndCountersStyles(element, context);
+        }
+        context.getCounterManager().clearManager();
+        resolveStyles(actualDocument, actualResolver, context);
+
+        List<IElementNode> expectedElements = collectElements(expectedDocument, new ArrayList<IElementNode>());
+        List<IElementNode> actualElements = collectElements(actualDocument, new ArrayList<IElementNode>());
+        Assertions.assertEquals(expectedElements.size(), actualElements.size());
+        for (int i = 0; i < expectedElements.size(); ++i) {
+            Assertions.assertEquals(expectedElements.get(i).getStyles(), actualElements.get(i).getStyles(),
+                    expectedElements.get(i).name());
+        }
+    }
+
+    @Test
+    public void stylesResolvedAfterMatchedRuleSetsClearedTest() {
+        IDocumentNode expectedDocument = new JsoupHtmlParser().parse(HTML);
+        resolveStyles(expectedDocument, createResolver(expectedDocument), new CssContext());
+
+        IDocumentNode actualDocument = new JsoupHtmlParser().parse(HTML);
+        DefaultCssResolver actualResolver = createResolver(actualDocument);
+        CssContext context = new CssContext();
+        for (IElementNode element : collectElements(actualDocument, new ArrayList<IElementNode>())) {
+            actualResolver.resolveContentAndCountersStyles(element, context);
+        }
+        context.getCounterManager().clearManager();
+        actualResolver.clearMatchedRuleSets();
+        resolveStyles(actualDocument, actualResolver, context);
+
+        List<IElementNode> expectedElements = collectElements(expectedDocument, new ArrayList<IElementNode>());
+        List<IElementNode> actualElements = collectElements(actualDocument, new ArrayList<IElementNode>());
+        for (int i = 0; i < expectedElements.size(); ++i) {
+            Assertions.assertEquals(expectedElements.get(i).getStyles(), actualElements.get(i).getStyles(),
+                    expectedElements.get(i).name());
+        }
+    }
+
+    @Test
+    public void siblingsShareComputedStylesTest() {
+        IDocumentNode document = new JsoupHtmlParser().parse("<html><head><style>"
+                + "li { color: green; } li:first-child { color: red; } .big { font-size: 2em; }"
+                + "</style></head><body><ul><li>1</li><li>2</li><li>3</li><li class='big'>4</li>"
+                + "<li style='color: blue'>5</li><li><ul><li>6</li></ul></li></ul></body></html>");
+        resolveStyles(document, createResolver(document), new CssContext());
+
+        List<IElementNode> items = new ArrayList<>();
+        for (IElementNode element : collectElements(document, new ArrayList<IElementNode>())) {
+            if ("li".equals(element.name())) {
+                items.add(element);
+            }
+        }
+        Assertions.assertEquals("red", items.get(0).getStyles().get("color"));
+        Assertions.assertEquals("green", items.get(1).getStyles().get("color"));
+        Assertions.assertEquals(items.get(1).getStyles(), items.get(2).getStyles());
+        Assertions.assertNotSame(items.get(1).getStyles(), items.get(2).getStyles());
+        Assertions.assertEquals("24pt", items.get(3).getStyles().get("font-size"));
+        Assertions.assertEquals("blue", items.get(4).getStyles().get("color"));
+        Assertions.assertEquals("circle", items.get(6).getStyles().get("list-style-type"));
+        Assertions.assertEquals("disc", items.get(5).getStyles().get("list-style-type"));
+
+        items.get(2).getStyles().put("color", "black");
+        Assertions.assertEquals("green", items.get(1).getStyles().get("color"));
+    }
+
+    private static DefaultCssResolver createResolver(IDocumentNode document) {
+        return new DefaultCssResolver(document, MediaDeviceDescription.createDefault(), new ResourceResolver(""));
+    }
+
+    private static void resolveStyles(INode node, DefaultCssResolver resolver, CssContext context) {
+        if (node instanceof IElementNode) {
+            Map<String, String> styles = resolver.resolveStyles(node, context);
+            ((IElementNode) node).setStyles(styles);
+        }
+        for (INode child : node.childNodes()) {
+            resolveStyles(child, resolver, context);
+        }
+    }
+
+    private static List<IElementNode> collectElements(INode node, List<IElementNode> elements) {
+        if (node instanceof IElementNode) {
+            elements.add((IElementNode) node);
+        }
+        for (INode child : node.childNodes()) {
+            collectElements(child, elements);
+        }
+        return elements;
+    }
+}
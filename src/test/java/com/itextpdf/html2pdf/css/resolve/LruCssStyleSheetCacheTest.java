@@ -0,0 +1,96 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2025 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.html2pdf.css.resolve;
+
+import com.itextpdf.html2pdf.ConverterProperties;
+import com.itextpdf.html2pdf.HtmlConverter;
+import com.itextpdf.layout.element.IElement;
+import com.itextpdf.styledxmlparser.css.CssStyleSheet;
+import com.itextpdf.test.ExtendedITextTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+@Tag("UnitTest")
+public class LruCssStyleSheetCacheTest extends ExtendedITextTest {
+
+    @Test
+    public void hitAndMissCountTest() {
+        LruCssStyleSheetCache cache = new LruCssStyleSheetCache();
+        CssStyleSheet styleSheet = new CssStyleSheet();
+        Assertions.assertNull(cache.get("file:///a.css", "hash"));
+        cache.put("file:///a.css", "hash", styleSheet);
+        Assertions.assertSame(styleSheet, cache.get("file:///a.css", "hash"));
+        Assertions.assertNull(cache.get("file:///a.css", "otherHash"));
+        Assertions.assertNull(cache.get("file:///b.css", "hash"));
+        Assertions.assertEquals(1, cache.getHitCount());
+        Assertions.assertEquals(3, cache.getMissCount());
+    }
+
+    @Test
+    public void leastRecentlyUsedIsEvictedTest() {
+        LruCssStyleSheetCache cache = new LruCssStyleSheetCache(2);
+        CssStyleSheet first = new CssStyleSheet();
+        CssStyleSheet second = new CssStyleSheet();
+        cache.put("first", "hash", first);
+        cache.put("second", "hash", second);
+        Assertions.assertSame(first, cache.get("first", "hash"));
+        cache.put("third", "hash", new CssStyleSheet());
+        Assertions.assertEquals(2, cache.size());
+        Assertions.assertEquals(1, cache.getEvictionCount());
+        Assertions.assertSame(first, cache.get("first", "hash"));
+        Assertions.assertNull(cache.get("second", "hash"));
+    }
+
+    @Test
+    public void nonPositiveMaxEntriesTest() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new LruCssStyleSheetCache(0));
+    }
+
+    @Test
+    public void styleBlockIsParsedOnceAcrossConversionsTest() {
+        LruCssStyleSheetCache cache = new LruCssStyleSheetCache();
+        ConverterProperties properties = new ConverterProperties().setCssStyleSheetCache(cache);
+        String html = "<html><head><style>p { color: red; }</style></head><body><p>text</p></body></html>";
+        List<IElement> first = HtmlConverter.convertToElements(html, properties);
+        List<IElement> second = HtmlConverter.convertToElements(html, properties);
+        Assertions.assertEquals(1, cache.size());
+        Assertions.assertEquals(1, cache.getMissCount());
+        Assertions.assertEquals(1, cache.getHitCount());
+        Assertions.assertEquals(first.size(), second.size());
+    }
+
+    @Test
+    public void changedStyleBlockIsNotTakenFromCacheTest() {
+        LruCssStyleSheetCache cache = new LruCssStyleSheetCache();
+        ConverterProperties properties = new ConverterProperties().setCssStyleSheetCache(cache);
+        HtmlConverter.convertToElements("<html><head><style>p { color: red; }</style></head><body><p>text</p></body></html>",
+                properties);
+        HtmlConverter.convertToElements("<html><head><style>p { color: blue; }</style></head><body><p>text</p></body></html>",
+                properties);
+        Assertions.assertEquals(2, cache.size());
+        Assertions.assertEquals(0, cache.getHitCount());
+    }
+}
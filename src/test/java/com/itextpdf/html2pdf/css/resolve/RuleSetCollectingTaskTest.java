@@ -0,0 +1,158 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2025 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.html2pdf.css.resolve;
+
+import com.itextpdf.styledxmlparser.css.media.MediaDeviceDescription;
+import com.itextpdf.styledxmlparser.node.IDocumentNode;
+import com.itextpdf.styledxmlparser.node.IElementNode;
+import com.itextpdf.styledxmlparser.node.INode;
+import com.itextpdf.styledxmlparser.node.impl.jsoup.JsoupHtmlParser;
+import com.itextpdf.styledxmlparser.resolver.resource.ResourceResolver;
+import com.itextpdf.test.ExtendedITextTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+@Tag("UnitTest")
+public class RuleSetCollectingTaskTest extends ExtendedITextTest {
+
+    @Test
+    public void stylesResolvedAfterParallelMatchingTest() {
+        String html = createHtml();
+        IDocumentNode expectedDocument = new JsoupHtmlParser().parse(html);
+        resolveStyles(expectedDocument, createResolver(expectedDocument), new CssContext());
+
+        IDocumentNode actualDocument = new JsoupHtmlParser().parse(html);
+        DefaultCssResolver actualResolver = createResolver(actualDocument);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            actualResolver.collectRuleSetsInParallel(findHtml(actualDocument), pool);
+        } finally {
+            pool.shutdown();
+        }
+        resolveStyles(actualDocument, actualResolver, new CssContext());
+
+        List<IElementNode> expectedElements = collectElements(expectedDocument, new ArrayList<IElementNode>());
+        List<IElementNode> actualElements = collectElements(actualDocument, new ArrayList<IElementNode>());
+        Assertions.assertEquals(expectedElements.size(), actualElements.size());
+        for (int i = 0; i < expectedElements.size(); i++) {
+            Assertions.assertEquals(expectedElements.get(i).getStyles(), actualElements.get(i).getStyles(),
+                    expectedElements.get(i).name());
+        }
+    }
+
+    @Test
+    public void htmlStylesChangedAfterParallelMatchingTest() {
+        String html = "<html><body><table border='1' cellpadding='5'><tr><td>One</td><td>Two</td></tr></table>"
+                + "</body></html>";
+        IDocumentNode expectedDocument = new JsoupHtmlParser().parse(html);
+        addColumnStyles(expectedDocument);
+        resolveStyles(expectedDocument, createResolver(expectedDocument), new CssContext());
+
+        IDocumentNode actualDocument = new JsoupHtmlParser().parse(html);
+        DefaultCssResolver actualResolver = createResolver(actualDocument);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            actualResolver.collectRuleSetsInParallel(findHtml(actualDocument), pool);
+        } finally {
+            pool.shutdown();
+        }
+        // The column styles are set to the cells while the table is processed, after the parallel matching
+        addColumnStyles(actualDocument);
+        resolveStyles(actualDocument, actualResolver, new CssContext());
+
+        List<IElementNode> expectedElements = collectElements(expectedDocument, new ArrayList<IElementNode>());
+        List<IElementNode> actualElements = collectElements(actualDocument, new ArrayList<IElementNode>());
+        for (int i = 0; i < expectedElements.size(); i++) {
+            Assertions.assertEquals(expectedElements.get(i).getStyles(), actualElements.get(i).getStyles(),
+                    expectedElements.get(i).name());
+            if ("td".equals(actualElements.get(i).name())) {
+                Assertions.assertEquals("red", actualElements.get(i).getStyles().get("background-color"));
+            }
+        }
+    }
+
+    private static void addColumnStyles(IDocumentNode document) {
+        Map<String, String> columnStyles = new HashMap<>();
+        columnStyles.put("background-color", "red");
+        for (IElementNode element : collectElements(document, new ArrayList<IElementNode>())) {
+            if ("td".equals(element.name())) {
+                element.addAdditionalHtmlStyles(columnStyles);
+            }
+        }
+    }
+
+    private static String createHtml() {
+        StringBuilder html = new StringBuilder("<html><head><style>"
+                + "section { font-size: 12pt; } section > p { color: green; } p:nth-child(3n) { font-size: 1.5em; }"
+                + ".em span { font-style: italic; } #last { color: red; }"
+                + "</style></head><body>");
+        for (int i = 0; i < 4; i++) {
+            html.append("<section class='").append(i % 2 == 0 ? "em" : "plain").append("'>");
+            for (int j = 0; j < RuleSetCollectingTask.SUBTREE_SIZE_THRESHOLD; j++) {
+                html.append("<p>Paragraph <span>").append(j).append("</span></p>");
+            }
+            html.append("</section>");
+        }
+        html.append("<p id='last'>Last</p></body></html>");
+        return html.toString();
+    }
+
+    private static DefaultCssResolver createResolver(IDocumentNode document) {
+        return new DefaultCssResolver(document, MediaDeviceDescription.createDefault(), new ResourceResolver(""));
+    }
+
+    private static IElementNode findHtml(IDocumentNode document) {
+        for (INode child : document.childNodes()) {
+            if (child instanceof IElementNode && "html".equals(((IElementNode) child).name())) {
+                return (IElementNode) child;
+            }
+        }
+        return null;
+    }
+
+    private static void resolveStyles(INode node, DefaultCssResolver resolver, CssContext context) {
+        if (node instanceof IElementNode) {
+            ((IElementNode) node).setStyles(resolver.resolveStyles(node, context));
+        }
+        for (INode child : node.childNodes()) {
+            resolveStyles(child, resolver, context);
+        }
+    }
+
+    private static List<IElementNode> collectElements(INode node, List<IElementNode> elements) {
+        if (node instanceof IElementNode) {
+            elements.add((IElementNode) node);
+        }
+        for (INode child : node.childNodes()) {
+            collectElements(child, elements);
+        }
+        return elements;
+    }
+}
@@ -0,0 +1,95 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2025 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.html2pdf.css.resolve;
+
+import com.itextpdf.io.util.ResourceUtil;
+import com.itextpdf.styledxmlparser.IXmlParser;
+import com.itextpdf.styledxmlparser.css.CssDeclaration;
+import com.itextpdf.styledxmlparser.css.CssStyleSheet;
+import com.itextpdf.styledxmlparser.css.media.MediaDeviceDescription;
+import com.itextpdf.styledxmlparser.css.parse.CssStyleSheetParser;
+import com.itextpdf.styledxmlparser.node.IDocumentNode;
+import com.itextpdf.styledxmlparser.node.IElementNode;
+import com.itextpdf.styledxmlparser.node.INode;
+import com.itextpdf.styledxmlparser.node.impl.jsoup.JsoupHtmlParser;
+import com.itextpdf.test.ExtendedITextTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+
+@Tag("UnitTest")
+public class UserAgentCssTest extends ExtendedITextTest {
+
+    private static final String HTML = "<html><head><title>t</title></head><body>"
+            + "<div><p>text <b>bold</b> <a href='#x'>link</a> <a name='x'>anchor</a> <q>quote</q></p>"
+            + "<ul><li>one<ul><li>nested</li></ul></li></ul><ol><li>two</li></ol>"
+            + "<table><tr><th>h</th></tr><tr><td>cell</td></tr></table>"
+            + "<input type='text'/><input type='checkbox'/><input/><textarea></textarea>"
+            + "<img src='a.png'/><img align='left' src='b.png'/><h1>h1</h1><pre>pre</pre></div></body></html>";
+
+    @Test
+    public void stylesEqualToDefaultCssDeclarationsTest() throws IOException {
+        CssStyleSheet defaultCss = CssStyleSheetParser.parse(
+                ResourceUtil.getResourceStream("com/itextpdf/html2pdf/default.css"));
+        IXmlParser parser = new JsoupHtmlParser();
+        IDocumentNode document = parser.parse(HTML);
+        assertStylesEqual(document, defaultCss);
+    }
+
+    @Test
+    public void sameTagStylesAreSharedTest() {
+        IXmlParser parser = new JsoupHtmlParser();
+        IDocumentNode document = parser.parse("<html><body><div>first</div><div>second</div></body></html>");
+        IElementNode body = (IElementNode) document.childNodes().get(0).childNodes().get(1);
+        List<CssDeclaration> first = UserAgentCss.getStyles(body.childNodes().get(0));
+        List<CssDeclaration> second = UserAgentCss.getStyles(body.childNodes().get(1));
+        Assertions.assertFalse(first.isEmpty());
+        Assertions.assertSame(first, second);
+    }
+
+    @Test
+    public void unknownTagsShareEmptyStylesTest() {
+        IXmlParser parser = new JsoupHtmlParser();
+        IDocumentNode document = parser.parse(
+                "<html><body><custom-first>first</custom-first><custom-second>second</custom-second></body></html>");
+        IElementNode body = (IElementNode) document.childNodes().get(0).childNodes().get(1);
+        List<CssDeclaration> first = UserAgentCss.getStyles(body.childNodes().get(0));
+        List<CssDeclaration> second = UserAgentCss.getStyles(body.childNodes().get(1));
+        Assertions.assertTrue(first.isEmpty());
+        Assertions.assertSame(first, second);
+    }
+
+    private static void assertStylesEqual(INode node, CssStyleSheet defaultCss) {
+        if (node instanceof IElementNode) {
+            List<CssDeclaration> expected = defaultCss.getCssDeclarations(node, MediaDeviceDescription.createDefault());
+            Assertions.assertEquals(expected.toString(), UserAgentCss.getStyles(node).toString(),
+                    ((IElementNode) node).name());
+        }
+        for (INode child : node.childNodes()) {
+            assertStylesEqual(child, defaultCss);
+        }
+    }
+}
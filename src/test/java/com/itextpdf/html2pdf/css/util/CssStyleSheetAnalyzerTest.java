@@ -69,4 +69,22 @@ public class CssStyleSheetAnalyzerTest extends ExtendedITextTest {
         Assertions.assertFalse(CssStyleSheetAnalyzer.checkPagesCounterPresence(styleSheet));
     }
 
+    @Test
+    public void pageTargetCounterTest() {
+        CssStyleSheet styleSheet = CssStyleSheetParser.parse(
+                "@media print { a::after { content: target-counter(attr(href), page) } }");
+        Assertions.assertTrue(CssStyleSheetAnalyzer.checkPageTargetCounterPresence(styleSheet));
+        Assertions.assertTrue(CssStyleSheetAnalyzer.checkPagesCounterPresence(styleSheet));
+        Assertions.assertFalse(CssStyleSheetAnalyzer.checkNonPagesTargetCounterPresence(styleSheet));
+    }
+
+    @Test
+    public void nonPagesTargetCountersTest() {
+        CssStyleSheet styleSheet = CssStyleSheetParser.parse(
+                "a::after { content: 'Item ' target-counters(attr(href), item, '.') }");
+        Assertions.assertFalse(CssStyleSheetAnalyzer.checkPageTargetCounterPresence(styleSheet));
+        Assertions.assertFalse(CssStyleSheetAnalyzer.checkPagesCounterPresence(styleSheet));
+        Assertions.assertTrue(CssStyleSheetAnalyzer.checkNonPagesTargetCounterPresence(styleSheet));
+    }
+
 }
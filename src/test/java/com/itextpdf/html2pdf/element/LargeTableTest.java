@@ -0,0 +1,165 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2025 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.html2pdf.element;
+
+import com.itextpdf.html2pdf.ConverterProperties;
+import com.itextpdf.html2pdf.HtmlConverter;
+import com.itextpdf.html2pdf.attach.ITagWorker;
+import com.itextpdf.html2pdf.attach.ProcessorContext;
+import com.itextpdf.html2pdf.attach.impl.DefaultTagWorkerFactory;
+import com.itextpdf.html2pdf.attach.impl.tags.BodyTagWorker;
+import com.itextpdf.html2pdf.html.TagConstants;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfReader;
+import com.itextpdf.kernel.pdf.canvas.parser.PdfTextExtractor;
+import com.itextpdf.layout.element.Table;
+import com.itextpdf.styledxmlparser.node.IElementNode;
+import com.itextpdf.test.ExtendedITextTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+@Tag("IntegrationTest")
+public class LargeTableTest extends ExtendedITextTest {
+
+    @Test
+    public void largeTableContentIsTheSameTest() throws IOException {
+        String html = "<html><body><p>before</p>" + createTable(300) + "<p>after</p></body></html>";
+        assertSameText(html);
+    }
+
+    @Test
+    public void largeTableWithHeaderAndFooterTest() throws IOException {
+        String html = "<html><body><table style='border: 1px solid black'>"
+                + "<colgroup><col style='width: 100pt'/><col/></colgroup>"
+                + "<thead><tr><th>Id</th><th>Name</th></tr></thead>"
+                + "<tfoot><tr><td colspan='2'>footer</td></tr></tfoot>"
+                + createRows(200) + "</table></body></html>";
+        assertSameText(html);
+    }
+
+    @Test
+    public void nestedTableIsNotLargeTableTest() throws IOException {
+        String html = "<html><body><div>" + createTable(150) + "</div></body></html>";
+        assertSameText(html);
+    }
+
+    @Test
+    public void tableWithLessRowsThanBatchSizeTest() throws IOException {
+        String html = "<html><body>" + createTable(5) + "</body></html>";
+        assertSameText(html);
+    }
+
+    @Test
+    public void trailingFooterIsNotLostTest() throws IOException {
+        String html = "<html><body><table>" + createRows(100)
+                + "<tfoot><tr><td colspan='2'>trailing footer</td></tr></tfoot></table></body></html>";
+        byte[] actual = convert(html, new ConverterProperties().setLargeTableBatchSize(20));
+        try (PdfDocument actualDocument = new PdfDocument(new PdfReader(new ByteArrayInputStream(actual)))) {
+            String lastPageText = PdfTextExtractor.getTextFromPage(
+                    actualDocument.getPage(actualDocument.getNumberOfPages()));
+            Assertions.assertTrue(lastPageText.contains("row 99"));
+            Assertions.assertTrue(lastPageText.contains("trailing footer"));
+        }
+    }
+
+    @Test
+    public void rowspanCrossingBatchBoundaryTest() throws IOException {
+        String html = "<html><body><table style='border-collapse: collapse'>" + createRows(19)
+                + "<tr><td rowspan='3'>spanned</td><td>row a</td></tr><tr><td>row b</td></tr><tr><td>row c</td></tr>"
+                + createRows(50) + "</table></body></html>";
+        assertSameText(html);
+    }
+
+    @Test
+    public void largeTableRejectedByParentTest() throws IOException {
+        String html = "<html><body>" + createTable(100) + "</body></html>";
+        ConverterProperties properties = new ConverterProperties().setLargeTableBatchSize(20)
+                .setTagWorkerFactory(new IncompleteTableRejectingTagWorkerFactory());
+        assertSameText(html, properties);
+    }
+
+    private static void assertSameText(String html) throws IOException {
+        assertSameText(html, new ConverterProperties().setLargeTableBatchSize(20));
+    }
+
+    private static void assertSameText(String html, ConverterProperties largeTableProperties) throws IOException {
+        byte[] expected = convert(html, new ConverterProperties());
+        byte[] actual = convert(html, largeTableProperties);
+        try (PdfDocument expectedDocument = new PdfDocument(new PdfReader(new ByteArrayInputStream(expected)));
+                PdfDocument actualDocument = new PdfDocument(new PdfReader(new ByteArrayInputStream(actual)))) {
+            Assertions.assertEquals(expectedDocument.getNumberOfPages(), actualDocument.getNumberOfPages());
+            for (int i = 1; i <= expectedDocument.getNumberOfPages(); i++) {
+                Assertions.assertEquals(PdfTextExtractor.getTextFromPage(expectedDocument.getPage(i)),
+                        PdfTextExtractor.getTextFromPage(actualDocument.getPage(i)), "page " + i);
+            }
+        }
+    }
+
+    private static byte[] convert(String html, ConverterProperties properties) {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        HtmlConverter.convertToPdf(html, baos, properties);
+        return baos.toByteArray();
+    }
+
+    private static String createTable(int rowsCount) {
+        return "<table style='width: 100%; border-collapse: collapse'>" + createRows(rowsCount) + "</table>";
+    }
+
+    private static String createRows(int rowsCount) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < rowsCount; i++) {
+            sb.append("<tr><td>").append(i).append("</td><td>row ").append(i).append("</td></tr>");
+        }
+        return sb.toString();
+    }
+
+    private static class IncompleteTableRejectingTagWorkerFactory extends DefaultTagWorkerFactory {
+        @Override
+        public ITagWorker getCustomTagWorker(IElementNode tag, ProcessorContext context) {
+            if (TagConstants.BODY.equals(tag.name())) {
+                return new IncompleteTableRejectingBodyTagWorker(tag, context);
+            }
+            return null;
+        }
+    }
+
+    private static class IncompleteTableRejectingBodyTagWorker extends BodyTagWorker {
+        IncompleteTableRejectingBodyTagWorker(IElementNode element, ProcessorContext context) {
+            super(element, context);
+        }
+
+        @Override
+        public boolean processTagChild(ITagWorker childTagWorker, ProcessorContext context) {
+            if (childTagWorker.getElementResult() instanceof Table
+                    && !((Table) childTagWorker.getElementResult()).isComplete()) {
+                return false;
+            }
+            return super.processTagChild(childTagWorker, context);
+        }
+    }
+}
@@ -24,6 +24,10 @@ package com.itextpdf.html2pdf.element;
 
 import com.itextpdf.html2pdf.ConverterProperties;
 import com.itextpdf.html2pdf.HtmlConverter;
+import com.itextpdf.html2pdf.css.CssConstants;
+import com.itextpdf.html2pdf.css.apply.ICssApplier;
+import com.itextpdf.html2pdf.css.apply.impl.DefaultCssApplierFactory;
+import com.itextpdf.html2pdf.html.TagConstants;
 import com.itextpdf.html2pdf.logs.Html2PdfLogMessageConstant;
 import com.itextpdf.io.logs.IoLogMessageConstant;
 import com.itextpdf.io.util.UrlUtil;
@@ -37,6 +41,7 @@ import com.itextpdf.layout.element.IBlockElement;
 import com.itextpdf.layout.element.IElement;
 import com.itextpdf.layout.element.Table;
 import com.itextpdf.layout.logs.LayoutLogMessageConstant;
+import com.itextpdf.styledxmlparser.node.IElementNode;
 import com.itextpdf.test.ExtendedITextTest;
 import com.itextpdf.test.annotations.LogMessage;
 import com.itextpdf.test.annotations.LogMessages;
@@ -47,9 +52,11 @@ import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Tag;
 
+import java.io.ByteArrayOutputStream;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 
 @Tag("IntegrationTest")
@@ -646,6 +653,19 @@ public class TableTest extends ExtendedITextTest {
         runTest("breakRendererTreeOnSplitup");
     }
 
+    @Test
+    public void colStylesWithTargetCounterTest() {
+        String html = "<html><head><style>a::after { content: target-counter(attr(href), item); }</style></head>"
+                + "<body><a href='#cell'>Cell </a><table><colgroup><col style='background-color: red'/>"
+                + "</colgroup><tr><td id='cell'>Cell</td></tr></table></body></html>";
+        CellStylesCollectingCssApplierFactory cssApplierFactory = new CellStylesCollectingCssApplierFactory();
+        HtmlConverter.convertToPdf(html, new ByteArrayOutputStream(),
+                new ConverterProperties().setCssApplierFactory(cssApplierFactory));
+
+        Assertions.assertEquals(1, cssApplierFactory.cellBackgrounds.size());
+        Assertions.assertEquals("red", cssApplierFactory.cellBackgrounds.get(0));
+    }
+
     private void runTest(String testName) throws IOException, InterruptedException {
         runTest(testName, false);
     }
@@ -687,4 +707,16 @@ public class TableTest extends ExtendedITextTest {
 
     }
 
+    private static class CellStylesCollectingCssApplierFactory extends DefaultCssApplierFactory {
+        private final List<String> cellBackgrounds = new ArrayList<>();
+
+        @Override
+        public ICssApplier getCustomCssApplier(IElementNode tag) {
+            if (TagConstants.TD.equals(tag.name())) {
+                cellBackgrounds.add(tag.getStyles().get(CssConstants.BACKGROUND_COLOR));
+            }
+            return null;
+        }
+    }
+
 }
@@ -0,0 +1,79 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2025 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.html2pdf.html;
+
+import com.itextpdf.styledxmlparser.node.IDocumentNode;
+import com.itextpdf.styledxmlparser.node.IElementNode;
+import com.itextpdf.styledxmlparser.node.impl.jsoup.JsoupHtmlParser;
+import com.itextpdf.test.ExtendedITextTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+@Tag("UnitTest")
+public class DocumentIndexTest extends ExtendedITextTest {
+
+    @Test
+    public void indexDocumentTest() {
+        IDocumentNode document = new JsoupHtmlParser().parse("<html><head>"
+                + "<link rel='stylesheet' href='first.css'><link rel='icon' href='icon.png'></head>"
+                + "<body><div><style>p { color: red; }</style></div><style>p { color: blue; }</style>"
+                + "<a href='#target'>link</a><a href='other.html#anchor'>external</a>"
+                + "<p id='target'>target</p><p id='other'>other</p></body></html>");
+
+        DocumentIndex index = new DocumentIndex(document);
+
+        Assertions.assertEquals(TagConstants.HTML, index.getHtmlNode().name());
+        Assertions.assertEquals(TagConstants.BODY, index.getBodyNode().name());
+        Assertions.assertEquals(Collections.singleton("target"), index.getLinkDestinations());
+        Assertions.assertEquals(new HashSet<>(Arrays.asList("target", "other")), index.getIds());
+
+        // The style sheets are in breadth-first order: the style of the body precedes the one of the nested div
+        List<IElementNode> styleSheetNodes = index.getStyleSheetNodes();
+        Assertions.assertEquals(3, styleSheetNodes.size());
+        Assertions.assertEquals(TagConstants.LINK, styleSheetNodes.get(0).name());
+        Assertions.assertEquals(TagConstants.STYLE, styleSheetNodes.get(1).name());
+        Assertions.assertEquals(index.getBodyNode(), styleSheetNodes.get(1).parentNode());
+        Assertions.assertEquals(TagConstants.DIV, ((IElementNode) styleSheetNodes.get(2).parentNode()).name());
+    }
+
+    @Test
+    public void indexSubtreeTest() {
+        IDocumentNode document = new JsoupHtmlParser().parse("<html><body><div id='root'>"
+                + "<a href='#inside'>inside</a></div><a href='#outside'>outside</a></body></html>");
+        IElementNode div = (IElementNode) document.childNodes().get(0).childNodes().get(1).childNodes().get(0);
+
+        DocumentIndex index = new DocumentIndex(div);
+
+        Assertions.assertNull(index.getHtmlNode());
+        Assertions.assertNull(index.getBodyNode());
+        Assertions.assertTrue(index.getStyleSheetNodes().isEmpty());
+        Assertions.assertEquals(Collections.singleton("inside"), index.getLinkDestinations());
+        Assertions.assertEquals(Collections.singleton("root"), index.getIds());
+    }
+}
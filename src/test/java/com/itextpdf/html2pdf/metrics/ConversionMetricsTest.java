@@ -0,0 +1,135 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2025 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.html2pdf.metrics;
+
+import com.itextpdf.html2pdf.CompiledHtmlTemplate;
+import com.itextpdf.html2pdf.ConverterProperties;
+import com.itextpdf.html2pdf.HtmlConverter;
+import com.itextpdf.html2pdf.attach.ProcessorContext;
+import com.itextpdf.html2pdf.css.resolve.LruCssStyleSheetCache;
+import com.itextpdf.test.ExtendedITextTest;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("IntegrationTest")
+public class ConversionMetricsTest extends ExtendedITextTest {
+
+    private static final String HTML = "<html><head><style>"
+            + "@page { @bottom-right { content: counter(page) ' of ' counter(pages); } }"
+            + "p::before { content: '- '; }"
+            + "</style></head><body><p>First</p><p>Second</p></body></html>";
+
+    @Test
+    public void phasesAreReportedTest() {
+        RecordingListener listener = new RecordingListener();
+        HtmlConverter.convertToPdf(HTML, new ByteArrayOutputStream(),
+                new ConverterProperties().setConversionMetricsListener(listener));
+
+        Assertions.assertEquals(ConversionPhase.PARSING, listener.phases.get(0));
+        Assertions.assertTrue(listener.phases.contains(ConversionPhase.CSS_COLLECTING));
+        Assertions.assertTrue(listener.phases.contains(ConversionPhase.FONT_FACE_LOADING));
+        Assertions.assertTrue(listener.phases.contains(ConversionPhase.TRAVERSAL));
+        Assertions.assertTrue(listener.phases.contains(ConversionPhase.RELAYOUT));
+        Assertions.assertEquals(ConversionPhase.CLOSING, listener.phases.get(listener.phases.size() - 1));
+        Assertions.assertFalse(listener.phases.contains(ConversionPhase.STYLE_RESOLVING));
+
+        Assertions.assertEquals(1, listener.metrics.size());
+        ConversionMetrics metrics = listener.metrics.get(0);
+        Assertions.assertTrue(metrics.getElementCount() > 0);
+        Assertions.assertTrue(metrics.getRelayoutCount() > 0);
+        Assertions.assertTrue(metrics.getPhaseDurationNanos(ConversionPhase.TRAVERSAL) > 0);
+        Assertions.assertTrue(metrics.getPhaseDurationNanos(ConversionPhase.STYLE_RESOLVING) > 0);
+        Assertions.assertEquals(-1, metrics.getPhaseAllocatedBytes(ConversionPhase.STYLE_RESOLVING));
+        Assertions.assertEquals(0, metrics.getPhaseDurationNanos(ConversionPhase.TARGET_COUNTERS_PROCESSING));
+    }
+
+    @Test
+    public void elementsConversionIsReportedTest() {
+        RecordingListener listener = new RecordingListener();
+        HtmlConverter.convertToElements("<p>Text</p>", new ConverterProperties().setConversionMetricsListener(listener));
+
+        Assertions.assertEquals(1, listener.metrics.size());
+        Assertions.assertFalse(listener.phases.contains(ConversionPhase.CLOSING));
+        Assertions.assertTrue(listener.metrics.get(0).getElementCount() > 0);
+    }
+
+    @Test
+    public void cacheHitsAreCountedTest() {
+        RecordingListener listener = new RecordingListener();
+        ConverterProperties properties = new ConverterProperties()
+                .setCssStyleSheetCache(new LruCssStyleSheetCache())
+                .setConversionMetricsListener(listener);
+        HtmlConverter.convertToPdf(HTML, new ByteArrayOutputStream(), properties);
+        HtmlConverter.convertToPdf(HTML, new ByteArrayOutputStream(), properties);
+
+        Assertions.assertEquals(2, listener.metrics.size());
+        Assertions.assertEquals(1, listener.metrics.get(0).getCacheMisses(ConversionCache.CSS_STYLE_SHEET));
+        Assertions.assertEquals(0, listener.metrics.get(0).getCacheHits(ConversionCache.CSS_STYLE_SHEET));
+        Assertions.assertEquals(1, listener.metrics.get(1).getCacheHits(ConversionCache.CSS_STYLE_SHEET));
+        Assertions.assertEquals(1.0, listener.metrics.get(1).getCacheHitRate(ConversionCache.CSS_STYLE_SHEET), 0.0);
+        Assertions.assertEquals(0.0, listener.metrics.get(1).getCacheHitRate(ConversionCache.IMAGE_DATA), 0.0);
+    }
+
+    @Test
+    public void compiledTemplateConversionIsReportedTest() {
+        RecordingListener listener = new RecordingListener();
+        CompiledHtmlTemplate template = CompiledHtmlTemplate.compile(HTML,
+                new ConverterProperties().setConversionMetricsListener(listener));
+        template.convertToPdf(HTML, new ByteArrayOutputStream());
+
+        Assertions.assertEquals(ConversionPhase.PARSING, listener.phases.get(0));
+        Assertions.assertEquals(ConversionPhase.CLOSING, listener.phases.get(listener.phases.size() - 1));
+        Assertions.assertEquals(1, listener.metrics.size());
+        ConversionMetrics metrics = listener.metrics.get(0);
+        Assertions.assertTrue(metrics.getCacheHits(ConversionCache.STYLE_SHARING)
+                + metrics.getCacheMisses(ConversionCache.STYLE_SHARING) > 0);
+    }
+
+    @Test
+    public void metricsAreNotCollectedWithoutListenerTest() {
+        ProcessorContext context = new ProcessorContext(new ConverterProperties());
+        context.reset();
+        Assertions.assertNull(context.getMetricsCollector());
+    }
+
+    private static class RecordingListener implements IConversionMetricsListener {
+        private final List<ConversionPhase> phases = new ArrayList<>();
+
+        private final List<ConversionMetrics> metrics = new ArrayList<>();
+
+        @Override
+        public void onPhaseFinished(ConversionPhase phase, long durationNanos, long allocatedBytes) {
+            phases.add(phase);
+        }
+
+        @Override
+        public void onConversionFinished(ConversionMetrics metrics) {
+            this.metrics.add(metrics);
+        }
+    }
+}
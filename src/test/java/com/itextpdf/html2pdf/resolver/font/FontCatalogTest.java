@@ -0,0 +1,78 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2025 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.html2pdf.resolver.font;
+
+import com.itextpdf.html2pdf.ConverterProperties;
+import com.itextpdf.html2pdf.attach.ProcessorContext;
+import com.itextpdf.layout.font.FontProvider;
+import com.itextpdf.test.ExtendedITextTest;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("UnitTest")
+public class FontCatalogTest extends ExtendedITextTest {
+
+    @Test
+    public void defaultCatalogIsSharedTest() {
+        Assertions.assertSame(FontCatalog.getDefault(), FontCatalog.getDefault());
+        Assertions.assertSame(FontCatalog.getDefaultForPdfA(), FontCatalog.getDefaultForPdfA());
+        Assertions.assertNotSame(FontCatalog.getDefault(), FontCatalog.getDefaultForPdfA());
+    }
+
+    @Test
+    public void fontProvidersShareFontSetTest() {
+        FontCatalog catalog = FontCatalog.getDefault();
+        FontProvider first = catalog.createFontProvider();
+        FontProvider second = catalog.createFontProvider();
+
+        Assertions.assertNotSame(first, second);
+        Assertions.assertSame(catalog.getFontSet(), first.getFontSet());
+        Assertions.assertSame(catalog.getFontSet(), second.getFontSet());
+        Assertions.assertEquals(catalog.getDefaultFontFamily(), first.getDefaultFontFamily());
+    }
+
+    @Test
+    public void pdfACatalogHasNoStandardFontsTest() {
+        Assertions.assertFalse(FontCatalog.getDefaultForPdfA().getFontSet().isEmpty());
+        Assertions.assertTrue(FontCatalog.getDefault().getFontSet().size()
+                > FontCatalog.getDefaultForPdfA().getFontSet().size());
+    }
+
+    @Test
+    public void processorContextUsesCatalogTest() {
+        FontCatalog catalog = FontCatalog.create(new StandardFontsProvider());
+        ProcessorContext context = new ProcessorContext(new ConverterProperties().setFontCatalog(catalog));
+        Assertions.assertSame(catalog.getFontSet(), context.getFontProvider().getFontSet());
+
+        ProcessorContext defaultContext = new ProcessorContext(new ConverterProperties());
+        Assertions.assertSame(FontCatalog.getDefault().getFontSet(), defaultContext.getFontProvider().getFontSet());
+    }
+
+    private static class StandardFontsProvider extends FontProvider {
+        StandardFontsProvider() {
+            addStandardPdfFonts();
+        }
+    }
+}
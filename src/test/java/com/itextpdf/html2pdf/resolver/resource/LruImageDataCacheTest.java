@@ -0,0 +1,99 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2025 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.html2pdf.resolver.resource;
+
+import com.itextpdf.html2pdf.ConverterProperties;
+import com.itextpdf.html2pdf.HtmlConverter;
+import com.itextpdf.io.image.ImageData;
+import com.itextpdf.io.image.ImageDataFactory;
+import com.itextpdf.test.ExtendedITextTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("UnitTest")
+public class LruImageDataCacheTest extends ExtendedITextTest {
+
+    private static final String PNG_DATA_URI = "data:image/png;base64,"
+            + "iVBORw0KGgoAAAANSUhEUgAAAAEAAAABCAYAAAAfFcSJAAAADUlEQVR42mNkYPhfDwAChwGA60e6kgAAAABJRU5ErkJggg==";
+
+    @Test
+    public void hitAndMissCountTest() {
+        LruImageDataCache cache = new LruImageDataCache();
+        ImageData imageData = createImageData(10);
+        Assertions.assertNull(cache.get("file:///a.png"));
+        cache.put("file:///a.png", imageData);
+        Assertions.assertSame(imageData, cache.get("file:///a.png"));
+        Assertions.assertEquals(1, cache.getHitCount());
+        Assertions.assertEquals(1, cache.getMissCount());
+        Assertions.assertEquals(10, cache.getSizeInBytes());
+    }
+
+    @Test
+    public void leastRecentlyUsedIsEvictedBySizeTest() {
+        LruImageDataCache cache = new LruImageDataCache(25);
+        ImageData first = createImageData(10);
+        cache.put("first", first);
+        cache.put("second", createImageData(10));
+        Assertions.assertSame(first, cache.get("first"));
+        cache.put("third", createImageData(10));
+        Assertions.assertEquals(2, cache.size());
+        Assertions.assertEquals(20, cache.getSizeInBytes());
+        Assertions.assertEquals(1, cache.getEvictionCount());
+        Assertions.assertNull(cache.get("second"));
+        Assertions.assertSame(first, cache.get("first"));
+    }
+
+    @Test
+    public void tooLargeImageIsNotCachedTest() {
+        LruImageDataCache cache = new LruImageDataCache(5);
+        cache.put("large", createImageData(10));
+        Assertions.assertEquals(0, cache.size());
+        Assertions.assertEquals(0, cache.getSizeInBytes());
+    }
+
+    @Test
+    public void replacedImageSizeIsUpdatedTest() {
+        LruImageDataCache cache = new LruImageDataCache();
+        cache.put("image", createImageData(10));
+        cache.put("image", createImageData(4));
+        Assertions.assertEquals(1, cache.size());
+        Assertions.assertEquals(4, cache.getSizeInBytes());
+    }
+
+    @Test
+    public void dataUriImageIsDecodedOnceAcrossConversionsTest() {
+        LruImageDataCache cache = new LruImageDataCache();
+        ConverterProperties properties = new ConverterProperties().setImageDataCache(cache);
+        String html = "<html><body><img src='" + PNG_DATA_URI + "'/></body></html>";
+        HtmlConverter.convertToElements(html, properties);
+        HtmlConverter.convertToElements(html, properties);
+        Assertions.assertEquals(1, cache.size());
+        Assertions.assertEquals(1, cache.getMissCount());
+        Assertions.assertEquals(1, cache.getHitCount());
+    }
+
+    private static ImageData createImageData(int size) {
+        return ImageDataFactory.create(size, 1, 1, 8, new byte[size], null);
+    }
+}
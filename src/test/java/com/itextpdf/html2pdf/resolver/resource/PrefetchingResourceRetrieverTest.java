@@ -0,0 +1,185 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2025 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.html2pdf.resolver.resource;
+
+import com.itextpdf.html2pdf.ConverterProperties;
+import com.itextpdf.html2pdf.attach.ProcessorContext;
+import com.itextpdf.styledxmlparser.css.CssStyleSheet;
+import com.itextpdf.styledxmlparser.css.media.MediaDeviceDescription;
+import com.itextpdf.styledxmlparser.css.parse.CssStyleSheetParser;
+import com.itextpdf.styledxmlparser.node.IDocumentNode;
+import com.itextpdf.styledxmlparser.node.impl.jsoup.JsoupHtmlParser;
+import com.itextpdf.styledxmlparser.resolver.resource.IResourceRetriever;
+import com.itextpdf.test.ExtendedITextTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Tag("UnitTest")
+public class PrefetchingResourceRetrieverTest extends ExtendedITextTest {
+
+    private static final String HTML = "<html><head><link rel='stylesheet' href='style.css'/></head><body>"
+            + "<img src='image.png'/><object type='image/svg+xml' data='drawing.svg'></object>"
+            + "<div style='background-image: url(\"background.png\")'></div>"
+            + "<img src='data:image/png;base64,AAAA'/><svg><image href='inline.png'/></svg></body></html>";
+
+    @Test
+    public void documentResourcesFetchedConcurrentlyTest() throws IOException, InterruptedException {
+        StandInRetriever retriever = new StandInRetriever(4);
+        HtmlResourceResolver resolver = createResolver(retriever, 4);
+        resolver.prefetchResources(new JsoupHtmlParser().parse(HTML));
+
+        // Every stand-in request waits for the other ones, so they only complete if they are fetched in parallel
+        Assertions.assertTrue(retriever.allRequested.await(5, TimeUnit.SECONDS));
+        Assertions.assertArrayEquals(retriever.getContent("image.png"), resolver.retrieveBytesFromResource("image.png"));
+        try (InputStream stream = resolver.retrieveResourceAsInputStream("style.css")) {
+            Assertions.assertNotNull(stream);
+        }
+        Assertions.assertEquals(4, retriever.requests.size());
+        for (AtomicInteger count : retriever.requests.values()) {
+            Assertions.assertEquals(1, count.get());
+        }
+    }
+
+    @Test
+    public void failedPrefetchFetchedOnUseTest() throws IOException, InterruptedException {
+        StandInRetriever retriever = new StandInRetriever(1);
+        retriever.failFirstRequest = true;
+        HtmlResourceResolver resolver = createResolver(retriever, 2);
+        resolver.prefetchResources(new JsoupHtmlParser().parse("<html><body><img src='image.png'/></body></html>"));
+
+        Assertions.assertTrue(retriever.allRequested.await(5, TimeUnit.SECONDS));
+        Assertions.assertArrayEquals(retriever.getContent("image.png"), resolver.retrieveBytesFromResource("image.png"));
+        Assertions.assertEquals(2, retriever.requests.values().iterator().next().get());
+    }
+
+    @Test
+    public void prefetchedResourceKeptForConversionTest() throws IOException, InterruptedException {
+        StandInRetriever retriever = new StandInRetriever(1);
+        HtmlResourceResolver resolver = createResolver(retriever, 2);
+        resolver.prefetchResources(new JsoupHtmlParser().parse("<html><body><img src='image.png'/></body></html>"));
+
+        Assertions.assertTrue(retriever.allRequested.await(5, TimeUnit.SECONDS));
+        resolver.finishPrefetching();
+        // The resource is handed out on every use after the prefetching threads are stopped
+        Assertions.assertArrayEquals(retriever.getContent("image.png"), resolver.retrieveBytesFromResource("image.png"));
+        Assertions.assertArrayEquals(retriever.getContent("image.png"), resolver.retrieveBytesFromResource("image.png"));
+        Assertions.assertEquals(1, retriever.requests.values().iterator().next().get());
+    }
+
+    @Test
+    public void prefetchingRestartedAfterFinishTest() throws IOException, InterruptedException {
+        StandInRetriever retriever = new StandInRetriever(1);
+        HtmlResourceResolver resolver = createResolver(retriever, 2);
+        resolver.finishPrefetching();
+        resolver.prefetchResources(new JsoupHtmlParser().parse("<html><body><img src='image.png'/></body></html>"));
+
+        Assertions.assertTrue(retriever.allRequested.await(5, TimeUnit.SECONDS));
+        Assertions.assertArrayEquals(retriever.getContent("image.png"), resolver.retrieveBytesFromResource("image.png"));
+        Assertions.assertEquals(1, retriever.requests.values().iterator().next().get());
+    }
+
+    @Test
+    public void noPrefetchingByDefaultTest() throws IOException {
+        StandInRetriever retriever = new StandInRetriever(0);
+        HtmlResourceResolver resolver = createResolver(retriever, 0);
+        resolver.prefetchResources(new JsoupHtmlParser().parse(HTML));
+
+        Assertions.assertTrue(retriever.requests.isEmpty());
+        Assertions.assertArrayEquals(retriever.getContent("image.png"), resolver.retrieveBytesFromResource("image.png"));
+    }
+
+    @Test
+    public void documentReferencesTest() {
+        IDocumentNode document = new JsoupHtmlParser().parse(HTML);
+        Assertions.assertEquals(Arrays.asList("style.css", "image.png", "drawing.svg", "background.png"),
+                Arrays.asList(ResourceReferenceCollector.collectReferences(document).toArray()));
+    }
+
+    @Test
+    public void styleSheetReferencesTest() {
+        CssStyleSheet styleSheet = CssStyleSheetParser.parse(
+                "@font-face { font-family: f; src: url('font.woff') format('woff'), url(font.ttf); }"
+                        + "div { background: url(\"bg.png\") no-repeat; color: red; }"
+                        + "@media (min-width: 100000px) { p { background-image: url(narrow.png); } }"
+                        + "li { list-style-image: url(data:image/png;base64,AAAA); }");
+        Assertions.assertEquals(Arrays.asList("font.woff", "font.ttf", "bg.png"), Arrays.asList(
+                ResourceReferenceCollector.collectReferences(styleSheet, MediaDeviceDescription.createDefault())
+                        .toArray()));
+    }
+
+    private static HtmlResourceResolver createResolver(IResourceRetriever retriever, int parallelism) {
+        ProcessorContext context = new ProcessorContext(new ConverterProperties()
+                .setResourcePrefetchParallelism(parallelism));
+        return new HtmlResourceResolver("http://localhost/", context, retriever);
+    }
+
+    private static final class StandInRetriever implements IResourceRetriever {
+        private final Map<String, AtomicInteger> requests = new ConcurrentHashMap<>();
+        private final CountDownLatch allRequested;
+        private volatile boolean failFirstRequest;
+
+        StandInRetriever(int expectedRequests) {
+            this.allRequested = new CountDownLatch(expectedRequests);
+        }
+
+        byte[] getContent(String uri) {
+            return uri.getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public InputStream getInputStreamByUrl(URL url) throws IOException {
+            return new ByteArrayInputStream(getByteArrayByUrl(url));
+        }
+
+        @Override
+        public byte[] getByteArrayByUrl(URL url) throws IOException {
+            String uri = url.getPath().substring(1);
+            requests.putIfAbsent(uri, new AtomicInteger());
+            int count = requests.get(uri).incrementAndGet();
+            allRequested.countDown();
+            try {
+                allRequested.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                throw new InterruptedIOException();
+            }
+            if (failFirstRequest && count == 1) {
+                throw new IOException("stand-in failure");
+            }
+            return getContent(uri);
+        }
+    }
+}